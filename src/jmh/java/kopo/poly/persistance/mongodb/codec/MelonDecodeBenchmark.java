@@ -0,0 +1,107 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MelonDTO;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멜론 차트 조회 결과 변환 단계의 메모리 할당량 비교(MongoDB에서 받은 BSON -> 결과 리스트)
+ * <p>
+ * - before : 요청마다 projection Document 생성 + LinkedList + DTO 변환
+ * - after : projection 상수 + 크기를 잡아둔 ArrayList + DTO 변환
+ * - raw : 크기를 잡아둔 ArrayList + RawBsonDocument(노래 제목만 읽기, 나머지 필드는 변환하지 않음)
+ * <p>
+ * 실행 : ./gradlew jmh -PjmhIncludes=MelonDecodeBenchmark -PjmhProfilers=gc
+ * 결과의 gc.alloc.rate.norm(B/op)을 size로 나누면 노래 1곡당 할당량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MelonDecodeBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final MelonDTOCodec codec = new MelonDTOCodec();
+
+    private final DecoderContext decoderContext = DecoderContext.builder().build();
+
+    // MongoDB에서 받은 문서(BSON byte)
+    private List<byte[]> docs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<MelonDTO> pList = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            pList.add(MelonDTO.builder()
+                    .song("노래 제목 " + i)
+                    .singer("가수 " + (i % 50))
+                    .build());
+        }
+
+        docs = MelonDocumentEncoder.encodeAll(pList, codec, Integer.MAX_VALUE).stream()
+                .map(doc -> {
+                    ByteBuffer buf = doc.getByteBuffer().asNIO();
+                    byte[] bytes = new byte[buf.remaining()];
+                    buf.get(bytes);
+                    return bytes;
+                })
+                .toList();
+    }
+
+    private MelonDTO decode(byte[] doc) {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(doc)), decoderContext);
+    }
+
+    @Benchmark
+    public List<MelonDTO> before(Blackhole bh) {
+        Document projection = new Document();
+        projection.append("song", "$song");
+        projection.append("singer", "$singer");
+        projection.append("_id", 0);
+        bh.consume(projection);
+
+        List<MelonDTO> rList = new LinkedList<>();
+
+        for (byte[] doc : docs) {
+            rList.add(this.decode(doc));
+        }
+
+        return rList;
+    }
+
+    @Benchmark
+    public List<MelonDTO> after() {
+        List<MelonDTO> rList = new ArrayList<>(size);
+
+        for (byte[] doc : docs) {
+            rList.add(this.decode(doc));
+        }
+
+        return rList;
+    }
+
+    @Benchmark
+    public void raw(Blackhole bh) {
+        List<RawBsonDocument> rList = new ArrayList<>(size);
+
+        for (byte[] doc : docs) {
+            rList.add(new RawBsonDocument(doc));
+        }
+
+        for (RawBsonDocument doc : rList) {
+            bh.consume(doc.getString("song").getValue());
+        }
+    }
+}
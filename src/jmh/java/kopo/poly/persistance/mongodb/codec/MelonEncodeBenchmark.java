@@ -0,0 +1,49 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MelonDTO;
+import org.bson.RawBsonDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멜론 차트 BSON 변환 단계의 단일 쓰레드/병렬 처리 성능 비교
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MelonEncodeBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private final MelonDTOCodec codec = new MelonDTOCodec();
+
+    private List<MelonDTO> pList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pList = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            pList.add(MelonDTO.builder()
+                    .collectTime("20240301120000")
+                    .song("노래 제목 " + i)
+                    .singer("가수 " + (i % 50))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<RawBsonDocument> sequential() {
+        return MelonDocumentEncoder.encodeAll(pList, codec, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<RawBsonDocument> parallel() {
+        return MelonDocumentEncoder.encodeAll(pList, codec, 0);
+    }
+}
@@ -0,0 +1,100 @@
+package kopo.poly.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 백엔드 호출(MongoDB/RedisDB 응답 대기)을 동시에 많이 실행할 때 플랫폼 쓰레드풀과 가상 쓰레드 처리량 비교
+ * <p>
+ * - platform : Tomcat 기본값과 같은 200개 쓰레드풀
+ * - virtual : 호출마다 가상 쓰레드 생성(JDK 21 이상에서만 실행 가능)
+ * - pinned=true : synchronized 블록 안에서 대기하여 캐리어 쓰레드가 고정되는 경우
+ * <p>
+ * 실행 : ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=VirtualThreadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"false", "true"})
+    private boolean pinned;
+
+    // 동시에 실행할 백엔드 호출 수(동시 요청 수, @OperationsPerInvocation에 같이 사용하므로 상수로 둠)
+    private static final int CALLS = 1000;
+
+    // 백엔드 응답 대기 시간(ms)
+    @Param({"10"})
+    private int latencyMillis;
+
+    private Executor executor;
+
+    private ExecutorService platformPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-");
+            virtual.setVirtualThreads(true);
+            executor = virtual;
+
+        } else {
+            platformPool = Executors.newFixedThreadPool(200);
+            executor = platformPool;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    /**
+     * CALLS 건의 블로킹 호출을 모두 처리하는 작업 1회
+     */
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void blockingCalls() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(CALLS);
+
+        for (int i = 0; i < CALLS; i++) {
+            executor.execute(() -> {
+                try {
+                    if (pinned) {
+                        synchronized (new Object()) {
+                            this.backendCall();
+                        }
+
+                    } else {
+                        this.backendCall();
+                    }
+
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+    }
+
+    private void backendCall() {
+        try {
+            Thread.sleep(latencyMillis);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
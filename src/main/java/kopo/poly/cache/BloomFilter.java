@@ -0,0 +1,145 @@
+package kopo.poly.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 문자열 Bloom 필터(없는 값은 항상 없다고 판단하고, 있는 값은 오탐률만큼 잘못 있다고 판단할 수 있음)
+ * <p>
+ * 비트 배열은 RedisDB 비트맵과 같은 순서(바이트의 최상위 비트가 0번)로 저장하므로
+ * toByteArray() 결과를 그대로 RedisDB에 저장하면 GETBIT/BITCOUNT로도 확인할 수 있음
+ * 해시는 FNV-1a(64비트) 결과를 섞어 2개로 나누고, k개의 위치는 h1 + i * h2로 계산함(double hashing)
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final byte[] bits;
+
+    private final int bitSize;
+
+    private final int hashCnt;
+
+    private BloomFilter(byte[] bits, int hashCnt) {
+        this.bits = bits;
+        this.bitSize = bits.length * 8;
+        this.hashCnt = hashCnt;
+    }
+
+    /**
+     * 값 리스트로 필터 만들기
+     *
+     * @param values 저장할 값
+     * @param fpp    목표 오탐률(0 ~ 1)
+     */
+    public static BloomFilter of(Collection<String> values, double fpp) {
+
+        int n = Math.max(values.size(), 1);
+
+        // 최적 비트 수 m = -n * ln(p) / ln(2)^2 (바이트 단위로 올림, 최소 64비트)
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (LN2 * LN2));
+        int byteSize = (int) Math.max(8, (m + 7) / 8);
+
+        BloomFilter filter = new BloomFilter(new byte[byteSize], hashCnt(fpp));
+
+        values.forEach(filter::put);
+
+        return filter;
+    }
+
+    /**
+     * RedisDB에 저장된 비트맵으로 필터 만들기
+     *
+     * @param bits toByteArray() 결과
+     * @param fpp  만들 때 사용한 목표 오탐률(해시 수 계산용)
+     */
+    public static BloomFilter fromByteArray(byte[] bits, double fpp) {
+        return new BloomFilter(bits, hashCnt(fpp));
+    }
+
+    /**
+     * 최적 해시 수 k = -ln(p) / ln(2)
+     */
+    private static int hashCnt(double fpp) {
+        return Math.max(1, (int) Math.round(-Math.log(fpp) / LN2));
+    }
+
+    private static long hash(String value) {
+
+        long h = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+
+        // 하위 비트가 고르게 섞이도록 한번 더 섞기(MurmurHash3 fmix64)
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    private void put(String value) {
+
+        long h = hash(value);
+
+        for (int i = 0; i < hashCnt; i++) {
+            int index = this.index(h, i);
+            bits[index >>> 3] |= (byte) (0x80 >>> (index & 7));
+        }
+    }
+
+    /**
+     * 값이 저장되어 있을 수 있는지(false면 저장되지 않은 값)
+     */
+    public boolean mightContain(String value) {
+
+        long h = hash(value);
+
+        for (int i = 0; i < hashCnt; i++) {
+            int index = this.index(h, i);
+
+            if ((bits[index >>> 3] & (0x80 >>> (index & 7))) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int index(long h, int i) {
+        int combined = (int) h + i * (int) (h >>> 32);
+
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 계산한 예상 오탐률((1로 설정된 비트 비율)^k)
+     */
+    public double expectedFpp() {
+
+        long setBits = 0;
+
+        for (byte b : bits) {
+            setBits += Integer.bitCount(b & 0xff);
+        }
+
+        return Math.pow((double) setBits / bitSize, hashCnt);
+    }
+
+    public byte[] toByteArray() {
+        return bits.clone();
+    }
+
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int hashCnt() {
+        return hashCnt;
+    }
+}
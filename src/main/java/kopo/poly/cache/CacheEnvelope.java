@@ -0,0 +1,49 @@
+package kopo.poly.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 값과 함께 저장하는 갱신 정보
+ * <p>
+ * - 하드 TTL(RedisDB 유효시간)이 지나기 전, 소프트 TTL이 지나면 이전 값을 반환하면서 백그라운드로 갱신함
+ * - 소프트 TTL 이전에도 원본 조회 시간이 길수록 일찍 갱신될 확률이 높아짐(XFetch)
+ */
+public record CacheEnvelope(
+        Object value, // 캐시 값
+        long createdAt, // 저장 시간(epoch ms)
+        long softExpireAt, // 소프트 TTL 만료 시간(epoch ms)
+        long computeMillis // 원본 조회에 걸린 시간(ms)
+) {
+
+    public static CacheEnvelope wrap(Object value, long softTtlMillis, long computeMillis) {
+        long now = System.currentTimeMillis();
+        return new CacheEnvelope(value, now, now + softTtlMillis, computeMillis);
+    }
+
+    /**
+     * CacheEnvelope 없이 저장된 이전 값은 바로 갱신하도록 소프트 TTL이 지난 것으로 처리함
+     */
+    public static CacheEnvelope from(Object cached) {
+        if (cached == null || cached instanceof CacheEnvelope) {
+            return (CacheEnvelope) cached;
+        }
+
+        return new CacheEnvelope(cached, 0, 0, 0);
+    }
+
+    /**
+     * 소프트 TTL 만료 여부
+     */
+    public boolean expiredAt(long now) {
+        return now >= softExpireAt;
+    }
+
+    /**
+     * XFetch 조기 갱신 여부 : now - computeMillis * beta * ln(rand) >= softExpireAt
+     * ln(rand)는 음수이므로 원본 조회 시간이 길고 만료가 가까울수록 true가 될 확률이 높아짐
+     */
+    public boolean earlyRefreshAt(long now, double beta) {
+        double gap = computeMillis * beta * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return now + gap >= softExpireAt;
+    }
+}
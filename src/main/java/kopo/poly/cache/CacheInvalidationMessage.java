@@ -0,0 +1,11 @@
+package kopo.poly.cache;
+
+/**
+ * 서버(파드)간 L1 캐시 삭제 알림 메시지
+ */
+public record CacheInvalidationMessage(
+        String origin, // 알림을 보낸 서버 식별값(자신이 보낸 알림은 처리하지 않음)
+        String cacheName, // 캐시 이름
+        String key // 삭제할 키(null이면 전체 삭제)
+) {
+}
@@ -0,0 +1,82 @@
+package kopo.poly.cache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 Miss시 원본(DB) 조회를 몇 번 수행할지 조정하는 객체
+ * TwoLevelCacheManager에 등록하면 모든 캐시의 @Cacheable(sync = true) 조회에 적용됨
+ */
+public interface CacheLoadCoordinator {
+
+    /**
+     * 캐시 Miss 처리하기
+     *
+     * @param loadKey     조정 단위 키(캐시 이름 + 캐시 키)
+     * @param compute     원본 조회
+     * @param writer      원본 조회 결과를 캐시에 저장
+     * @param reader      캐시 다시 조회(다른 서버가 먼저 저장했는지 확인)
+     * @param staleReader 유효시간이 지난(삭제된) 이전 값 조회
+     * @return 조회 결과
+     */
+    Object load(String loadKey, Callable<Object> compute, Writer writer,
+                Supplier<Object> reader, Supplier<Object> staleReader) throws Exception;
+
+    /**
+     * 소프트 TTL이 지난 값 백그라운드 갱신하기
+     * 기본 구현은 바로 원본을 조회하여 저장함
+     *
+     * @param loadKey 조정 단위 키(캐시 이름 + 캐시 키)
+     * @param compute 원본 조회
+     * @param writer  원본 조회 결과를 캐시에 저장
+     * @return 갱신 여부(다른 서버가 갱신 중이면 false)
+     */
+    default boolean refresh(String loadKey, Callable<Object> compute, Writer writer) throws Exception {
+        Object value = compute.call();
+
+        if (value == null) {
+            return false;
+        }
+
+        writer.write(value);
+
+        return true;
+    }
+
+    /**
+     * 조정 없이 바로 원본을 조회하고 저장하기(서버 1대 또는 분산 락 미사용)
+     */
+    CacheLoadCoordinator LOCAL = (loadKey, compute, writer, reader, staleReader) -> {
+        Object value = compute.call();
+
+        if (value != null) {
+            writer.write(value);
+        }
+
+        return value;
+    };
+
+    /**
+     * 원본 조회 결과를 캐시에 저장하는 객체
+     */
+    interface Writer {
+
+        /**
+         * RedisDB(L2, 이전 값)와 서버 메모리(L1)에 바로 저장하기
+         */
+        void write(Object value);
+
+        /**
+         * RedisDB에 저장할 키, 값 목록(임대 확인과 저장을 Lua 스크립트로 함께 실행할 때 사용)
+         *
+         * @return 저장할 값(RedisCache가 아니어서 직접 저장할 수 없으면 빈 리스트)
+         */
+        List<RedisCacheEntry> entries(Object value);
+
+        /**
+         * entries를 직접 저장한 후 서버 메모리(L1)에 저장하기
+         */
+        void writeLocal(Object value);
+    }
+}
@@ -0,0 +1,53 @@
+package kopo.poly.cache;
+
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 날짜 구분 컬렉션(MELON_CHART)의 보관 기간(TTL 인덱스)이 지난 날짜 정리하기(melon.mongo.layout=partitioned)
+ * <p>
+ * TTL 인덱스 삭제는 애플리케이션을 거치지 않으므로 조회 결과 캐시 버전이 올라가지 않고, 가수별 노래 수 요약도 남아있음
+ * 그래서 정해진 주기마다 보관 기간이 지난 날짜(오늘, 어제 기준)를 IMelonMapper로 삭제하여
+ * 남은 차트/요약을 지우고 차트와 요약의 조회 결과 캐시 버전을 올림(이미 삭제된 날짜는 삭제할 문서가 없음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "melon.mongo.layout", havingValue = "partitioned")
+@Component
+public class ChartRetentionScheduler {
+
+    private final IMelonMapper melonMapper;
+
+    @Value("${melon.mongo.partitioned.retention-days:400}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${melon.mongo.partitioned.retention-cron:0 5 * * * *}")
+    public void expire() {
+
+        log.info("{}.expire Start!", this.getClass().getName());
+
+        // TTL 인덱스는 약 1분마다 삭제하므로, 날짜가 바뀐 직후를 위해 하루 전 날짜도 같이 정리함
+        LocalDate expired = LocalDate.now().minusDays(retentionDays);
+
+        for (LocalDate date : new LocalDate[]{expired, expired.minusDays(1)}) {
+            String colNm = "MELON_" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+            try {
+                melonMapper.dropCollection(colNm);
+
+            } catch (Exception e) {
+                log.warn("expired chart cleanup fail - colNm : {}, {}", colNm, e.getMessage());
+            }
+        }
+
+        log.info("{}.expire End!", this.getClass().getName());
+    }
+}
@@ -0,0 +1,32 @@
+package kopo.poly.cache;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 멜론 차트를 수정하는 메서드가 끝나면 캐시 이름(키 묶음) 전체 삭제하기(@CacheEvict(allEntries = true))
+ * <p>
+ * 키에 파라미터 해시가 포함되어 삭제할 키를 알 수 없으므로 캐시 이름 단위로 삭제함
+ * (RedisDB는 SCAN으로 삭제하고, 다른 서버의 L1도 삭제 알림으로 삭제됨)
+ * <p>
+ * 사용 예 : @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG})
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@CacheEvict(allEntries = true)
+public @interface MelonCacheEvict {
+
+    /**
+     * 삭제할 캐시 이름(MelonCacheNames)
+     */
+    @AliasFor(annotation = CacheEvict.class, attribute = "cacheNames")
+    String[] value();
+
+}
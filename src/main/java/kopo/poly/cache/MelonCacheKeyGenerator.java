@@ -0,0 +1,125 @@
+package kopo.poly.cache;
+
+import kopo.poly.util.DateUtil;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멜론 차트 캐시 키 생성기(melonKeyGen)
+ * <p>
+ * 키 형식 : MELON_yyyyMMdd:메서드이름[:파라미터 해시]
+ * - 날짜 : 조회하는 차트 컬렉션(MELON_yyyyMMdd)과 같은 날짜(서버 시간대)
+ * - 파라미터 해시 : @MelonCacheable.keyFields에 적힌 DTO 필드만 "필드=값" 형식으로 이어 붙인 뒤 SHA-256 앞 16자리
+ * <p>
+ * 조회 조건과 같은 기준으로 정규화함(null 문자열은 빈 문자열, DTO가 null이면 필드 기본값)
+ * 조회 조건에서 공백 제거나 대소문자 변환을 하지 않으므로 키에서도 하지 않음(다른 결과가 같은 키로 저장되지 않도록)
+ */
+public class MelonCacheKeyGenerator implements KeyGenerator {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    // 메서드별 키에 포함할 필드(매 요청마다 어노테이션을 찾지 않도록 보관)
+    private final Map<Method, String[]> keyFields = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+
+        StringBuilder key = new StringBuilder("MELON_")
+                .append(DateUtil.getDateTime("yyyyMMdd"))
+                .append(':')
+                .append(method.getName());
+
+        String[] fields = keyFields.computeIfAbsent(method, m -> this.findKeyFields(target, m));
+
+        if (fields.length > 0) {
+            key.append(':').append(hash(normalize(method.getParameterTypes(), params, fields)));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * 구현 클래스 메서드에 선언된 @MelonCacheable.keyFields 찾기
+     */
+    private String[] findKeyFields(Object target, Method method) {
+
+        Method specific = AopUtils.getMostSpecificMethod(method, AopProxyUtils.ultimateTargetClass(target));
+
+        MelonCacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(specific, MelonCacheable.class);
+
+        return cacheable == null ? new String[0] : cacheable.keyFields();
+    }
+
+    /**
+     * 파라미터에서 키에 포함할 필드만 "필드=값&필드=값" 형식으로 만들기(필드 순서는 DTO 선언 순서)
+     */
+    private static String normalize(Class<?>[] types, Object[] params, String[] fields) {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < types.length; i++) {
+            if (!types[i].isRecord()) {
+                continue;
+            }
+
+            for (RecordComponent component : types[i].getRecordComponents()) {
+                for (String field : fields) {
+                    if (field.equals(component.getName())) {
+                        sb.append(field).append('=').append(value(component, params[i])).append('&');
+                    }
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static String value(RecordComponent component, Object param) {
+
+        Object value = null;
+
+        if (param != null) {
+            try {
+                value = component.getAccessor().invoke(param);
+
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("cache key field read fail : " + component.getName(), e);
+            }
+        }
+
+        if (value == null) {
+            Class<?> type = component.getType();
+
+            // DTO가 null이면 필드 기본값과 같게 처리함(예 : topK 생략 = 0)
+            value = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : "";
+        }
+
+        return String.valueOf(value);
+    }
+
+    /**
+     * 키에 넣을 파라미터 해시(SHA-256 앞 16자리)
+     */
+    public static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+
+            return HEX.formatHex(digest, 0, 8);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package kopo.poly.cache;
+
+import java.util.List;
+
+/**
+ * 멜론 차트 캐시 이름(키 묶음)
+ * 캐시 이름별로 유효시간을 따로 설정하고(CacheConfig), 차트가 바뀌면 캐시 이름 단위로 삭제함
+ */
+public final class MelonCacheNames {
+
+    private MelonCacheNames() {
+    }
+
+    // 오늘 차트 노래 리스트(getSongList)
+    public static final String SONG_LIST = "melonSongs";
+
+    // 가수별 노래 리스트(getSingerSong)
+    public static final String SINGER_SONG = "melonSingerSong";
+
+    // 가수별 노래 수(getSingerSongCnt)
+    public static final String SINGER_CNT = "melonSingerCnt";
+
+    // MongoDB 조회 결과(VersionedMelonMapper), 키에 컬렉션 버전이 들어가므로 캐시 이름 단위로 삭제하지 않음
+    public static final String QUERY = "melonQuery";
+
+    // 차트를 다시 수집하면 삭제할 캐시
+    public static final List<String> CHART = List.of(SONG_LIST, SINGER_SONG, SINGER_CNT);
+
+}
@@ -0,0 +1,37 @@
+package kopo.poly.cache;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 멜론 차트 조회 결과 캐시(@Cacheable + melonKeyGen)
+ * <p>
+ * 키는 MelonCacheKeyGenerator가 "MELON_yyyyMMdd:메서드이름[:파라미터 해시]" 형식으로 만듦
+ * 파라미터 중 조회 결과에 영향을 주는 DTO 필드만 keyFields에 적어야 같은 결과를 같은 키로 저장함
+ * <p>
+ * 사용 예 : @MelonCacheable(value = MelonCacheNames.SINGER_SONG, keyFields = "singer")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Cacheable(keyGenerator = "melonKeyGen", sync = true)
+public @interface MelonCacheable {
+
+    /**
+     * 캐시 이름(MelonCacheNames)
+     */
+    @AliasFor(annotation = Cacheable.class, attribute = "cacheNames")
+    String value();
+
+    /**
+     * 키에 포함할 파라미터 DTO(record) 필드 이름(없으면 날짜와 메서드 이름만 사용)
+     */
+    String[] keyFields() default {};
+
+}
@@ -0,0 +1,238 @@
+package kopo.poly.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.SingerFilterStatsDTO;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.redis.IMelonSingerFilterMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 날짜별 차트에 있는 가수 필터(Bloom 필터 + 없는 가수 결과 캐시)
+ * <p>
+ * 차트에 없는 가수 조회는 MongoDB를 조회하지 않고 바로 빈 결과를 반환하기 위해 사용함
+ * - Bloom 필터 : 차트를 저장할 때 가수 이름으로 만들어 서버 메모리에 보관하고, RedisDB에 비트맵으로 저장해 다른 서버와 같이 사용함
+ * 서버 메모리의 필터는 melon.singer-filter.local-ttl마다 RedisDB에서 다시 가져오고,
+ * RedisDB에도 없으면 MongoDB 요약 컬렉션(MELON_SINGER_CNT)의 가수로 다시 만들어 서버 메모리에만 보관함
+ * - 없는 가수 결과 캐시 : 필터를 통과했지만(오탐) MongoDB 조회 결과가 없었던 가수를 짧은 시간 동안 기억함
+ * <p>
+ * 필터를 가져오지 못하면(RedisDB, MongoDB 장애) 모든 가수를 있는 것으로 판단해 MongoDB를 조회함
+ * 다른 서버에서 차트를 다시 저장하면 이 서버의 필터는 local-ttl 동안 이전 차트 기준으로 판단할 수 있음
+ */
+@Slf4j
+@Component
+public class MelonSingerFilter {
+
+    private record NegativeKey(String colNm, String singer) {
+    }
+
+    // 날짜별 조회 건수
+    private static final class Counter {
+        final LongAdder lookupCnt = new LongAdder();
+        final LongAdder negativeHitCnt = new LongAdder();
+        final LongAdder rejectCnt = new LongAdder();
+        final LongAdder passCnt = new LongAdder();
+        final LongAdder falsePositiveCnt = new LongAdder();
+    }
+
+    private final IMelonSingerFilterMapper melonSingerFilterMapper; // 필터 비트맵(RedisDB)
+
+    private final IMelonMapper melonMapper; // 가수별 노래 수 요약(MongoDB)
+
+    private final double fpp;
+
+    private final Cache<String, BloomFilter> filters;
+
+    private final Cache<NegativeKey, Boolean> negatives;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public MelonSingerFilter(IMelonSingerFilterMapper melonSingerFilterMapper, IMelonMapper melonMapper,
+                             @Value("${melon.singer-filter.fpp:0.01}") double fpp,
+                             @Value("${melon.singer-filter.local-ttl:1m}") Duration localTtl,
+                             @Value("${melon.singer-filter.negative-ttl:30s}") Duration negativeTtl,
+                             @Value("${melon.singer-filter.negative-max-size:10000}") long negativeMaxSize) {
+        this.melonSingerFilterMapper = melonSingerFilterMapper;
+        this.melonMapper = melonMapper;
+        this.fpp = fpp;
+        this.filters = Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(32).build();
+        this.negatives = Caffeine.newBuilder().expireAfterWrite(negativeTtl).maximumSize(negativeMaxSize).build();
+    }
+
+    private Counter counter(String colNm) {
+        return counters.computeIfAbsent(colNm, k -> new Counter());
+    }
+
+    /**
+     * 수집된 차트의 가수로 필터 교체하기(차트 저장시 호출)
+     *
+     * @param colNm   차트 컬렉션 이름(MELON_yyyyMMdd)
+     * @param singers 차트에 있는 가수
+     */
+    public void put(String colNm, Collection<String> singers) {
+
+        List<String> rList = singers.stream().filter(Objects::nonNull).distinct().toList();
+
+        // 가수가 없는 필터는 모든 가수를 거절하므로 만들지 않음
+        if (rList.isEmpty()) {
+            this.invalidate(colNm);
+            return;
+        }
+
+        BloomFilter filter = BloomFilter.of(rList, fpp);
+
+        filters.put(colNm, filter);
+        this.clearNegatives(colNm);
+
+        try {
+            melonSingerFilterMapper.insertFilter(colNm, filter.toByteArray(), true);
+
+        } catch (Exception e) {
+            // 이전 차트의 필터가 다른 서버에서 사용되지 않도록 삭제하기
+            log.warn("singer filter save fail - colNm : {}, {}", colNm, e.getMessage());
+            this.deleteFilter(colNm);
+        }
+    }
+
+    /**
+     * 가수가 차트에 있을 수 있는지(false면 차트에 없는 가수이므로 MongoDB를 조회하지 않아도 됨)
+     */
+    public boolean mightContain(String colNm, String singer) {
+
+        Counter counter = this.counter(colNm);
+        counter.lookupCnt.increment();
+
+        if (negatives.getIfPresent(new NegativeKey(colNm, singer)) != null) {
+            counter.negativeHitCnt.increment();
+            return false;
+        }
+
+        BloomFilter filter = filters.get(colNm, this::load);
+
+        if (filter != null && !filter.mightContain(singer)) {
+            counter.rejectCnt.increment();
+            return false;
+        }
+
+        counter.passCnt.increment();
+
+        return true;
+    }
+
+    /**
+     * 필터를 통과했지만 MongoDB 조회 결과가 없는 가수 기억하기
+     */
+    public void putAbsent(String colNm, String singer) {
+
+        negatives.put(new NegativeKey(colNm, singer), Boolean.TRUE);
+
+        // 필터가 있는데 통과한 경우만 오탐으로 계산함(필터를 가져오지 못한 경우 제외)
+        if (filters.getIfPresent(colNm) != null) {
+            this.counter(colNm).falsePositiveCnt.increment();
+        }
+    }
+
+    /**
+     * 차트의 가수가 바뀌었으므로 필터와 없는 가수 결과 삭제하기(다음 조회시 MongoDB 요약 컬렉션으로 다시 만들어짐)
+     */
+    public void invalidate(String colNm) {
+        filters.invalidate(colNm);
+        this.clearNegatives(colNm);
+        this.deleteFilter(colNm);
+    }
+
+    private void clearNegatives(String colNm) {
+        negatives.asMap().keySet().removeIf(key -> key.colNm().equals(colNm));
+    }
+
+    private void deleteFilter(String colNm) {
+        try {
+            melonSingerFilterMapper.deleteFilter(colNm);
+
+        } catch (Exception e) {
+            log.warn("singer filter delete fail - colNm : {}, {}", colNm, e.getMessage());
+        }
+    }
+
+    /**
+     * RedisDB에 저장된 필터를 가져오고, 없으면 MongoDB 요약 컬렉션의 가수로 만들기
+     *
+     * @return 가져오지 못하면 null(서버 메모리에 보관하지 않고 다음 조회시 다시 시도함)
+     */
+    private BloomFilter load(String colNm) {
+
+        try {
+            byte[] bitmap = melonSingerFilterMapper.getFilter(colNm);
+
+            if (bitmap != null) {
+                return BloomFilter.fromByteArray(bitmap, fpp);
+            }
+
+        } catch (Exception e) {
+            log.warn("singer filter read fail - colNm : {}, {}", colNm, e.getMessage());
+        }
+
+        try {
+            List<String> singers = melonMapper.getSingerSongCnt(colNm, 0).stream().map(MelonDTO::singer).toList();
+
+            log.info("rebuild singer filter - colNm : {} / singerCnt : {}", colNm, singers.size());
+
+            // 요약이 아직 없으면(차트 저장 전, 요약 다시 만드는 중) 모든 가수를 거절하지 않도록 필터 없이 조회하기
+            if (singers.isEmpty()) {
+                return null;
+            }
+
+            // 조회한 요약은 그 사이 바뀌었을 수 있으므로 이 서버 메모리에만 보관하고(local-ttl),
+            // RedisDB에는 차트를 저장한 서버(put)만 저장함
+            return BloomFilter.of(singers, fpp);
+
+        } catch (Exception e) {
+            log.warn("singer filter rebuild fail - colNm : {}, {}", colNm, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 날짜별 필터 크기, 예상/실제 오탐률, 조회 건수 가져오기
+     */
+    public List<SingerFilterStatsDTO> getStats() {
+
+        return counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    BloomFilter filter = filters.getIfPresent(entry.getKey());
+                    Counter counter = entry.getValue();
+
+                    long falsePositiveCnt = counter.falsePositiveCnt.sum();
+                    long rejectCnt = counter.rejectCnt.sum();
+
+                    return SingerFilterStatsDTO.builder()
+                            .colNm(entry.getKey())
+                            .loaded(filter != null)
+                            .bitSize(filter == null ? 0 : filter.bitSize())
+                            .hashCnt(filter == null ? 0 : filter.hashCnt())
+                            .targetFpp(fpp)
+                            .expectedFpp(filter == null ? 0 : filter.expectedFpp())
+                            .observedFpp(falsePositiveCnt + rejectCnt == 0
+                                    ? 0 : (double) falsePositiveCnt / (falsePositiveCnt + rejectCnt))
+                            .lookupCnt(counter.lookupCnt.sum())
+                            .negativeHitCnt(counter.negativeHitCnt.sum())
+                            .rejectCnt(rejectCnt)
+                            .passCnt(counter.passCnt.sum())
+                            .falsePositiveCnt(falsePositiveCnt)
+                            .build();
+                })
+                .toList();
+    }
+}
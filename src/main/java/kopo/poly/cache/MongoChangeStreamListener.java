@@ -0,0 +1,486 @@
+package kopo.poly.cache;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.mongodb.IMongoChangeStreamMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.redis.IChangeStreamMapper;
+import kopo.poly.persistance.redis.ICollectionVersionMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import kopo.poly.util.DateUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * MongoDB 변경 내역(Change Stream)으로 캐시 무효화하기
+ * <p>
+ * 애플리케이션의 @MelonCacheEvict / 컬렉션 버전 증가를 거치지 않은 변경(다른 도구, 다른 서버, 직접 수정)도 캐시에 반영하기 위해 사용함
+ * - 변경된 컬렉션의 버전을 올려서 조회 결과 캐시(melonQuery)를 무효화함(VersionedMelonMapper)
+ * - 차트가 바뀐 날짜는 가수별 노래 수 요약을 다시 만들고, 버전을 올린 후 가수 필터와 순위표를 삭제함
+ * - 오늘 차트가 바뀌면 서비스 캐시(MelonCacheNames.CHART)를 삭제함(다른 서버의 L1은 Pub/Sub으로 삭제됨)
+ * - melon.change-stream.prewarm=true이면 바뀐 날짜의 노래 리스트를 미리 조회해서 새 버전으로 캐시해 둠
+ * <p>
+ * 여러 서버 중 임대(lease)를 획득한 1대만 구독하고, 처리한 변경 내역의 재개 토큰을 RedisDB에 저장하므로
+ * 서버를 다시 시작하거나 구독 서버가 바뀌어도 마지막으로 처리한 변경 내역 다음부터 이어서 처리함
+ * 캐시 무효화 후에 토큰을 저장하므로 같은 변경이 2번 처리될 수는 있지만(모두 여러 번 실행해도 결과가 같음) 빠지지는 않음
+ * <p>
+ * 이 서버의 저장/수정도 변경 내역으로 다시 전달되어 한번 더 무효화되므로, 해당 날짜의 첫 조회는 MongoDB를 다시 조회함
+ * 단, 차트 수집(ChartIngestPipeline)이 관리 표시(CHANGE_STREAM:MAINTAINED:날짜)를 남긴 날짜는
+ * 애플리케이션이 요약, 가수 필터, 순위표까지 저장한 것이므로 다시 만들지 않고 버전만 올림
+ * 날짜 구분 컬렉션(MELON_CHART)의 삭제는 차트 날짜를 알 수 없으므로 조회 결과 캐시 전체를 삭제함
+ * Change Stream은 복제 세트(Replica Set)에서만 사용할 수 있으므로 기본값은 사용하지 않음(melon.change-stream.enabled=false)
+ */
+@Slf4j
+@ConditionalOnProperty(name = "melon.change-stream.enabled", havingValue = "true")
+@Component
+public class MongoChangeStreamListener {
+
+    // 재개 토큰이 oplog 보관 기간보다 오래되어 재개할 수 없음(ChangeStreamHistoryLost, ChangeStreamFatalError)
+    private static final Set<Integer> HISTORY_LOST = Set.of(286, 280);
+
+    /**
+     * 한번에 처리할 변경 내역 모음(같은 컬렉션의 변경이 여러 건이어도 무효화는 1번만 함)
+     */
+    private static final class Changes {
+        final Set<String> charts = new HashSet<>(); // 차트가 바뀐 날짜(MELON_yyyyMMdd)
+        final Set<String> summaries = new HashSet<>(); // 가수별 노래 수 요약이 바뀐 날짜
+        final Set<String> others = new HashSet<>(); // 그 외 컬렉션(MongoMapper 컬렉션 등)
+        boolean all; // 날짜를 알 수 없는 변경
+        boolean invalidated; // 구독 종료(다시 구독해야 함)
+        int size;
+        long firstAt;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    // 이 서버의 식별값(임대 소유자)
+    private final String owner = UUID.randomUUID().toString();
+
+    private final ExecutorService watcher = Executors.newSingleThreadExecutor();
+
+    private final IMongoChangeStreamMapper mongoChangeStreamMapper; // 변경 내역 구독(MongoDB)
+
+    private final IChangeStreamMapper changeStreamMapper; // 재개 토큰, 임대(RedisDB)
+
+    private final ICollectionVersionMapper collectionVersionMapper; // 조회 결과 캐시 버전(RedisDB)
+
+    private final IMelonRankMapper melonRankMapper; // 가수별 노래 수 순위표(RedisDB)
+
+    private final IMelonMapper melonMapper;
+
+    private final MelonSingerFilter singerFilter;
+
+    private final CacheManager cacheManager;
+
+    private final String name;
+
+    private final Pattern colPattern;
+
+    private final Duration lease;
+
+    private final Duration maxAwait;
+
+    private final int batchSize;
+
+    private final boolean refreshSummary;
+
+    private final boolean prewarm;
+
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+
+    public MongoChangeStreamListener(IMongoChangeStreamMapper mongoChangeStreamMapper,
+                                     IChangeStreamMapper changeStreamMapper,
+                                     ICollectionVersionMapper collectionVersionMapper,
+                                     IMelonRankMapper melonRankMapper, IMelonMapper melonMapper,
+                                     MelonSingerFilter singerFilter, CacheManager cacheManager,
+                                     @Value("${melon.change-stream.name:melon}") String name,
+                                     @Value("${melon.change-stream.collections:MELON_.*|MONGODB_.*}") String collections,
+                                     @Value("${melon.change-stream.lease:30s}") Duration lease,
+                                     @Value("${melon.change-stream.max-await:1s}") Duration maxAwait,
+                                     @Value("${melon.change-stream.batch-size:1000}") int batchSize,
+                                     @Value("${melon.change-stream.refresh-summary:true}") boolean refreshSummary,
+                                     @Value("${melon.change-stream.prewarm:false}") boolean prewarm) {
+        this.mongoChangeStreamMapper = mongoChangeStreamMapper;
+        this.changeStreamMapper = changeStreamMapper;
+        this.collectionVersionMapper = collectionVersionMapper;
+        this.melonRankMapper = melonRankMapper;
+        this.melonMapper = melonMapper;
+        this.singerFilter = singerFilter;
+        this.cacheManager = cacheManager;
+        this.name = name;
+        this.colPattern = Pattern.compile("^(" + collections + ")$");
+        this.lease = lease;
+        this.maxAwait = maxAwait;
+        this.batchSize = batchSize;
+        this.refreshSummary = refreshSummary;
+        this.prewarm = prewarm;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        watcher.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        watcher.shutdownNow();
+
+        MongoChangeStreamCursor<?> cur = cursor;
+
+        if (cur != null) {
+            cur.close();
+        }
+
+        try {
+            // 다른 서버가 임대 유지시간을 기다리지 않고 바로 구독하도록 해제하기
+            changeStreamMapper.releaseLease(name, owner);
+
+        } catch (Exception e) {
+            log.warn("change stream lease release fail : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 임대를 획득하면 구독하고, 다른 서버가 구독 중이면 기다리기(실패해도 다시 시도함)
+     */
+    private void run() {
+        Thread.currentThread().setName("change-stream-" + name);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (changeStreamMapper.acquireLease(name, owner, lease)) {
+                    log.info("change stream lease acquired - name : {}, owner : {}", name, owner);
+                    this.watch();
+
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(lease.toMillis() / 3);
+                }
+
+            } catch (InterruptedException | MongoInterruptedException e) {
+                Thread.currentThread().interrupt();
+
+            } catch (MongoException e) {
+                if (HISTORY_LOST.contains(e.getCode())) {
+                    this.resetToken();
+                    continue;
+                }
+
+                log.error("change stream fail : {}", e.getMessage(), e);
+                this.pause();
+
+            } catch (Exception e) {
+                log.error("change stream fail : {}", e.getMessage(), e);
+                this.pause();
+            }
+        }
+
+        log.info("change stream stopped - name : {}", name);
+    }
+
+    private void pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(lease.toMillis() / 3);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 재개할 수 없는 토큰 삭제하기
+     * 그 사이의 변경 내역은 알 수 없으므로 조회 결과 캐시와 서비스 캐시를 모두 삭제하고 지금부터 구독함
+     */
+    private void resetToken() {
+        log.warn("change stream history lost, clear all caches - name : {}", name);
+
+        try {
+            changeStreamMapper.deleteResumeToken(name);
+
+        } catch (Exception e) {
+            log.warn("change stream token delete fail : {}", e.getMessage());
+        }
+
+        Changes changes = new Changes();
+        changes.all = true;
+
+        try {
+            this.flush(changes);
+
+        } catch (Exception e) {
+            log.warn("change stream cache clear fail : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독하기(임대를 잃거나, 구독이 종료되거나, 오류가 나면 돌아감)
+     */
+    private void watch() throws Exception {
+        String saved = changeStreamMapper.getResumeToken(name);
+
+        BsonDocument resumeToken = saved == null ? null : BsonDocument.parse(saved);
+
+        log.info("change stream watch - name : {}, resume : {}", name, resumeToken != null);
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cur =
+                     mongoChangeStreamMapper.watch(colPattern, resumeToken, batchSize, maxAwait)) {
+
+            cursor = cur;
+
+            long renewAt = System.currentTimeMillis() + lease.toMillis() / 3;
+
+            Changes changes = new Changes();
+
+            while (!Thread.currentThread().isInterrupted()) {
+
+                // 변경 내역이 없으면 최대 maxAwait 동안 기다린 뒤 null 반환
+                ChangeStreamDocument<Document> event = cur.tryNext();
+
+                long now = System.currentTimeMillis();
+
+                if (event != null) {
+                    this.add(changes, event);
+
+                    long age = now - changes.firstAt;
+
+                    // 이어서 들어오는 변경 내역은 모아서 한번에 처리함(최대 batchSize건, maxAwait 시간)
+                    if (!changes.invalidated && changes.size < batchSize && age < maxAwait.toMillis()) {
+                        continue;
+                    }
+                }
+
+                if (!changes.isEmpty()) {
+                    this.flush(changes);
+                }
+
+                // 처리한 위치 저장하기(변경 내역이 없어도 서버가 알려주는 위치가 바뀌므로 임대 연장 주기마다 저장함)
+                BsonDocument token = cur.getResumeToken();
+
+                if (token != null && (!changes.isEmpty() || now >= renewAt)) {
+                    String json = token.toJson();
+
+                    if (!json.equals(saved)) {
+                        changeStreamMapper.insertResumeToken(name, json);
+                        saved = json;
+                    }
+                }
+
+                if (changes.invalidated) {
+                    log.info("change stream invalidated, rewatch - name : {}", name);
+                    return;
+                }
+
+                changes = new Changes();
+
+                if (now >= renewAt) {
+                    if (!changeStreamMapper.acquireLease(name, owner, lease)) {
+                        log.info("change stream lease lost - name : {}", name);
+                        return;
+                    }
+
+                    renewAt = now + lease.toMillis() / 3;
+                }
+            }
+
+        } finally {
+            cursor = null;
+        }
+    }
+
+    /**
+     * 변경 내역을 변경된 날짜/컬렉션으로 모으기
+     */
+    private void add(Changes changes, ChangeStreamDocument<Document> event) {
+
+        if (changes.isEmpty()) {
+            changes.firstAt = System.currentTimeMillis();
+        }
+
+        changes.size++;
+
+        if (event.getOperationType() == OperationType.INVALIDATE) {
+            changes.all = true;
+            changes.invalidated = true;
+            return;
+        }
+
+        MongoNamespace ns = event.getNamespace();
+
+        if (ns == null) {
+            changes.all = true;
+            return;
+        }
+
+        // 이름이 바뀐 컬렉션은 바뀐 이름의 캐시도 무효화함
+        MongoNamespace to = event.getDestinationNamespace();
+
+        if (to != null) {
+            String toColNm = to.getCollectionName();
+
+            // 임시 컬렉션의 이름을 바꿔서 교체한 차트(MelonMapper.replaceSong)
+            if (MelonQueries.DAILY_COL_PATTERN.matcher(toColNm).matches()) {
+                changes.charts.add(toColNm);
+
+            } else {
+                changes.others.add(toColNm);
+            }
+        }
+
+        String colNm = ns.getCollectionName();
+        Document doc = event.getFullDocument();
+
+        // 차트 교체용 임시 컬렉션은 조회되지 않으므로 무효화하지 않음
+        if (colNm.contains("_TMP_")) {
+            return;
+        }
+
+        if (MelonQueries.DAILY_COL_PATTERN.matcher(colNm).matches()) {
+            changes.charts.add(colNm);
+
+        } else if (MelonQueries.CHART_COL.equals(colNm)) {
+            Date chartDate = doc == null ? null : doc.getDate("chartDate");
+
+            if (chartDate == null) { // 삭제(문서가 전달되지 않음)
+                changes.all = true;
+
+            } else {
+                changes.charts.add(MelonQueries.colNm(chartDate));
+            }
+
+        } else if (MelonQueries.SINGER_CNT_COL.equals(colNm)) {
+            String summaryColNm = doc == null ? null : doc.getString("colNm");
+
+            if (summaryColNm == null) { // 삭제(문서가 전달되지 않아 날짜별 요약 버전을 알 수 없음)
+                changes.all = true;
+
+            } else {
+                changes.summaries.add(summaryColNm);
+            }
+
+        } else {
+            changes.others.add(colNm);
+        }
+    }
+
+    /**
+     * 모은 변경 내역으로 캐시 무효화하기
+     */
+    private void flush(Changes changes) throws Exception {
+
+        log.info("change stream flush - events : {}, charts : {}, summaries : {}, others : {}, all : {}",
+                changes.size, changes.charts, changes.summaries, changes.others, changes.all);
+
+        // 차트 수집이 저장한 날짜는 요약, 가수 필터, 순위표를 이미 반영했으므로 버전만 올림
+        // (다시 만들면 저장할 때 만든 가수 필터와 순위표가 삭제됨)
+        Set<String> maintained = this.maintained(changes);
+
+        Set<String> rebuilt = new HashSet<>(changes.charts);
+        rebuilt.removeAll(maintained);
+
+        // 1. 요약 컬렉션을 거치지 않은 변경도 가수별 노래 수에 반영하기
+        if (refreshSummary) {
+            for (String colNm : rebuilt) {
+                melonMapper.refreshSingerSongCnt(colNm);
+            }
+        }
+
+        // 2. 조회 결과 캐시 버전 올리기(요약이 바뀌었거나 다시 만들었으면 해당 날짜의 요약 버전도 올림)
+        Set<String> colNms = new HashSet<>(changes.charts);
+        colNms.addAll(changes.others);
+
+        Set<String> summaryChanged = new HashSet<>(changes.summaries);
+
+        if (refreshSummary) {
+            summaryChanged.addAll(rebuilt);
+        }
+
+        summaryChanged.forEach(colNm -> colNms.add(MelonQueries.singerCntVersion(colNm)));
+
+        if (!colNms.isEmpty()) {
+            collectionVersionMapper.incVersion(colNms.toArray(String[]::new));
+        }
+
+        // 3. 다시 만든 요약, 애플리케이션 밖에서 바뀐 요약으로 가수 필터와 순위표 다시 만들도록 삭제하기
+        Set<String> singerChanged = new HashSet<>(rebuilt);
+        singerChanged.addAll(changes.summaries);
+        singerChanged.removeAll(maintained);
+
+        for (String colNm : singerChanged) {
+            singerFilter.invalidate(colNm);
+            melonRankMapper.deleteSingerCnt(colNm);
+        }
+
+        if (changes.all) {
+            this.clear(MelonCacheNames.QUERY);
+        }
+
+        // 서비스 캐시 키는 오늘 날짜만 사용하므로 오늘 차트가 바뀌었을 때만 삭제함
+        String today = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+
+        if (changes.all || changes.charts.contains(today) || changes.summaries.contains(today)) {
+            MelonCacheNames.CHART.forEach(this::clear);
+        }
+
+        if (prewarm) {
+            for (String colNm : changes.charts) {
+                melonMapper.getSongList(colNm);
+            }
+        }
+    }
+
+    /**
+     * 관리 표시가 남아있는 날짜 가져오기(확인에 실패한 날짜는 다시 만듦)
+     */
+    private Set<String> maintained(Changes changes) {
+        Set<String> colNms = new HashSet<>(changes.charts);
+        colNms.addAll(changes.summaries);
+
+        Set<String> rSet = new HashSet<>();
+
+        for (String colNm : colNms) {
+            try {
+                if (changeStreamMapper.isMaintained(colNm)) {
+                    rSet.add(colNm);
+                }
+
+            } catch (Exception e) {
+                log.warn("change stream maintained check fail - colNm : {}, {}", colNm, e.getMessage());
+            }
+        }
+
+        return rSet;
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
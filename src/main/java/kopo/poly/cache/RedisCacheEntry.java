@@ -0,0 +1,34 @@
+package kopo.poly.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+
+/**
+ * RedisCache.put 대신 직접 저장할 RedisDB 키, 직렬화된 값, 유효시간
+ * <p>
+ * 분산 Single-Flight에서 임대 확인과 캐시 저장을 Lua 스크립트 1번으로 처리하기 위해 사용함
+ * 키는 RedisCache와 같게 "캐시 접두어 + 문자열로 변환된 키"로 만듦(CacheConfig의 키 직렬화는 StringRedisSerializer)
+ */
+public record RedisCacheEntry(
+        String key, // RedisDB 키
+        byte[] value, // 직렬화된 캐시 값
+        Duration ttl // 유효시간(0 이하면 유효시간 없음)
+) {
+
+    public static RedisCacheEntry of(RedisCache cache, Object key, Object value) {
+        RedisCacheConfiguration conf = cache.getCacheConfiguration();
+
+        String cacheKey = String.valueOf(key);
+
+        if (conf.usePrefix()) {
+            cacheKey = conf.getKeyPrefixFor(cache.getName()) + cacheKey;
+        }
+
+        byte[] bytes = ByteUtils.getBytes(conf.getValueSerializationPair().write(value));
+
+        return new RedisCacheEntry(cacheKey, bytes, conf.getTtlFunction().getTimeToLive(key, value));
+    }
+}
@@ -0,0 +1,261 @@
+package kopo.poly.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 여러 서버(파드)에서 같은 키의 캐시 Miss가 동시에 발생해도 원본(DB) 조회는 1번만 수행하도록 하는 분산 Single-Flight
+ * <p>
+ * 1. 임대(lease)가 없을 때만 펜싱 토큰(INCR)을 발급받아 임대를 획득하고(Lua 스크립트), 획득한 서버만 원본 조회
+ * 2. 원본 조회 후 임대가 아직 자신의 토큰일 때만 캐시에 저장하고(확인과 저장을 Lua 스크립트 1번으로 실행),
+ * 임대 해제 후 Pub/Sub으로 완료 알림
+ * 3. 임대를 얻지 못한 서버는 완료 알림(또는 주기적인 캐시 재조회)을 기다림
+ * 4. 대기 시간이 지나면 이전 값(stale)을 반환하고, 이전 값도 없으면 직접 원본 조회
+ */
+@Slf4j
+public class RedisSingleFlightCoordinator implements CacheLoadCoordinator, MessageListener {
+
+    // 임대가 없을 때만 펜싱 토큰을 발급받아 임대 획득하기(대기 중인 서버가 재시도할 때마다 토큰이 증가하지 않도록)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return nil end "
+                    + "local token = redis.call('incr', KEYS[2]) "
+                    + "redis.call('set', KEYS[1], token, 'PX', ARGV[1]) "
+                    + "return token",
+            Long.class);
+
+    // 임대가 자신의 토큰일 때만 캐시 저장하기(KEYS[2..] : 캐시 키, ARGV[1] : 토큰, 이후 캐시 값/유효시간(ms) 반복)
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "for i = 2, #KEYS do "
+                    + "local ttl = tonumber(ARGV[i * 2 - 1]) "
+                    + "if ttl > 0 then redis.call('set', KEYS[i], ARGV[i * 2 - 2], 'PX', ttl) "
+                    + "else redis.call('set', KEYS[i], ARGV[i * 2 - 2]) end "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    // 자신의 토큰일 때만 임대 해제하기(다른 서버가 다시 획득한 임대를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final StringRedisTemplate redisDB;
+
+    private final String channel;
+
+    private final Duration lease;
+
+    private final Duration waitTimeout;
+
+    private final Duration pollInterval;
+
+    // 이 서버에서 완료 알림을 기다리는 요청
+    private final Map<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    public RedisSingleFlightCoordinator(StringRedisTemplate redisDB, String channel, Duration lease,
+                                        Duration waitTimeout, Duration pollInterval) {
+        this.redisDB = redisDB;
+        this.channel = channel;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    private static String leaseKey(String loadKey) {
+        return "lease:" + loadKey;
+    }
+
+    private static String fenceKey(String loadKey) {
+        return "lease:" + loadKey + ":fence";
+    }
+
+    /**
+     * 임대 획득하기
+     *
+     * @return 획득한 펜싱 토큰(획득 실패시 null)
+     */
+    private String tryAcquire(String loadKey) {
+        Long token = redisDB.execute(ACQUIRE_SCRIPT, List.of(leaseKey(loadKey), fenceKey(loadKey)),
+                String.valueOf(lease.toMillis()));
+
+        return token == null ? null : String.valueOf(token);
+    }
+
+    /**
+     * 임대가 아직 자신의 토큰일 때만 캐시에 저장하기
+     *
+     * @return 저장 여부(다른 서버가 임대를 가져갔으면 false)
+     */
+    private boolean writeAsOwner(String loadKey, String token, Object value, Writer writer) {
+        List<RedisCacheEntry> entries = writer.entries(value);
+
+        if (entries.isEmpty()) { // RedisCache가 아니면 임대 확인 후 저장(확인과 저장 사이에 임대가 만료될 수 있음)
+            if (!token.equals(redisDB.opsForValue().get(leaseKey(loadKey)))) {
+                return false;
+            }
+
+            writer.write(value);
+
+            return true;
+        }
+
+        List<String> keys = new ArrayList<>(entries.size() + 1);
+        List<Object> args = new ArrayList<>(entries.size() * 2 + 1);
+
+        keys.add(leaseKey(loadKey));
+        args.add(token.getBytes(StandardCharsets.UTF_8));
+
+        for (RedisCacheEntry entry : entries) {
+            long ttl = entry.ttl() == null ? 0 : entry.ttl().toMillis();
+
+            keys.add(entry.key());
+            args.add(entry.value());
+            args.add(String.valueOf(ttl).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Long res = redisDB.execute(WRITE_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER, keys, args.toArray());
+
+        if (res == null || res == 0) {
+            return false;
+        }
+
+        writer.writeLocal(value);
+
+        return true;
+    }
+
+    private void release(String loadKey, String token) {
+        redisDB.execute(RELEASE_SCRIPT, List.of(leaseKey(loadKey)), token);
+        redisDB.convertAndSend(channel, loadKey);
+    }
+
+    @Override
+    public Object load(String loadKey, Callable<Object> compute, Writer writer,
+                       Supplier<Object> reader, Supplier<Object> staleReader) throws Exception {
+
+        String token;
+
+        try {
+            token = this.tryAcquire(loadKey);
+
+        } catch (RuntimeException e) {
+            // RedisDB 장애시 서버별로 원본 조회
+            log.warn("lease acquire fail - loadKey : {}, {}", loadKey, e.getMessage());
+            return LOCAL.load(loadKey, compute, writer, reader, staleReader);
+        }
+
+        if (token != null) {
+            return this.computeAsOwner(loadKey, token, compute, writer);
+        }
+
+        log.info("lease held by another instance, waiting - loadKey : {}", loadKey);
+
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            CompletableFuture<Void> signal = waiters.computeIfAbsent(loadKey, k -> new CompletableFuture<>());
+
+            long waitNanos = Math.min(pollInterval.toNanos(), deadline - System.nanoTime());
+
+            try {
+                signal.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                // 완료 알림이 유실될 수 있으므로 주기적으로 캐시 재조회
+            }
+
+            Object value = reader.get();
+
+            if (value != null) {
+                return value;
+            }
+
+            // 임대한 서버가 저장하지 못하고 끝났다면 직접 임대 획득 시도
+            token = this.tryAcquire(loadKey);
+
+            if (token != null) {
+                return this.computeAsOwner(loadKey, token, compute, writer);
+            }
+        }
+
+        Object stale = staleReader.get();
+
+        if (stale != null) {
+            log.info("wait timeout, serving stale value - loadKey : {}", loadKey);
+            return stale;
+        }
+
+        log.info("wait timeout, no stale value, computing locally - loadKey : {}", loadKey);
+
+        return compute.call(); // 임대한 서버의 저장을 덮어쓰지 않도록 캐시에는 저장하지 않음
+    }
+
+    /**
+     * 임대를 획득한 서버만 갱신하고, 다른 서버가 갱신 중이면 기존 값을 계속 사용함(대기하지 않음)
+     */
+    @Override
+    public boolean refresh(String loadKey, Callable<Object> compute, Writer writer) throws Exception {
+        String token = this.tryAcquire(loadKey);
+
+        if (token == null) {
+            return false;
+        }
+
+        return this.computeAsOwner(loadKey, token, compute, writer) != null;
+    }
+
+    private Object computeAsOwner(String loadKey, String token, Callable<Object> compute,
+                                  Writer writer) throws Exception {
+        try {
+            Object value = compute.call();
+
+            // 원본 조회가 임대 시간보다 오래 걸려 다른 서버가 임대를 가져갔다면 저장하지 않음
+            if (value != null && !this.writeAsOwner(loadKey, token, value, writer)) {
+                log.warn("lease lost before write, skip cache write - loadKey : {}, token : {}", loadKey, token);
+            }
+
+            return value;
+
+        } finally {
+            this.release(loadKey, token);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 원본 조회 완료 알림 처리하기
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String loadKey = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        CompletableFuture<Void> signal = waiters.remove(loadKey);
+
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,430 @@
+package kopo.poly.cache;
+
+import kopo.poly.dto.CacheStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 서버 메모리(L1, Caffeine)와 RedisDB(L2)를 순서대로 조회하는 2단계 캐시
+ * <p>
+ * - 조회 : L1 -> L2 -> 원본(DB) 순서로 조회하고, 하위 단계에서 찾은 값은 상위 단계에 채움
+ * - 삭제 : L2와 L1을 모두 지우고, 다른 서버(파드)의 L1도 지우도록 Redis Pub/Sub으로 알림
+ * - 원본 조회 : CacheLoadCoordinator를 통해 여러 서버 중 1대만 원본을 조회하고, 이전 값(stale)은 별도 캐시에 보관함
+ * - 갱신 : 값은 CacheEnvelope로 저장하며, 소프트 TTL이 지났거나 XFetch 조기 갱신 대상이면
+ * 기존 값을 바로 반환하고 refreshExecutor에서 백그라운드로 갱신함
+ * <p>
+ * L1의 키는 RedisCache와 동일하게 문자열로 변환된 키를 사용함(Pub/Sub 메시지로 키를 전달하기 위함)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+
+    // L1 : 서버 메모리 캐시
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+
+    // L2 : RedisDB 캐시
+    private final Cache remote;
+
+    // 삭제되어도 남겨두는 이전 값(stale) 캐시, 원본 조회 대기 시간이 지났을 때 사용
+    private final Cache stale;
+
+    // 캐시 Miss시 원본 조회 조정(분산 Single-Flight 등)
+    private final CacheLoadCoordinator coordinator;
+
+    // 삭제 알림 전송(캐시 이름, 삭제할 키 / 전체 삭제는 null)
+    private final BiConsumer<String, String> publisher;
+
+    // 백그라운드 갱신 쓰레드풀
+    private final Executor refreshExecutor;
+
+    // 소프트 TTL(ms)
+    private final long softTtlMillis;
+
+    // XFetch 조기 갱신 강도(0이면 조기 갱신하지 않음, 클수록 일찍 갱신)
+    private final double beta;
+
+    // 이 서버에서 L1 Miss로 조회 중인 키(같은 키의 동시 요청은 결과를 같이 사용함)
+    private final Map<String, CompletableFuture<CacheEnvelope>> loading = new ConcurrentHashMap<>();
+
+    // 이 서버에서 갱신 중인 키(같은 키를 중복 갱신하지 않도록)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    // 단계별 Hit/Miss 건수
+    private final LongAdder l1Hit = new LongAdder();
+    private final LongAdder l1Miss = new LongAdder();
+    private final LongAdder l2Hit = new LongAdder();
+    private final LongAdder l2Miss = new LongAdder();
+    private final LongAdder remoteInvalidation = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder earlyRefresh = new LongAdder();
+    private final LongAdder refreshSuccess = new LongAdder();
+    private final LongAdder refreshFail = new LongAdder();
+    private final LongAdder refreshRejected = new LongAdder();
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote, Cache stale, CacheLoadCoordinator coordinator,
+                         BiConsumer<String, String> publisher, Executor refreshExecutor,
+                         long softTtlMillis, double beta) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.stale = stale;
+        this.coordinator = coordinator;
+        this.publisher = publisher;
+        this.refreshExecutor = refreshExecutor;
+        this.softTtlMillis = softTtlMillis;
+        this.beta = beta;
+    }
+
+    private static String toKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static CacheEnvelope unwrap(ValueWrapper wrapper) {
+        return wrapper == null ? null : CacheEnvelope.from(wrapper.get());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toKey(key);
+
+        CacheEnvelope envelope = (CacheEnvelope) local.getIfPresent(localKey);
+
+        if (envelope != null) {
+            l1Hit.increment();
+            return new SimpleValueWrapper(envelope.value());
+        }
+
+        l1Miss.increment();
+
+        envelope = unwrap(remote.get(key));
+
+        if (envelope == null) {
+            l2Miss.increment();
+            return null;
+        }
+
+        l2Hit.increment();
+
+        // L2에서 찾은 값은 L1에 채우기
+        local.put(localKey, envelope);
+
+        return new SimpleValueWrapper(envelope.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = this.get(key);
+
+        Object value = wrapper == null ? null : wrapper.get();
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    /**
+     * @Cacheable(sync = true) 에서 호출됨
+     * 같은 키에 대한 동시 요청은 loading에 등록된 1건만 L2 조회하고 나머지는 결과를 기다리며(서버 내),
+     * L2 Miss시 원본 조회는 CacheLoadCoordinator가 서버간 1건만 수행하도록 조정함
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toKey(key);
+
+        CacheEnvelope envelope = (CacheEnvelope) local.getIfPresent(localKey);
+
+        if (envelope != null) {
+            l1Hit.increment();
+
+        } else {
+            envelope = this.loadShared(key, localKey, valueLoader);
+        }
+
+        if (envelope == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+
+        if (envelope.expiredAt(now)) {
+            staleServed.increment();
+            this.refreshAsync(key, localKey, valueLoader);
+
+        } else if (beta > 0 && envelope.earlyRefreshAt(now, beta)) {
+            earlyRefresh.increment();
+            this.refreshAsync(key, localKey, valueLoader);
+        }
+
+        return (T) envelope.value();
+    }
+
+    /**
+     * L1 Miss시 L2 -> 원본 순서로 조회하기
+     * <p>
+     * Caffeine의 local.get(key, mappingFunction)은 ConcurrentHashMap.compute 안(synchronized)에서 실행되므로,
+     * 그 안에서 RedisDB/MongoDB 조회나 다른 서버의 원본 조회 대기(최대 wait-timeout)를 하면
+     * 가상 쓰레드가 캐리어 쓰레드를 고정(pinning)시키고 같은 해시 구간의 다른 키 조회도 막힘
+     * 그래서 조회 중인 키는 CompletableFuture로 등록하고, 조회는 잠금 밖에서 실행함
+     */
+    private CacheEnvelope loadShared(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<CacheEnvelope> mine = new CompletableFuture<>();
+        CompletableFuture<CacheEnvelope> inFlight = loading.putIfAbsent(localKey, mine);
+
+        if (inFlight != null) { // 같은 서버에서 이미 조회 중이면 결과 기다리기
+            try {
+                return inFlight.join();
+
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            CacheEnvelope envelope = this.loadRemote(key, localKey, valueLoader);
+
+            if (envelope != null) { // null이면 L1에 저장하지 않음
+                local.put(localKey, envelope);
+            }
+
+            mine.complete(envelope);
+
+            return envelope;
+
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loading.remove(localKey, mine);
+        }
+    }
+
+    private CacheEnvelope loadRemote(Object key, String localKey, Callable<?> valueLoader) {
+        l1Miss.increment();
+
+        CacheEnvelope rEnvelope = unwrap(remote.get(key));
+
+        if (rEnvelope != null) {
+            l2Hit.increment();
+            return rEnvelope;
+        }
+
+        l2Miss.increment();
+
+        try {
+            // L1 저장은 loadShared에서 함
+            return (CacheEnvelope) coordinator.load(this.loadKey(localKey), this.compute(valueLoader),
+                    this.writer(key, localKey, false),
+                    () -> unwrap(remote.get(key)),
+                    () -> unwrap(stale.get(key)));
+
+        } catch (ValueRetrievalException e) {
+            throw e;
+
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private String loadKey(String localKey) {
+        return name + "::" + localKey;
+    }
+
+    /**
+     * 원본 조회 시간을 측정하여 CacheEnvelope로 감싸기
+     */
+    private Callable<Object> compute(Callable<?> valueLoader) {
+        return () -> {
+            long start = System.nanoTime();
+
+            Object value = valueLoader.call();
+
+            if (value == null) {
+                return null;
+            }
+
+            return CacheEnvelope.wrap(value, softTtlMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        };
+    }
+
+    /**
+     * L2와 이전 값(stale) 캐시에 저장하기
+     */
+    private void write(Object key, CacheEnvelope envelope) {
+        remote.put(key, envelope);
+        stale.put(key, envelope);
+    }
+
+    /**
+     * CacheLoadCoordinator에 전달할 저장 객체 만들기
+     *
+     * @param fillLocal 저장 후 L1에도 저장할지 여부
+     */
+    private CacheLoadCoordinator.Writer writer(Object key, String localKey, boolean fillLocal) {
+        return new CacheLoadCoordinator.Writer() {
+
+            @Override
+            public void write(Object value) {
+                TwoLevelCache.this.write(key, (CacheEnvelope) value);
+                this.writeLocal(value);
+            }
+
+            @Override
+            public List<RedisCacheEntry> entries(Object value) {
+                if (!(remote instanceof RedisCache r) || !(stale instanceof RedisCache s)) {
+                    return List.of();
+                }
+
+                return List.of(RedisCacheEntry.of(r, key, value), RedisCacheEntry.of(s, key, value));
+            }
+
+            @Override
+            public void writeLocal(Object value) {
+                if (fillLocal) {
+                    local.put(localKey, value);
+                }
+            }
+        };
+    }
+
+    /**
+     * 기존 값은 그대로 반환하고 백그라운드에서 원본 조회 후 갱신하기
+     * 다른 서버가 갱신 중이면 갱신하지 않음(CacheLoadCoordinator.refresh 참고)
+     */
+    private void refreshAsync(Object key, String localKey, Callable<?> valueLoader) {
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    boolean refreshed = coordinator.refresh(this.loadKey(localKey), this.compute(valueLoader),
+                            this.writer(key, localKey, true));
+
+                    if (refreshed) {
+                        refreshSuccess.increment();
+
+                        // 다른 서버의 L1에 남은 이전 값 삭제하기
+                        publisher.accept(name, localKey);
+                    }
+
+                } catch (Exception e) {
+                    refreshFail.increment();
+                    log.warn("cache refresh fail - cacheName : {}, key : {}, {}", name, localKey, e.getMessage());
+
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            // 갱신 쓰레드풀이 가득 차면 이번 갱신은 건너뛰고 다음 조회에서 다시 시도함
+            refreshRejected.increment();
+            refreshing.remove(localKey);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            remote.put(key, null);
+            return;
+        }
+
+        CacheEnvelope envelope = CacheEnvelope.wrap(value, softTtlMillis, 0);
+
+        this.write(key, envelope);
+        local.put(toKey(key), envelope);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(toKey(key));
+
+        // 다른 서버의 L1도 삭제하도록 알리기
+        publisher.accept(name, toKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+
+        // 다른 서버의 L1도 전체 삭제하도록 알리기
+        publisher.accept(name, null);
+    }
+
+    /**
+     * 다른 서버에서 전달된 삭제 알림으로 L1만 삭제하기(L2는 알림을 보낸 서버가 이미 삭제함)
+     *
+     * @param key 삭제할 키(null이면 전체 삭제)
+     */
+    void evictLocal(String key) {
+        remoteInvalidation.increment();
+
+        if (key == null) {
+            local.invalidateAll();
+
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    /**
+     * 단계별 Hit/Miss 건수 가져오기
+     */
+    CacheStatsDTO getStats() {
+        return CacheStatsDTO.builder()
+                .cacheName(name)
+                .l1Size(local.estimatedSize())
+                .l1HitCnt(l1Hit.sum())
+                .l1MissCnt(l1Miss.sum())
+                .l2HitCnt(l2Hit.sum())
+                .l2MissCnt(l2Miss.sum())
+                .remoteInvalidationCnt(remoteInvalidation.sum())
+                .staleServedCnt(staleServed.sum())
+                .earlyRefreshCnt(earlyRefresh.sum())
+                .refreshSuccessCnt(refreshSuccess.sum())
+                .refreshFailCnt(refreshFail.sum())
+                .refreshRejectedCnt(refreshRejected.sum())
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package kopo.poly.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kopo.poly.dto.CacheStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * L1(Caffeine) + L2(RedisCacheManager) 2단계 CacheManager
+ * <p>
+ * 캐시 삭제시 Redis Pub/Sub 채널로 알림을 보내고, 같은 채널을 구독하여 다른 서버가 보낸 알림을 받으면 L1만 삭제함
+ * 캐시 Miss시 원본 조회는 등록된 CacheLoadCoordinator가 조정함(모든 캐시에 동일하게 적용)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    // 이 서버의 식별값(자신이 보낸 알림 구분용)
+    private final String origin = UUID.randomUUID().toString();
+
+    private final CacheManager remoteCacheManager;
+
+    // 이전 값(stale) 보관용, remoteCacheManager보다 유효시간을 길게 설정함
+    private final CacheManager staleCacheManager;
+
+    private final CacheLoadCoordinator coordinator;
+
+    private final StringRedisTemplate redisDB;
+
+    private final ObjectMapper objectMapper;
+
+    private final String channel;
+
+    private final long localMaxWeight;
+
+    private final Duration localTtl;
+
+    // 백그라운드 갱신 쓰레드풀
+    private final Executor refreshExecutor;
+
+    private final Duration softTtl;
+
+    // 캐시 이름별 소프트 TTL(없으면 softTtl 사용)
+    private final Map<String, Duration> softTtls;
+
+    private final double beta;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, CacheManager staleCacheManager,
+                                CacheLoadCoordinator coordinator, StringRedisTemplate redisDB, ObjectMapper objectMapper,
+                                String channel, long localMaxWeight, Duration localTtl,
+                                Executor refreshExecutor, Duration softTtl, Map<String, Duration> softTtls,
+                                double beta) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.staleCacheManager = staleCacheManager;
+        this.coordinator = coordinator;
+        this.redisDB = redisDB;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.localMaxWeight = localMaxWeight;
+        this.localTtl = localTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.softTtl = softTtl;
+        this.softTtls = softTtls;
+        this.beta = beta;
+    }
+
+    /**
+     * L1 저장 용량 계산(노래 리스트처럼 컬렉션은 원소 수, 그 외는 1)
+     */
+    private static int weigh(Object value) {
+        if (value instanceof CacheEnvelope e) {
+            return weigh(e.value());
+
+        } else if (value instanceof Collection<?> c) {
+            return Math.max(1, c.size());
+
+        } else if (value instanceof Map<?, ?> m) {
+            return Math.max(1, m.size());
+        }
+
+        return 1;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            Cache stale = staleCacheManager.getCache(cacheName);
+
+            if (remote == null || stale == null) {
+                return null;
+            }
+
+            // 원소 수 기준으로 용량을 제한하고, 알림이 유실되어도 오래된 값이 남지 않도록 유효시간 설정
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumWeight(localMaxWeight)
+                    .weigher((String k, Object v) -> weigh(v))
+                    .expireAfterWrite(localTtl)
+                    .build();
+
+            return new TwoLevelCache(cacheName, local, remote, stale, coordinator, this::publish,
+                    refreshExecutor, softTtls.getOrDefault(cacheName, softTtl).toMillis(), beta);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 서버에 L1 삭제 알리기
+     * 알림 전송에 실패해도 L2는 이미 삭제되었으므로, 다른 서버의 L1은 유효시간이 지나면 갱신됨
+     */
+    private void publish(String cacheName, String key) {
+        try {
+            String msg = objectMapper.writeValueAsString(new CacheInvalidationMessage(origin, cacheName, key));
+            redisDB.convertAndSend(channel, msg);
+
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("cache invalidation publish fail - cacheName : {}, key : {}, {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 L1 삭제 알림 처리하기
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage msg = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+
+            if (origin.equals(msg.origin())) { // 자신이 보낸 알림은 이미 처리됨
+                return;
+            }
+
+            log.info("cache invalidation received - cacheName : {}, key : {}", msg.cacheName(), msg.key());
+
+            TwoLevelCache cache = caches.get(msg.cacheName());
+
+            if (cache != null) {
+                cache.evictLocal(msg.key());
+            }
+
+        } catch (IOException e) {
+            log.warn("cache invalidation message parse fail : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시별 단계별 Hit/Miss 건수 가져오기
+     */
+    public List<CacheStatsDTO> getStats() {
+        return caches.values().stream().map(TwoLevelCache::getStats).toList();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
@@ -1,35 +1,145 @@
 package kopo.poly.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kopo.poly.cache.CacheLoadCoordinator;
+import kopo.poly.cache.MelonCacheKeyGenerator;
+import kopo.poly.cache.MelonCacheNames;
+import kopo.poly.cache.RedisSingleFlightCoordinator;
+import kopo.poly.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class CacheConfig {
 
+    /**
+     * 멜론 차트 캐시 키 생성기(MELON_yyyyMMdd:메서드이름[:파라미터 해시], @MelonCacheable 참고)
+     */
     @Bean("melonKeyGen")
     public KeyGenerator melonKeyGen() {
-        return (target, method, params) ->
-                "MELON_" + java.time.LocalDate.now(java.time.ZoneId.of("Asia/Seoul"))
-                        .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
+        return new MelonCacheKeyGenerator();
     }
 
+    /**
+     * 여러 서버 중 1대만 원본(DB)을 조회하도록 하는 분산 Single-Flight
+     */
     @Bean
-    RedisCacheManager redisCacheManager(RedisConnectionFactory cf) {
+    RedisSingleFlightCoordinator cacheLoadCoordinator(StringRedisTemplate stringRedisTemplate,
+                                                      @Value("${melon.cache.lock.channel:melon:cache:loaded}") String channel,
+                                                      @Value("${melon.cache.lock.lease:10s}") Duration lease,
+                                                      @Value("${melon.cache.lock.wait-timeout:3s}") Duration waitTimeout,
+                                                      @Value("${melon.cache.lock.poll-interval:200ms}") Duration pollInterval) {
+        return new RedisSingleFlightCoordinator(stringRedisTemplate, channel, lease, waitTimeout, pollInterval);
+    }
+
+    /**
+     * 소프트 TTL이 지난 캐시 값을 백그라운드로 갱신하는 쓰레드풀
+     * 대기열이 가득 차면 갱신을 건너뛰고(기존 값 사용), 건너뛴 수는 /cache/v1/getCacheStats 의 refreshRejectedCnt로 확인
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    ThreadPoolTaskExecutor cacheRefreshExecutor(@Value("${melon.cache.refresh.pool-size:2}") int poolSize,
+                                                @Value("${melon.cache.refresh.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    /**
+     * 서버 메모리(L1, Caffeine) + RedisDB(L2) 2단계 CacheManager
+     * RedisCacheManager는 L2로만 사용하므로 Bean으로 등록하지 않음(CacheManager Bean이 2개가 되지 않도록)
+     */
+    @Bean
+    TwoLevelCacheManager cacheManager(RedisConnectionFactory cf, StringRedisTemplate stringRedisTemplate,
+                                      ObjectMapper objectMapper, CacheLoadCoordinator cacheLoadCoordinator,
+                                      @Value("${melon.cache.invalidation-channel:melon:cache:invalidate}") String channel,
+                                      @Value("${melon.cache.local.max-weight:10000}") long localMaxWeight,
+                                      @Value("${melon.cache.local.ttl:5m}") Duration localTtl,
+                                      @Value("${melon.cache.stale.ttl:1d}") Duration staleTtl,
+                                      @Value("${melon.cache.hard-ttl:3h}") Duration hardTtl,
+                                      @Value("${melon.cache.soft-ttl:10m}") Duration softTtl,
+                                      @Value("${melon.cache.xfetch-beta:1.0}") double beta,
+                                      @Value("${melon.cache.singer-song.hard-ttl:1h}") Duration singerSongHardTtl,
+                                      @Value("${melon.cache.singer-song.soft-ttl:10m}") Duration singerSongSoftTtl,
+                                      @Value("${melon.cache.singer-cnt.hard-ttl:1h}") Duration singerCntHardTtl,
+                                      @Value("${melon.cache.singer-cnt.soft-ttl:10m}") Duration singerCntSoftTtl,
+                                      @Value("${melon.cache.query.hard-ttl:1d}") Duration queryHardTtl,
+                                      @Value("${melon.cache.query.soft-ttl:1d}") Duration querySoftTtl,
+                                      @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
         var json = new GenericJackson2JsonRedisSerializer();
         var conf = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(json))
-                .entryTtl(Duration.ofHours(3)) // 필요 TTL
+                .entryTtl(hardTtl) // 하드 TTL(이 시간이 지나면 RedisDB에서 삭제됨)
                 .disableCachingNullValues();
-        return RedisCacheManager.builder(cf).cacheDefaults(conf).build();
+
+        // 캐시 이름별 하드 TTL / 소프트 TTL(없는 캐시 이름은 melon.cache.hard-ttl / soft-ttl 사용)
+        Map<String, RedisCacheConfiguration> hardTtls = Map.of(
+                MelonCacheNames.SINGER_SONG, conf.entryTtl(singerSongHardTtl),
+                MelonCacheNames.SINGER_CNT, conf.entryTtl(singerCntHardTtl),
+                MelonCacheNames.QUERY, conf.entryTtl(queryHardTtl));
+
+        Map<String, Duration> softTtls = Map.of(
+                MelonCacheNames.SINGER_SONG, singerSongSoftTtl,
+                MelonCacheNames.SINGER_CNT, singerCntSoftTtl,
+                MelonCacheNames.QUERY, querySoftTtl);
+
+        // 캐시 이름 단위 삭제(@MelonCacheEvict)는 KEYS 대신 SCAN으로 찾아서 삭제하기(RedisDB를 멈추지 않도록)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(cf, BatchStrategies.scan(1000));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(conf)
+                .withInitialCacheConfigurations(hardTtls)
+                .build();
+        redisCacheManager.initializeCaches();
+
+        // 캐시가 삭제되어도 남겨두는 이전 값(stale), 키 : stale:캐시이름::키
+        RedisCacheManager staleCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(conf.entryTtl(staleTtl).prefixCacheNameWith("stale:"))
+                .build();
+        staleCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, staleCacheManager, cacheLoadCoordinator,
+                stringRedisTemplate, objectMapper, channel, localMaxWeight, localTtl,
+                cacheRefreshExecutor, softTtl, softTtls, beta);
+    }
+
+    /**
+     * 다른 서버가 보낸 L1 캐시 삭제 알림 및 원본 조회 완료 알림 구독하기
+     */
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationContainer(RedisConnectionFactory cf,
+                                                             TwoLevelCacheManager cacheManager,
+                                                             RedisSingleFlightCoordinator cacheLoadCoordinator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        container.addMessageListener(cacheLoadCoordinator, new ChannelTopic(cacheLoadCoordinator.getChannel()));
+
+        return container;
     }
 }
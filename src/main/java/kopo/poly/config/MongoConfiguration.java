@@ -0,0 +1,87 @@
+package kopo.poly.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.mongodb.MongoCollectionRegistry;
+import kopo.poly.persistance.mongodb.MongoIndexRegistry;
+import kopo.poly.persistance.mongodb.codec.MelonDTOCodec;
+import kopo.poly.persistance.mongodb.codec.MongoDTOCodec;
+import kopo.poly.persistance.mongodb.codec.MovieDTOCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoConfiguration {
+
+    /**
+     * DTO(record) 전용 Codec을 기본 Codec보다 먼저 찾도록 등록한 CodecRegistry
+     */
+    public static final CodecRegistry DTO_CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new MelonDTOCodec(), new MongoDTOCodec(), new MovieDTOCodec()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    /**
+     * MongoClient에 DTO Codec 등록하기
+     * 등록 후 MongoCollection.withDocumentClass(MelonDTO.class) 처럼 DTO를 바로 저장/조회할 수 있음
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer dtoCodecCustomizer() {
+        return builder -> builder.codecRegistry(DTO_CODEC_REGISTRY);
+    }
+
+    /**
+     * 여러 insertMany 배치를 동시에 저장하기 위한 쓰레드풀
+     * MongoDB 커넥션풀 크기보다 작게 설정해야 다른 요청의 조회가 밀리지 않음
+     */
+    @Bean(name = "mongoWriteExecutor", destroyMethod = "shutdown")
+    public ExecutorService mongoWriteExecutor(@Value("${melon.mongo.write.parallelism:4}") int parallelism) {
+        return Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * 이 서버에서 존재를 확인한 컬렉션 이름 저장소(저장 요청마다 collectionExists 호출하지 않음)
+     */
+    @Bean
+    public MongoCollectionRegistry mongoCollectionRegistry(MongoTemplate mongodb) {
+        return new MongoCollectionRegistry(mongodb);
+    }
+
+    /**
+     * 컬렉션 종류별 인덱스 선언
+     * 조회/수정/삭제 조건에 사용하는 필드는 반드시 인덱스를 선언해야 컬렉션 전체 읽기(COLLSCAN)가 발생하지 않음
+     * - 멜론 차트(MELON_yyyyMMdd) : 수집 시간(Date, 기간 조회), 차트 순위(순위순 조회), 가수(+노래 제목, 가수별 조회를 인덱스만으로 처리)
+     * (차트 교체용 임시 컬렉션 MELON_yyyyMMdd_TMP_*도 같은 인덱스를 만들어 두고 이름을 바꿔 교체함)
+     * - 가수별 노래 수 요약(MELON_SINGER_CNT) : $inc upsert / $merge 기준(유일), 날짜별 노래 수 순위 조회
+     * - 날짜 구분 멜론 차트(MELON_CHART) : 날짜별 순위(유일), 날짜별 가수(+노래 제목), 보관 기간(TTL, 단일 필드만 가능)
+     */
+    @Bean
+    public MongoIndexRegistry mongoIndexRegistry(MongoTemplate mongodb,
+                                                 @Value("${melon.mongo.partitioned.retention-days:400}") long retentionDays) {
+        return new MongoIndexRegistry(mongodb)
+                .family("melonDaily", "MELON_\\d{8}(_TMP_[0-9a-f]{24})?",
+                        new IndexModel(Indexes.ascending("collectTime")),
+                        new IndexModel(Indexes.ascending("rank")),
+                        new IndexModel(Indexes.ascending("singer", "song")))
+                .family("melonSingerCnt", MelonQueries.SINGER_CNT_COL,
+                        new IndexModel(Indexes.ascending("colNm", "singer"), new IndexOptions().unique(true)),
+                        new IndexModel(Indexes.compoundIndex(Indexes.ascending("colNm"),
+                                Indexes.descending("singerCnt"), Indexes.ascending("singer"))))
+                .family("melonChart", MelonQueries.CHART_COL,
+                        new IndexModel(Indexes.ascending("chartDate", "rank"), new IndexOptions().unique(true)),
+                        new IndexModel(Indexes.ascending("chartDate", "singer", "song")),
+                        new IndexModel(Indexes.ascending("chartDate"),
+                                new IndexOptions().expireAfter(retentionDays, TimeUnit.DAYS)));
+    }
+}
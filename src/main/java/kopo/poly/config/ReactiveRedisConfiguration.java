@@ -0,0 +1,62 @@
+package kopo.poly.config;
+
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.dto.RedisDTO;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 논블로킹(WebFlux, reactive 프로필)용 ReactiveRedisTemplate
+ * RedisConfiguration과 같이 저장할 데이터 타입별로 Serializer가 설정된 객체를 서버 시작시 한번만 생성하여 사용함
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveRedisConfiguration {
+
+    /**
+     * 키, 값, Hash 구조의 키와 값 모두 String 타입으로 저장하는 ReactiveRedisTemplate
+     */
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate(ReactiveRedisConnectionFactory cf) {
+        return new ReactiveStringRedisTemplate(cf);
+    }
+
+    /**
+     * RedisDTO를 JSON으로 저장하는 ReactiveRedisTemplate
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, RedisDTO> reactiveRedisDTORedisTemplate(ReactiveRedisConnectionFactory cf) {
+        return this.jsonRedisTemplate(cf, RedisDTO.class);
+    }
+
+    /**
+     * MovieDTO를 JSON으로 저장하는 ReactiveRedisTemplate
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, MovieDTO> reactiveMovieRedisTemplate(ReactiveRedisConnectionFactory cf) {
+        return this.jsonRedisTemplate(cf, MovieDTO.class);
+    }
+
+    /**
+     * 키는 String, 값은 JSON으로 저장하는 ReactiveRedisTemplate 생성하기
+     *
+     * @param cf   Redis 접속 정보
+     * @param type JSON으로 변환할 DTO 타입
+     * @return Serializer 설정이 완료된 ReactiveRedisTemplate
+     */
+    private <T> ReactiveRedisTemplate<String, T> jsonRedisTemplate(ReactiveRedisConnectionFactory cf, Class<T> type) {
+        RedisSerializationContext<String, T> context = RedisSerializationContext
+                .<String, T>newSerializationContext(new StringRedisSerializer()) // String 타입
+                .value(new Jackson2JsonRedisSerializer<>(type)) // DTO를 JSON으로 변경하기
+                .build();
+
+        return new ReactiveRedisTemplate<>(cf, context);
+    }
+}
@@ -1,13 +1,22 @@
 package kopo.poly.config;
 
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.dto.RedisDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * RedisTemplate은 여러 요청(쓰레드)이 같이 사용하는 객체이므로, 사용 중에 Serializer를 변경하면 안됨
+ * 저장할 데이터 타입별로 Serializer가 설정된 RedisTemplate을 서버 시작시 한번만 생성하여 사용함
+ */
 @Configuration
 public class RedisConfiguration {
 
@@ -23,8 +32,11 @@ public class RedisConfiguration {
     @Value("${spring.data.redis.password}")
     private String redisPassword;
 
+    /**
+     * LettuceConnectionFactory는 RedisTemplate(블로킹)과 ReactiveRedisTemplate(논블로킹)에서 같이 사용함
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
         redisStandaloneConfiguration.setHostName(redisHost);
         redisStandaloneConfiguration.setPort(redisPort);
@@ -38,6 +50,54 @@ public class RedisConfiguration {
     public RedisTemplate<String, Object> redisTemplate() {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer()); // String 타입
+
+        return redisTemplate;
+    }
+
+    /**
+     * 키, 값, Hash 구조의 키와 값 모두 String 타입으로 저장하는 RedisTemplate
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * RedisDTO를 JSON으로 저장하는 RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, RedisDTO> redisDTORedisTemplate() {
+        return this.jsonRedisTemplate(RedisDTO.class);
+    }
+
+    /**
+     * MovieDTO를 JSON으로 저장하는 RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, MovieDTO> movieRedisTemplate() {
+        return this.jsonRedisTemplate(MovieDTO.class);
+    }
+
+    /**
+     * MelonDTO를 JSON으로 저장하는 RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, MelonDTO> melonRedisTemplate() {
+        return this.jsonRedisTemplate(MelonDTO.class);
+    }
+
+    /**
+     * 키는 String, 값은 JSON으로 저장하는 RedisTemplate 생성하기
+     *
+     * @param type JSON으로 변환할 DTO 타입
+     * @return Serializer 설정이 완료된 RedisTemplate
+     */
+    private <T> RedisTemplate<String, T> jsonRedisTemplate(Class<T> type) {
+        RedisTemplate<String, T> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer()); // String 타입
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(type)); // DTO를 JSON으로 변경하기
 
         return redisTemplate;
     }
@@ -0,0 +1,46 @@
+package kopo.poly.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백엔드 호출(MongoDB, RedisDB, 사이트 접속)을 동시에 실행할 쓰레드 설정
+ * <p>
+ * spring.threads.virtual.enabled=true(vthreads 프로필, JDK 21 이상)이면 호출마다 가상 쓰레드를 생성하고,
+ * 아니면 크기가 제한된 플랫폼 쓰레드풀을 사용함
+ * 가상 쓰레드는 블로킹 호출 동안 캐리어 쓰레드를 반납하므로 쓰레드풀 크기 제한이 필요 없음
+ * (단, synchronized 블록 안에서 블로킹되면 캐리어 쓰레드가 고정(pinning)되므로 README의 가상 쓰레드 항목 참고)
+ */
+@Slf4j
+@Configuration
+public class ThreadConfig {
+
+    @Bean(name = "backendExecutor")
+    AsyncTaskExecutor backendExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                                      @Value("${backend.executor.pool-size:8}") int poolSize) {
+
+        if (virtual) {
+            log.info("backendExecutor : virtual threads");
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("backend-");
+            executor.setVirtualThreads(true);
+
+            return executor;
+        }
+
+        log.info("backendExecutor : platform threads, pool-size : {}", poolSize);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("backend-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        return executor;
+    }
+}
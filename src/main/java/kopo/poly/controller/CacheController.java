@@ -0,0 +1,59 @@
+package kopo.poly.controller;
+
+import kopo.poly.cache.MelonSingerFilter;
+import kopo.poly.cache.TwoLevelCacheManager;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.CacheStatsDTO;
+import kopo.poly.dto.SingerFilterStatsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RequestMapping(value = "/cache/v1")
+@RequiredArgsConstructor
+@RestController
+public class CacheController {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    private final MelonSingerFilter singerFilter;
+
+    /**
+     * 캐시별 L1(서버 메모리) / L2(RedisDB) Hit, Miss 건수 가져오기
+     */
+    @PostMapping(value = "getCacheStats")
+    public ResponseEntity<CommonResponse<List<CacheStatsDTO>>> getCacheStats() {
+
+        log.info("{}.getCacheStats Start!", this.getClass().getName());
+
+        List<CacheStatsDTO> rList = cacheManager.getStats();
+
+        log.info("{}.getCacheStats End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+
+    /**
+     * 날짜별 가수 필터(Bloom 필터) 크기, 예상/실제 오탐률, 조회 건수 가져오기
+     */
+    @PostMapping(value = "getSingerFilterStats")
+    public ResponseEntity<CommonResponse<List<SingerFilterStatsDTO>>> getSingerFilterStats() {
+
+        log.info("{}.getSingerFilterStats Start!", this.getClass().getName());
+
+        List<SingerFilterStatsDTO> rList = singerFilter.getStats();
+
+        log.info("{}.getSingerFilterStats End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+}
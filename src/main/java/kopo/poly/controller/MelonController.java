@@ -1,23 +1,31 @@
 package kopo.poly.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.controller.response.NdjsonResponse;
 import kopo.poly.dto.MelonDTO;
 import kopo.poly.dto.MsgDTO;
 import kopo.poly.service.IMelonService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
+@Profile("!reactive")
 @RequestMapping(value = "/melon/v1")
 @RequiredArgsConstructor
 @RestController
@@ -25,6 +33,12 @@ public class MelonController {
 
     private final IMelonService melonService;
 
+    private final ObjectMapper objectMapper;
+
+    // NDJSON 응답시 몇 건마다 클라이언트로 전송할지
+    @Value("${melon.stream.flush-every:100}")
+    private int streamFlushEvery;
+
     /**
      * 멜론 노래 리스트 저장하기
      */
@@ -39,10 +53,10 @@ public class MelonController {
         int res = melonService.collectMelonSong();
 
         if (res == 1) {
-            msg = "멜론차트 수집 성공!";
+            msg = "멜론차트 수집 요청 성공!";
 
         } else {
-            msg = "멜론차트 수집 실패!";
+            msg = "멜론차트 수집 요청 실패!";
         }
 
         MsgDTO dto = MsgDTO.builder().result(res).msg(msg).build();
@@ -73,15 +87,18 @@ public class MelonController {
 
     /**
      * 가수별 수집된 노래의 수 가져오기
+     * 요청 예 : {"topK" : 10} (상위 10명, 생략하면 전체)
      */
     @PostMapping(value = "getSingerSongCnt")
-    public ResponseEntity<CommonResponse<List<MelonDTO>>> getSingerSongCnt()
-            throws Exception {
+    public ResponseEntity<CommonResponse<List<MelonDTO>>> getSingerSongCnt(
+            @RequestBody(required = false) MelonDTO pDTO) throws Exception {
 
         log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
 
+        log.info("pDTO :{}", pDTO);
+
         // Java 8부터 제공되는 Optional 활용하여 NPE(Null Pointer Exception) 처리
-        List<MelonDTO> rList = Optional.ofNullable(melonService.getSingerSongCnt())
+        List<MelonDTO> rList = Optional.ofNullable(melonService.getSingerSongCnt(pDTO))
                 .orElseGet(ArrayList::new);
 
         log.info("{}.getSingerSongCnt End!", this.getClass().getName());
@@ -90,6 +107,24 @@ public class MelonController {
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
     }
 
+    /**
+     * 저장되어 있는 모든 날짜의 멜론 차트로 가수별 노래 수 요약 만들기
+     */
+    @PostMapping(value = "backfillSingerSongCnt")
+    public ResponseEntity<CommonResponse<MsgDTO>> backfillSingerSongCnt() throws Exception {
+
+        log.info("{}.backfillSingerSongCnt Start!", this.getClass().getName());
+
+        int res = melonService.backfillSingerSongCnt();
+
+        MsgDTO dto = MsgDTO.builder().result(res).msg(res + "개 컬렉션 요약 완료!").build();
+
+        log.info("{}.backfillSingerSongCnt End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
     /**
      * 가수 이름으로 조회하기
      */
@@ -112,6 +147,40 @@ public class MelonController {
     }
 
 
+    /**
+     * 오늘 수집된 멜론 노래리스트 가져오기(NDJSON, 한 줄에 노래 1건)
+     * 컬렉션이 아무리 커도 전체 결과를 메모리에 담지 않고 MongoDB 커서에서 읽는 대로 응답함
+     */
+    @PostMapping(value = "streamSongList", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSongList() throws Exception {
+
+        log.info("{}.streamSongList Start!", this.getClass().getName());
+
+        // 커서는 요청 쓰레드에서 열고(조회 오류는 일반 오류 응답으로 처리), 응답을 다 쓰면 닫힘
+        Stream<MelonDTO> rStream = melonService.streamSongList();
+
+        log.info("{}.streamSongList End!", this.getClass().getName());
+
+        return NdjsonResponse.of(rStream, objectMapper, streamFlushEvery);
+    }
+
+    /**
+     * 가수 이름으로 조회하기(NDJSON, 한 줄에 노래 1건)
+     */
+    @PostMapping(value = "streamSingerSong", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSingerSong(@RequestBody MelonDTO pDTO) throws Exception {
+
+        log.info("{}.streamSingerSong Start!", this.getClass().getName());
+
+        log.info("pDTO :{}", pDTO);
+
+        Stream<MelonDTO> rStream = melonService.streamSingerSong(pDTO);
+
+        log.info("{}.streamSingerSong End!", this.getClass().getName());
+
+        return NdjsonResponse.of(rStream, objectMapper, streamFlushEvery);
+    }
+
     /**
      * 수집된 멜론 차트 컬렉션 삭제하긴
      */
@@ -0,0 +1,108 @@
+package kopo.poly.controller;
+
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.dto.SingerRankDTO;
+import kopo.poly.service.IMelonRankService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 오늘 멜론 차트의 가수별 노래 수 순위(RedisDB Sorted Set)
+ */
+@Slf4j
+@Profile("!reactive")
+@RequestMapping(value = "/melon/rank/v1")
+@RequiredArgsConstructor
+@RestController
+public class MelonRankController {
+
+    private final IMelonRankService melonRankService;
+
+    /**
+     * 노래 수 상위 가수 가져오기
+     * 요청 예 : {"topK" : 10} (상위 10명, 생략하면 전체)
+     */
+    @PostMapping(value = "getTopSinger")
+    public ResponseEntity<CommonResponse<List<SingerRankDTO>>> getTopSinger(
+            @RequestBody(required = false) SingerRankDTO pDTO) throws Exception {
+
+        log.info("{}.getTopSinger Start!", this.getClass().getName());
+
+        log.info("pDTO :{}", pDTO);
+
+        List<SingerRankDTO> rList = melonRankService.getTopSinger(pDTO);
+
+        log.info("{}.getTopSinger End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+
+    /**
+     * 가수의 노래 수와 순위 가져오기(차트에 없는 가수면 data 없음)
+     * 요청 예 : {"singer" : "아이유"}
+     */
+    @PostMapping(value = "getSingerRank")
+    public ResponseEntity<CommonResponse<SingerRankDTO>> getSingerRank(@RequestBody SingerRankDTO pDTO)
+            throws Exception {
+
+        log.info("{}.getSingerRank Start!", this.getClass().getName());
+
+        log.info("pDTO :{}", pDTO);
+
+        SingerRankDTO rDTO = melonRankService.getSingerRank(pDTO);
+
+        log.info("{}.getSingerRank End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+    }
+
+    /**
+     * 노래 수가 범위 안에 있는 가수 가져오기
+     * 요청 예 : {"minCnt" : 2, "maxCnt" : 5} (maxCnt 생략하면 제한 없음)
+     */
+    @PostMapping(value = "getSingerCntRange")
+    public ResponseEntity<CommonResponse<List<SingerRankDTO>>> getSingerCntRange(
+            @RequestBody(required = false) SingerRankDTO pDTO) throws Exception {
+
+        log.info("{}.getSingerCntRange Start!", this.getClass().getName());
+
+        log.info("pDTO :{}", pDTO);
+
+        List<SingerRankDTO> rList = melonRankService.getSingerCntRange(pDTO);
+
+        log.info("{}.getSingerCntRange End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+
+    /**
+     * 순위표를 MongoDB 요약 컬렉션으로 다시 만들기
+     */
+    @PostMapping(value = "rebuildSingerRank")
+    public ResponseEntity<CommonResponse<MsgDTO>> rebuildSingerRank() throws Exception {
+
+        log.info("{}.rebuildSingerRank Start!", this.getClass().getName());
+
+        long res = melonRankService.rebuildSingerRank();
+
+        MsgDTO dto = MsgDTO.builder().result((int) res).msg(res + "명 순위표 저장 완료!").build();
+
+        log.info("{}.rebuildSingerRank End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+}
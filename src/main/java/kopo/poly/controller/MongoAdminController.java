@@ -0,0 +1,94 @@
+package kopo.poly.controller;
+
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.ChartMigrationDTO;
+import kopo.poly.dto.IndexBuildDTO;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.service.IMongoAdminService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RequestMapping(value = "/mongo/admin/v1")
+@RequiredArgsConstructor
+@RestController
+public class MongoAdminController {
+
+    private final IMongoAdminService mongoAdminService;
+
+    /**
+     * 인덱스 생성 이력 가져오기(컬렉션, 인덱스별 상태 및 소요 시간)
+     */
+    @PostMapping(value = "getIndexBuilds")
+    public ResponseEntity<CommonResponse<List<IndexBuildDTO>>> getIndexBuilds() throws Exception {
+
+        log.info("{}.getIndexBuilds Start!", this.getClass().getName());
+
+        List<IndexBuildDTO> rList = mongoAdminService.getIndexBuilds();
+
+        log.info("{}.getIndexBuilds End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+
+    /**
+     * 저장된 모든 컬렉션에 선언된 인덱스 다시 적용하기(없는 인덱스만 생성)
+     */
+    @PostMapping(value = "reconcileIndexes")
+    public ResponseEntity<CommonResponse<MsgDTO>> reconcileIndexes() throws Exception {
+
+        log.info("{}.reconcileIndexes Start!", this.getClass().getName());
+
+        int res = mongoAdminService.reconcileIndexes();
+
+        MsgDTO dto = MsgDTO.builder().result(res).msg(res + "개 인덱스 생성 완료!").build();
+
+        log.info("{}.reconcileIndexes End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * 날짜별 멜론 차트 컬렉션(MELON_yyyyMMdd)을 날짜 구분 컬렉션(MELON_CHART)으로 옮기기
+     * 옮긴 후 melon.mongo.layout=partitioned로 설정하고 재시작하면 날짜 구분 컬렉션을 사용함
+     */
+    @PostMapping(value = "migrateChartLayout")
+    public ResponseEntity<CommonResponse<List<ChartMigrationDTO>>> migrateChartLayout(
+            @RequestBody(required = false) ChartMigrationDTO pDTO) throws Exception {
+
+        log.info("{}.migrateChartLayout Start!", this.getClass().getName());
+
+        List<ChartMigrationDTO> rList = mongoAdminService.migrateChartLayout(pDTO);
+
+        log.info("{}.migrateChartLayout End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+
+    /**
+     * 저장된 멜론 차트 문서를 현재 구조(collectTime Date, rank)로 바꾸기(서비스 중에도 실행 가능)
+     */
+    @PostMapping(value = "migrateChartSchema")
+    public ResponseEntity<CommonResponse<List<ChartMigrationDTO>>> migrateChartSchema() throws Exception {
+
+        log.info("{}.migrateChartSchema Start!", this.getClass().getName());
+
+        List<ChartMigrationDTO> rList = mongoAdminService.migrateChartSchema();
+
+        log.info("{}.migrateChartSchema End!", this.getClass().getName());
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList));
+    }
+}
@@ -7,12 +7,14 @@ import kopo.poly.dto.MsgDTO;
 import kopo.poly.service.IMongoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
+@Profile("!reactive")
 @RestController
 @RequestMapping("/mongo/v1")
 @RequiredArgsConstructor
@@ -6,6 +6,7 @@ import kopo.poly.dto.MovieDTO;
 import kopo.poly.service.IMovieService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Slf4j
+@Profile("!reactive")
 @RestController
 @RequestMapping("/movie/v1")
 @RequiredArgsConstructor
@@ -0,0 +1,129 @@
+package kopo.poly.controller;
+
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.service.IReactiveMelonService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * MelonController의 WebFlux 버전(reactive 프로필에서만 사용, URL과 응답 구조는 동일함)
+ * MongoDB 조회를 기다리는 동안 요청 쓰레드를 점유하지 않음
+ */
+@Slf4j
+@Profile("reactive")
+@RequestMapping(value = "/melon/v1")
+@RequiredArgsConstructor
+@RestController
+public class ReactiveMelonController {
+
+    private final IReactiveMelonService melonService;
+
+    /**
+     * 멜론 노래 리스트 수집 요청하기
+     */
+    @PostMapping(value = "collectMelonSong")
+    public Mono<ResponseEntity<CommonResponse<MsgDTO>>> collectMelonSong() {
+
+        log.info("{}.collectMelonSong Start!", this.getClass().getName());
+
+        return melonService.collectMelonSong()
+                .map(res -> MsgDTO.builder().result(res)
+                        .msg(res == 1 ? "멜론차트 수집 요청 성공!" : "멜론차트 수집 요청 실패!").build())
+                .map(dto -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto)));
+    }
+
+    /**
+     * 오늘 수집된 멜론 노래리스트 가져오기
+     */
+    @PostMapping(value = "getSongList")
+    public Mono<ResponseEntity<CommonResponse<List<MelonDTO>>>> getSongList() {
+
+        log.info("{}.getSongList Start!", this.getClass().getName());
+
+        return melonService.getSongList().collectList()
+                .map(rList -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList)));
+    }
+
+    /**
+     * 가수별 수집된 노래의 수 가져오기
+     */
+    @PostMapping(value = "getSingerSongCnt")
+    public Mono<ResponseEntity<CommonResponse<List<MelonDTO>>>> getSingerSongCnt(
+            @RequestBody(required = false) MelonDTO pDTO) {
+
+        log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
+
+        return melonService.getSingerSongCnt(pDTO).collectList()
+                .map(rList -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList)));
+    }
+
+    /**
+     * 가수 이름으로 조회하기
+     */
+    @PostMapping(value = "getSingerSong")
+    public Mono<ResponseEntity<CommonResponse<List<MelonDTO>>>> getSingerSong(@RequestBody MelonDTO pDTO) {
+
+        log.info("{}.getSingerSong Start!", this.getClass().getName());
+
+        log.info("pDTO :{}", pDTO); // JSON 구조로 받은 값이 잘 받았는지 확인하기 위해 로그 찍기
+
+        return melonService.getSingerSong(pDTO).collectList()
+                .map(rList -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rList)));
+    }
+
+    /**
+     * 오늘 수집된 멜론 노래리스트 가져오기(NDJSON, 한 줄에 노래 1건)
+     * 클라이언트가 읽는 속도에 맞춰(backpressure) MongoDB에서 다음 배치를 가져옴
+     */
+    @PostMapping(value = "streamSongList", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MelonDTO> streamSongList() {
+
+        log.info("{}.streamSongList Start!", this.getClass().getName());
+
+        return melonService.getSongList();
+    }
+
+    /**
+     * 가수 이름으로 조회하기(NDJSON, 한 줄에 노래 1건)
+     */
+    @PostMapping(value = "streamSingerSong", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MelonDTO> streamSingerSong(@RequestBody MelonDTO pDTO) {
+
+        log.info("{}.streamSingerSong Start!", this.getClass().getName());
+
+        return melonService.getSingerSong(pDTO);
+    }
+
+    /**
+     * 수집된 멜론 차트 컬렉션 삭제하기
+     */
+    @PostMapping(value = "dropCollection")
+    public Mono<ResponseEntity<CommonResponse<MsgDTO>>> dropCollection() {
+
+        log.info("{}.dropCollection Start!", this.getClass().getName());
+
+        return melonService.dropCollection()
+                .map(res -> MsgDTO.builder().result(res)
+                        .msg(res == 1 ? "멜론차트 삭제 성공!" : "멜론차트 삭제 실패!").build())
+                .map(dto -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto)));
+    }
+}
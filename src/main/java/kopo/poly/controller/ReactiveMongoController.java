@@ -0,0 +1,53 @@
+package kopo.poly.controller;
+
+import jakarta.validation.Valid;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MongoDTO;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.service.IReactiveMongoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+/**
+ * MongoController의 WebFlux 버전(reactive 프로필에서만 사용)
+ */
+@Slf4j
+@Profile("reactive")
+@RestController
+@RequestMapping("/mongo/v1")
+@RequiredArgsConstructor
+public class ReactiveMongoController {
+
+    private final IReactiveMongoService mongoService;
+
+    /**
+     * MongoDB 기본 저장 API
+     */
+    @PostMapping("/basic")
+    public Mono<ResponseEntity<CommonResponse<MsgDTO>>> basic(@Valid @RequestBody MongoDTO pDTO) {
+
+        log.info("{}.basic Start!", this.getClass().getName());
+
+        log.info("Received MongoDTO: {}", pDTO);
+
+        return mongoService.mongoTest(pDTO)
+                .map(res -> MsgDTO.builder().result(res)
+                        .msg(res == 1 ? "저장 성공하였습니다." : "저장 실패하였습니다.").build())
+                .map(dto -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto)));
+    }
+
+    /**
+     * WebFlux는 BindingResult 파라미터를 지원하지 않으므로, 유효성 검사 실패 예외를 공통 에러 응답으로 변환함
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<CommonResponse<?>> bindError(WebExchangeBindException e) {
+        return CommonResponse.getErrors(e.getBindingResult());
+    }
+}
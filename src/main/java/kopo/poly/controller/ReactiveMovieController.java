@@ -0,0 +1,59 @@
+package kopo.poly.controller;
+
+import jakarta.validation.Valid;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.service.IReactiveMovieService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * MovieController의 WebFlux 버전(reactive 프로필에서만 사용)
+ */
+@Slf4j
+@Profile("reactive")
+@RestController
+@RequestMapping("/movie/v1")
+@RequiredArgsConstructor
+public class ReactiveMovieController {
+
+    private final IReactiveMovieService movieService;
+
+    /**
+     * 음성 명령을 기반으로 CGV 영화 순위를 가져오는 API
+     */
+    @PostMapping("/speechcommand")
+    public Mono<ResponseEntity<CommonResponse<List<MovieDTO>>>> getMovie(@Valid @RequestBody MovieDTO pDTO) {
+
+        log.info("{}.getMovie start!", getClass().getName());
+
+        log.info("Received speech command: {}", pDTO.speechCommand());
+
+        // 음성 명령에 포함될 수 있는 '영화'와 유사한 키워드 목록 정의
+        List<String> movieKeywords = List.of("영화", "영하", "연하", "연화");
+
+        boolean containsKeyword = movieKeywords.stream()
+                .anyMatch(keyword -> pDTO.speechCommand().contains(keyword));
+
+        // 영화 관련 명령이 포함되어 있다면 영화 순위 조회, 아니면 빈 리스트 반환
+        Mono<List<MovieDTO>> rList = containsKeyword ? movieService.getMovieRank() : Mono.just(List.of());
+
+        return rList.map(list -> ResponseEntity.ok(CommonResponse.of(HttpStatus.OK, "SUCCESS", list)));
+    }
+
+    /**
+     * WebFlux는 BindingResult 파라미터를 지원하지 않으므로, 유효성 검사 실패 예외를 공통 에러 응답으로 변환함
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<CommonResponse<?>> bindError(WebExchangeBindException e) {
+        return CommonResponse.getErrors(e.getBindingResult());
+    }
+}
@@ -0,0 +1,132 @@
+package kopo.poly.controller;
+
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.RedisDTO;
+import kopo.poly.service.IReactiveMyRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * RedisController의 WebFlux 버전(reactive 프로필에서만 사용, URL과 응답 구조는 동일함)
+ */
+@Slf4j
+@Profile("reactive")
+@RequestMapping(value = "/redis/v1")
+@RequiredArgsConstructor
+@RestController
+public class ReactiveRedisController {
+
+    private final IReactiveMyRedisService myRedisService;
+
+    /**
+     * 결과를 공통 응답 객체에 담기(결과가 없으면 기본값 사용)
+     */
+    private static <T> Mono<ResponseEntity<CommonResponse<T>>> ok(Mono<T> result, T defaultValue) {
+        return result.defaultIfEmpty(defaultValue)
+                .map(rDTO -> ResponseEntity.ok(
+                        CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO)));
+    }
+
+    /**
+     * Redis 문자열 저장 실습
+     */
+    @PostMapping(value = "saveString")
+    public Mono<ResponseEntity<CommonResponse<RedisDTO>>> saveString(@RequestBody RedisDTO pDTO) {
+
+        log.info("{}.saveString Start!", this.getClass().getName());
+
+        log.info("pDTO : {}", pDTO); // 전달받은 값 로그로 확인하기!(반드시 작성하기)
+
+        return ok(myRedisService.saveString(pDTO), RedisDTO.builder().build());
+    }
+
+    /**
+     * Redis 문자열을 JSON으로 저장 실습
+     */
+    @PostMapping(value = "saveStringJSON")
+    public Mono<ResponseEntity<CommonResponse<RedisDTO>>> saveStringJSON(@RequestBody RedisDTO pDTO) {
+
+        log.info("{}.saveStringJSON Start!", this.getClass().getName());
+
+        log.info("pDTO : {}", pDTO);
+
+        return ok(myRedisService.saveStringJSON(pDTO), RedisDTO.builder().build());
+    }
+
+    /**
+     * Redis 리스트 저장 실습
+     */
+    @PostMapping(value = "saveList")
+    public Mono<ResponseEntity<CommonResponse<List<String>>>> saveList(@RequestBody List<RedisDTO> pList) {
+
+        log.info("{}.saveList Start!", this.getClass().getName());
+
+        log.info("pList : {}", pList);
+
+        return ok(myRedisService.saveList(pList), List.of());
+    }
+
+    /**
+     * Redis 리스트를 JSON으로 저장 실습
+     */
+    @PostMapping(value = "saveListJSON")
+    public Mono<ResponseEntity<CommonResponse<List<RedisDTO>>>> saveListJSON(@RequestBody List<RedisDTO> pList) {
+
+        log.info("{}.saveListJSON Start!", this.getClass().getName());
+
+        log.info("pList : {}", pList);
+
+        return ok(myRedisService.saveListJSON(pList), List.of());
+    }
+
+    /**
+     * Redis Hash 저장 실습
+     */
+    @PostMapping(value = "saveHash")
+    public Mono<ResponseEntity<CommonResponse<RedisDTO>>> saveHash(@RequestBody RedisDTO pDTO) {
+
+        log.info("{}.saveHash Start!", this.getClass().getName());
+
+        log.info("pDTO : {}", pDTO);
+
+        return ok(myRedisService.saveHash(pDTO), RedisDTO.builder().build());
+    }
+
+    /**
+     * Redis Set 저장 실습
+     */
+    @PostMapping(value = "saveSetJSON")
+    public Mono<ResponseEntity<CommonResponse<Set<RedisDTO>>>> saveSetJSON(@RequestBody List<RedisDTO> pList) {
+
+        log.info("{}.saveSetJSON Start!", this.getClass().getName());
+
+        log.info("pList : {}", pList);
+
+        return ok(myRedisService.saveSetJSON(pList), new LinkedHashSet<>());
+    }
+
+    /**
+     * Redis ZSet 저장 실습
+     */
+    @PostMapping(value = "saveZSetJSON")
+    public Mono<ResponseEntity<CommonResponse<Set<RedisDTO>>>> saveRedisZSetJSON(@RequestBody List<RedisDTO> pList) {
+
+        log.info("{}.saveZSetJSON Start!", this.getClass().getName());
+
+        log.info("pList : {}", pList);
+
+        return ok(myRedisService.saveZSetJSON(pList), new LinkedHashSet<>());
+    }
+}
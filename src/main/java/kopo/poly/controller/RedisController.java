@@ -5,6 +5,7 @@ import kopo.poly.dto.RedisDTO;
 import kopo.poly.service.IMyRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.util.*;
 
 @Slf4j
+@Profile("!reactive")
 @RequestMapping(value = "/redis/v1")
 @RequiredArgsConstructor
 @RestController
@@ -0,0 +1,104 @@
+package kopo.poly.controller.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 조회 결과를 NDJSON(한 줄에 JSON 1건, application/x-ndjson)으로 응답하기
+ * <p>
+ * 조회 결과를 List로 모으지 않고 Stream에서 1건씩 꺼내어 바로 응답에 쓰므로,
+ * 요청당 메모리 사용량은 결과 건수와 관계없이 JSON 버퍼(약 8KB)와 MongoDB 커서 배치 크기로 제한됨
+ * 응답이 시작된 뒤에는 CommonResponse 형식으로 오류를 전달할 수 없으므로, 조회 오류는 Stream을 만들 때(응답 전) 발생해야 함
+ */
+public class NdjsonResponse {
+
+    private NdjsonResponse() {
+    }
+
+    /**
+     * NDJSON 응답 만들기
+     *
+     * @param stream     응답할 데이터(응답을 다 쓰거나 실패하면 close 됨)
+     * @param mapper     JSON 변환 객체
+     * @param flushEvery 몇 건마다 클라이언트로 전송할지(버퍼가 가득 차면 그 전에도 전송됨, 0 이하면 1건마다)
+     * @return NDJSON 응답
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> of(Stream<T> stream, ObjectMapper mapper, int flushEvery) {
+
+        int every = Math.max(1, flushEvery);
+
+        // 1건 쓸 때마다 flush 하지 않도록 설정(작은 chunk가 많이 생기는 것 방지)
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // 응답 쓰기 시작 여부(시작하지 못하고 끝나면 Stream을 여기서 close 함)
+        AtomicBoolean started = new AtomicBoolean();
+
+        StreamingResponseBody body = out -> {
+            if (!started.compareAndSet(false, true)) { // 이미 시간 초과/오류로 정리됨
+                return;
+            }
+
+            try (stream; JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gen.setRootValueSeparator(null); // 줄바꿈은 직접 쓰므로 JSON 사이에 기본 구분자(공백) 넣지 않기
+
+                Iterator<T> it = stream.iterator();
+
+                int cnt = 0;
+
+                while (it.hasNext()) {
+                    writer.writeValue(gen, it.next());
+                    gen.writeRaw('\n');
+
+                    if (++cnt % every == 0) {
+                        gen.flush();
+                    }
+                }
+
+                gen.flush();
+            }
+        };
+
+        closeIfNotStarted(stream, started);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 응답 쓰기가 시작되기 전에 비동기 처리가 끝나면(시간 초과, 오류, 연결 끊김) Stream(MongoDB 커서) 닫기
+     * 응답 쓰기가 시작되었다면 응답 쓰기가 끝날 때 닫힘
+     */
+    private static void closeIfNotStarted(Stream<?> stream, AtomicBoolean started) {
+
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs)) {
+            return;
+        }
+
+        WebAsyncUtils.getAsyncManager(attrs.getRequest()).registerCallableInterceptor(new Object(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <R> void afterCompletion(NativeWebRequest request, Callable<R> task) {
+                        if (started.compareAndSet(false, true)) {
+                            stream.close();
+                        }
+                    }
+                });
+    }
+}
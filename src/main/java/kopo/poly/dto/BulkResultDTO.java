@@ -0,0 +1,18 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@Builder
+public record BulkResultDTO(
+
+        int batchNo, // 배치 번호(0부터 시작)
+        int requestCnt, // 배치에 담긴 문서 수
+        int insertedCnt, // 저장 성공 문서 수
+        int failedCnt, // 저장 실패 문서 수
+        long batchBytes, // 배치에 담긴 문서의 BSON 크기 합계(byte)
+        long elapsedMs, // 배치 저장 소요 시간(ms)
+        String errorMsg // 저장 실패시 첫번째 오류 메시지
+) {
+}
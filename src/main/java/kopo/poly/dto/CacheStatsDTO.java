@@ -0,0 +1,20 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStatsDTO(
+        String cacheName, // 캐시 이름
+        long l1Size, // 서버 메모리(L1)에 저장된 키 수(추정값)
+        long l1HitCnt, // L1 Hit 수
+        long l1MissCnt, // L1 Miss 수
+        long l2HitCnt, // RedisDB(L2) Hit 수
+        long l2MissCnt, // L2 Miss 수(원본 조회 수)
+        long remoteInvalidationCnt, // 다른 서버로부터 받은 L1 삭제 알림 수
+        long staleServedCnt, // 소프트 TTL이 지난 값을 반환하고 갱신 요청한 수
+        long earlyRefreshCnt, // 소프트 TTL 이전 XFetch 조기 갱신 요청 수
+        long refreshSuccessCnt, // 백그라운드 갱신 성공 수
+        long refreshFailCnt, // 백그라운드 갱신 실패 수
+        long refreshRejectedCnt // 갱신 쓰레드풀이 가득 차서 건너뛴 갱신 수
+) {
+}
@@ -0,0 +1,20 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@Builder
+public record ChartMigrationDTO(
+
+        boolean dropSource, // 옮긴 후 날짜별 컬렉션 삭제 여부(요청)
+        boolean force, // 같은 날짜의 차트가 MELON_CHART에 이미 있어도 다시 옮길지 여부(요청)
+        String colNm, // 옮긴 날짜별 컬렉션 이름
+        long migratedCnt, // 옮겨진 노래 수
+        boolean skipped, // 같은 날짜의 차트가 이미 있어서 옮기지 않았는지 여부
+        long convertedCnt, // 수집 시간(collectTime)이 Date로 바뀐 문서 수
+        long rankedCnt, // 순위(rank)가 새로 붙은 문서 수
+        long elapsedMs, // 소요 시간(ms)
+        String errorMsg // 실패시 오류 메시지
+) {
+}
@@ -0,0 +1,19 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@Builder
+public record IndexBuildDTO(
+
+        String colNm, // 컬렉션 이름
+        String family, // 컬렉션 종류(인덱스 설정 이름)
+        String indexNm, // 인덱스 이름
+        String keys, // 인덱스 필드(예 : {"singer": 1, "song": 1})
+        String status, // BUILDING(생성 중), READY(생성 완료), FAILED(생성 실패)
+        long startTime, // 생성 시작 시간(epoch ms)
+        long elapsedMs, // 생성 소요 시간(ms)
+        String errorMsg // 생성 실패시 오류 메시지
+) {
+}
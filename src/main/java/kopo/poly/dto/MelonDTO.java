@@ -11,10 +11,12 @@ import java.util.List;
 public record MelonDTO(
 
         @NotBlank(message = "수집 시간은 필수 입력 사항입니다.")
-        String collectTime, // 수집 시간
+        String collectTime, // 수집 시간(yyyyMMddHHmmss, MongoDB에는 Date 타입으로 저장됨)
+        int rank, // 차트 순위(1부터)
         String song, // 노래 제목
         String singer, // 가수
         int singerCnt, // 차트에 등록된 가수별 노래 수
+        int topK, // 가수별 노래 수 조회시 상위 몇 명까지 조회할지(0이면 전체)
         String updateSinger, // 수정할 가수명(MongoDB 필드 수정 교육용)
         String nickname, // 추가될 닉네임(MongoDB 필드 추가 교육용)
         List<String> member, // 추가될 그룹 맴버 이름들(MongoDB 필드 추가 교육용)
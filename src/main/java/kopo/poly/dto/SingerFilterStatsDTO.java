@@ -0,0 +1,20 @@
+package kopo.poly.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SingerFilterStatsDTO(
+        String colNm, // 차트 컬렉션 이름(MELON_yyyyMMdd)
+        boolean loaded, // 서버 메모리에 필터가 있는지
+        long bitSize, // 필터 비트 수
+        int hashCnt, // 해시 수
+        double targetFpp, // 설정된 목표 오탐률(melon.singer-filter.fpp)
+        double expectedFpp, // 채워진 비트 비율로 계산한 예상 오탐률
+        double observedFpp, // 실제 오탐률(오탐 수 / (오탐 수 + 필터가 거른 수))
+        long lookupCnt, // 가수 조회 수
+        long negativeHitCnt, // 없는 가수 결과 캐시로 처리한 수
+        long rejectCnt, // 필터가 없는 가수로 판단해 MongoDB를 조회하지 않은 수
+        long passCnt, // 필터를 통과해 MongoDB를 조회한 수
+        long falsePositiveCnt // 필터를 통과했지만 MongoDB 조회 결과가 없었던 수(오탐)
+) {
+}
@@ -0,0 +1,17 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@Builder
+public record SingerRankDTO(
+
+        String singer, // 가수
+        long singerCnt, // 차트에 등록된 가수별 노래 수(RedisDB ZSET 점수)
+        long rank, // 노래 수 순위(1부터, 0이면 차트에 없음)
+        int topK, // 상위 몇 명까지 조회할지(요청, 0이면 전체)
+        long minCnt, // 조회할 최소 노래 수(요청)
+        long maxCnt // 조회할 최대 노래 수(요청, 0이면 제한 없음)
+) {
+}
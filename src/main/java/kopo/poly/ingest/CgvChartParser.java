@@ -0,0 +1,60 @@
+package kopo.poly.ingest;
+
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.util.CmmUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Slf4j
+@Component
+public class CgvChartParser implements IChartParser<MovieDTO> {
+
+    @Override
+    public ChartSource source() {
+        return ChartSource.CGV;
+    }
+
+    @Override
+    public List<MovieDTO> parse(Document doc, String collectTime) {
+
+        log.info("{}.parse Start!", this.getClass().getName());
+
+        List<MovieDTO> pList = new ArrayList<>();
+
+        // <div class="sect-movie-chart"> 이 태그 내에서 있는 HTML소스만 element에 저장됨
+        Elements element = doc.select("div.sect-movie-chart");
+
+        // 영화순위는 기본적으로 1개 이상의 영화가 존재하기 때문에 태그의 반복이 존재할 수 밖에 없음
+        Iterator<Element> movie_rank = element.select("strong.rank").iterator(); //영화 순위
+        Iterator<Element> movie_name = element.select("strong.title").iterator(); //영화 이름
+        Iterator<Element> movie_reserve = element.select("strong.percent span").iterator(); //영화 예매율
+        Iterator<Element> score = element.select("span.percent").iterator(); //점수
+        Iterator<Element> open_day = element.select("span.txt-info").iterator(); //개봉일
+
+        while (movie_rank.hasNext() && movie_name.hasNext() && movie_reserve.hasNext()
+                && score.hasNext() && open_day.hasNext()) {
+
+            String openDay = CmmUtil.nvl(open_day.next().text()).trim();
+
+            pList.add(MovieDTO.builder()
+                    .collectTime(collectTime) // 수집시간
+                    .rank(CmmUtil.nvl(movie_rank.next().text()).trim()) // 영화 순위
+                    .name(CmmUtil.nvl(movie_name.next().text()).trim()) // 영화 제목
+                    .reserve(CmmUtil.nvl(movie_reserve.next().text()).trim()) // 영화 예매율
+                    .score(CmmUtil.nvl(score.next().text()).trim()) // 영화 평점
+                    .openDay(openDay.length() > 10 ? openDay.substring(0, 10) : openDay) // 개봉일
+                    .build());
+        }
+
+        log.info("{}.parse End! size : {}", this.getClass().getName(), pList.size());
+
+        return pList;
+    }
+}
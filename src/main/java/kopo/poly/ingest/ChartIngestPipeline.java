@@ -0,0 +1,288 @@
+package kopo.poly.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kopo.poly.cache.MelonCacheNames;
+import kopo.poly.cache.MelonSingerFilter;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.redis.IChangeStreamMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import kopo.poly.persistance.redis.IMovieMapper;
+import kopo.poly.util.DateUtil;
+import kopo.poly.util.FanOutScope;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 차트 수집 파이프라인(가져오기 -> 추출하기 -> 저장하기)
+ * <p>
+ * 단계별로 쓰레드 1개씩 실행되며, 단계 사이는 크기가 제한된 큐로 연결됨
+ * 다음 단계가 밀리면 큐가 가득 차서 이전 단계가 대기하므로, 수집 요청이 몰려도 메모리 사용량이 늘어나지 않음
+ * HTTP 요청 쓰레드에서는 trigger()로 수집 요청만 하고, 사이트 접속은 하지 않음
+ * 여러 차트의 수집 요청이 대기 중이면 backendExecutor에서 동시에 가져옴(가상 쓰레드 사용시 사이트 응답 대기 중 캐리어 쓰레드 반납)
+ */
+@Slf4j
+@Component
+public class ChartIngestPipeline {
+
+    // 가져온 차트 HTML
+    private record FetchedPage(ChartSource source, Document doc, String collectTime) {
+    }
+
+    // 추출된 차트 정보
+    private record ParsedChart(ChartSource source, String collectDate, List<?> rows) {
+    }
+
+    @FunctionalInterface
+    private interface Stage<I> {
+        void handle(I item) throws Exception;
+    }
+
+    private final IChartFetcher fetcher;
+
+    private final Map<ChartSource, IChartParser<?>> parsers = new EnumMap<>(ChartSource.class);
+
+    private final IMelonMapper melonMapper; // MongoDB에 저장할 Mapper
+
+    private final IMovieMapper movieMapper; // RedisDB 저장할 Mapper
+
+    private final IMelonRankMapper melonRankMapper; // 가수별 노래 수 순위표(RedisDB)
+
+    private final MelonSingerFilter singerFilter; // 차트에 있는 가수 필터
+
+    private final IChangeStreamMapper changeStreamMapper; // 변경 내역 구독에 알릴 관리 표시(RedisDB)
+
+    private final CacheManager cacheManager;
+
+    private final ChartSnapshotStore snapshotStore;
+
+    private final BlockingQueue<ChartSource> fetchQueue;
+
+    private final BlockingQueue<FetchedPage> parseQueue;
+
+    private final BlockingQueue<ParsedChart> persistQueue;
+
+    private final ExecutorService stages = Executors.newFixedThreadPool(3);
+
+    private final Executor backendExecutor; // 사이트 동시 접속용
+
+    public ChartIngestPipeline(IChartFetcher fetcher, List<IChartParser<?>> parsers, IMelonMapper melonMapper,
+                               IMovieMapper movieMapper, IMelonRankMapper melonRankMapper,
+                               MelonSingerFilter singerFilter, IChangeStreamMapper changeStreamMapper,
+                               CacheManager cacheManager, ChartSnapshotStore snapshotStore,
+                               @Qualifier("backendExecutor") Executor backendExecutor,
+                               @Value("${ingest.queue-capacity:4}") int queueCapacity) {
+        this.fetcher = fetcher;
+        this.backendExecutor = backendExecutor;
+        this.melonMapper = melonMapper;
+        this.movieMapper = movieMapper;
+        this.melonRankMapper = melonRankMapper;
+        this.singerFilter = singerFilter;
+        this.changeStreamMapper = changeStreamMapper;
+        this.cacheManager = cacheManager;
+        this.snapshotStore = snapshotStore;
+        this.fetchQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.persistQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        parsers.forEach(parser -> this.parsers.put(parser.source(), parser));
+    }
+
+    @PostConstruct
+    public void start() {
+        stages.execute(() -> this.run("fetch", fetchQueue, this::fetch));
+        stages.execute(() -> this.run("parse", parseQueue, this::parse));
+        stages.execute(() -> this.run("persist", persistQueue, this::persist));
+    }
+
+    @PreDestroy
+    public void stop() {
+        stages.shutdownNow();
+    }
+
+    /**
+     * 수집 요청하기
+     * 이미 대기 중인 같은 차트의 요청이 있으면 합쳐서 1번만 수집함
+     *
+     * @param source 수집 대상 차트
+     * @return 요청 접수 여부(큐가 가득 차면 false)
+     */
+    public boolean trigger(ChartSource source) {
+
+        if (fetchQueue.contains(source)) {
+            return true;
+        }
+
+        boolean res = fetchQueue.offer(source);
+
+        log.info("ingest trigger - source : {}, accepted : {}", source, res);
+
+        return res;
+    }
+
+    /**
+     * 단계 실행(큐에서 꺼내어 처리하고, 실패해도 다음 요청은 계속 처리함)
+     */
+    private <I> void run(String name, BlockingQueue<I> in, Stage<I> stage) {
+        Thread.currentThread().setName("ingest-" + name);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                stage.handle(in.take());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+            } catch (Exception e) {
+                log.error("ingest {} stage fail : {}", name, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 차트 가져오기
+     * 대기 중인 다른 차트의 요청도 꺼내어 동시에 가져오고, 한 사이트가 실패해도 나머지 차트는 다음 단계로 넘김
+     */
+    private void fetch(ChartSource source) throws Exception {
+        List<ChartSource> sources = new ArrayList<>();
+        sources.add(source);
+        fetchQueue.drainTo(sources);
+
+        List<Supplier<FetchedPage>> pages = new ArrayList<>(sources.size());
+
+        try (FanOutScope scope = new FanOutScope(backendExecutor)) {
+            for (ChartSource s : sources) {
+                pages.add(scope.fork(() -> this.fetchPage(s)));
+            }
+
+            scope.join();
+        }
+
+        for (Supplier<FetchedPage> page : pages) {
+            FetchedPage rPage = page.get();
+
+            if (rPage != null) {
+                parseQueue.put(rPage);
+            }
+        }
+    }
+
+    private FetchedPage fetchPage(ChartSource source) {
+        try {
+            Document doc = fetcher.fetch(source);
+
+            return new FetchedPage(source, doc, DateUtil.getDateTime(source.getCollectTimeFormat()));
+
+        } catch (Exception e) {
+            log.error("ingest fetch fail - source : {}, {}", source, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void parse(FetchedPage page) throws Exception {
+        List<?> rows = parsers.get(page.source()).parse(page.doc(), page.collectTime());
+
+        if (rows.isEmpty()) { // 사이트 구조가 바뀌었거나 접속이 차단된 경우 기존 데이터 유지하기
+            log.warn("ingest parse result is empty, skip persist - source : {}", page.source());
+            return;
+        }
+
+        persistQueue.put(new ParsedChart(page.source(), page.collectTime().substring(0, 8), rows));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void persist(ParsedChart chart) throws Exception {
+
+        switch (chart.source()) {
+            case MELON -> {
+                List<MelonDTO> pList = (List<MelonDTO>) chart.rows();
+
+                // MongoDB에 저장된 컬렉션 이름
+                String colNm = "MELON_" + chart.collectDate();
+
+                // 변경 내역 구독(MongoChangeStreamListener)이 이 저장으로 요약을 다시 만들거나 순위표, 가수 필터를 지우지 않도록 표시하기
+                this.markMaintained(colNm);
+
+                // 다시 수집된 차트로 교체하기(교체가 끝날 때까지 기존 차트가 조회되고, 실패하면 기존 차트 유지)
+                if (melonMapper.replaceSong(pList, colNm) != 1) {
+                    log.warn("ingest persist fail, keep previous chart - colNm : {}", colNm);
+                    return;
+                }
+
+                // 가수별 노래 수 순위표 교체하기(실패해도 MongoDB 저장은 유지하고, 조회시 요약 컬렉션으로 다시 만듦)
+                try {
+                    melonRankMapper.insertSong(colNm, pList);
+
+                } catch (Exception e) {
+                    log.warn("ingest singer rank fail - colNm : {}, {}", colNm, e.getMessage());
+                    this.deleteSingerRank(colNm);
+                }
+
+                // 차트에 없는 가수 조회가 MongoDB를 조회하지 않도록 가수 필터 교체하기
+                singerFilter.put(colNm, pList.stream().map(MelonDTO::singer).toList());
+
+                snapshotStore.setMelon(pList);
+
+                // 차트 조회 캐시 삭제하기(키에 파라미터 해시가 포함되므로 캐시 이름 단위로 삭제)
+                for (String cacheName : MelonCacheNames.CHART) {
+                    Cache cache = cacheManager.getCache(cacheName);
+
+                    if (cache != null) {
+                        cache.clear();
+                    }
+                }
+            }
+            case CGV -> {
+                List<MovieDTO> pList = (List<MovieDTO>) chart.rows();
+
+                movieMapper.insertMovieList(pList, "CGV_" + chart.collectDate());
+
+                snapshotStore.setMovie(pList);
+            }
+        }
+
+        log.info("ingest persist - source : {}, size : {}", chart.source(), chart.rows().size());
+    }
+
+    /**
+     * 관리 표시에 실패해도 저장은 계속함(구독 서버가 요약, 가수 필터, 순위표를 다시 만들 뿐임)
+     */
+    private void markMaintained(String colNm) {
+        try {
+            changeStreamMapper.insertMaintained(colNm);
+
+        } catch (Exception e) {
+            log.warn("ingest maintained mark fail - colNm : {}, {}", colNm, e.getMessage());
+        }
+    }
+
+    /**
+     * 순위표 저장에 실패하면 이전 차트의 순위표가 조회되지 않도록 삭제하기
+     */
+    private void deleteSingerRank(String colNm) {
+        try {
+            melonRankMapper.deleteSingerCnt(colNm);
+
+        } catch (Exception e) {
+            log.warn("ingest singer rank delete fail - colNm : {}, {}", colNm, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kopo.poly.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정해진 주기(ingest.cron)마다 모든 차트 수집 요청하기
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.schedule.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class ChartIngestScheduler {
+
+    private final ChartIngestPipeline pipeline;
+
+    @Value("${ingest.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    @Scheduled(cron = "${ingest.cron:0 0/30 * * * *}", zone = "Asia/Seoul")
+    public void collect() {
+
+        log.info("{}.collect Start!", this.getClass().getName());
+
+        for (ChartSource source : ChartSource.values()) {
+            pipeline.trigger(source);
+        }
+    }
+
+    /**
+     * 서버 시작시 한번 수집하기(ingest.run-on-startup=true일 때만, 수집 실패해도 서버 시작에는 영향 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void collectOnStartup() {
+        if (runOnStartup) {
+            this.collect();
+        }
+    }
+}
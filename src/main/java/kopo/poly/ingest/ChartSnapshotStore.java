@@ -0,0 +1,36 @@
+package kopo.poly.ingest;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.MovieDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 마지막으로 수집된 차트 보관
+ * 요청 처리 중에는 사이트에 접속하지 않고, 이 값을 사용하여 MongoDB 실습용 컬렉션을 다시 만듬
+ */
+@Component
+public class ChartSnapshotStore {
+
+    private final AtomicReference<List<MelonDTO>> melon = new AtomicReference<>(List.of());
+
+    private final AtomicReference<List<MovieDTO>> movie = new AtomicReference<>(List.of());
+
+    public List<MelonDTO> getMelon() {
+        return melon.get();
+    }
+
+    public void setMelon(List<MelonDTO> pList) {
+        melon.set(List.copyOf(pList));
+    }
+
+    public List<MovieDTO> getMovie() {
+        return movie.get();
+    }
+
+    public void setMovie(List<MovieDTO> pList) {
+        movie.set(List.copyOf(pList));
+    }
+}
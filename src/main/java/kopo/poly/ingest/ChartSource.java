@@ -0,0 +1,24 @@
+package kopo.poly.ingest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수집 대상 차트
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChartSource {
+
+    // 멜론 Top100 중 50위까지 정보 가져오는 페이지(수집 시간은 24시간 형식, hh는 12시간 형식이라 정렬되지 않음)
+    MELON("https://www.melon.com/chart/index.htm", "melon.html", "yyyyMMddHHmmss"),
+
+    // CGV 영화 순위 정보 가져올 사이트 주소(http프로토롱만 가능, https 프로토콜은 보안상 안됨)
+    CGV("http://www.cgv.co.kr/movies/", "cgv.html", "yyyyMMdd");
+
+    private final String url; // 수집할 주소
+
+    private final String fixture; // 로컬 HTML 파일 이름(FixtureChartFetcher 사용시)
+
+    private final String collectTimeFormat; // 수집 시간 형식
+}
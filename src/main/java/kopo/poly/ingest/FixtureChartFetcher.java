@@ -0,0 +1,43 @@
+package kopo.poly.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * 사이트에 접속하지 않고 로컬 HTML 파일(ingest.fixture-dir + ChartSource.fixture)로 수집하기
+ * 테스트 또는 개발 환경에서 ingest.fetcher=fixture 로 설정하여 사용함
+ * HTML 파일은 테스트 리소스(src/test/resources/fixtures)에만 있으므로 테스트 밖에서는 ingest.fixture-dir에 파일 경로(file:)를 지정함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.fetcher", havingValue = "fixture")
+@Component
+public class FixtureChartFetcher implements IChartFetcher {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${ingest.fixture-dir:classpath:fixtures/}")
+    private String fixtureDir;
+
+    @Override
+    public Document fetch(ChartSource source) throws Exception {
+
+        Resource resource = resourceLoader.getResource(fixtureDir + source.getFixture());
+
+        log.info("{}.fetch : {}", this.getClass().getName(), resource.getDescription());
+
+        try (InputStream in = resource.getInputStream()) {
+            // 상대 경로 링크가 실제 사이트 기준으로 처리되도록 baseUri는 실제 주소 사용
+            return Jsoup.parse(in, "UTF-8", source.getUrl());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package kopo.poly.ingest;
+
+import org.jsoup.nodes.Document;
+
+/**
+ * 차트 HTML 가져오기
+ * ingest.fetcher 설정값에 따라 실제 사이트(jsoup) 또는 로컬 HTML 파일(fixture)에서 가져옴
+ */
+public interface IChartFetcher {
+
+    /**
+     * 차트 HTML 가져오기
+     *
+     * @param source 수집 대상 차트
+     * @return HTML 문서
+     */
+    Document fetch(ChartSource source) throws Exception;
+}
@@ -0,0 +1,27 @@
+package kopo.poly.ingest;
+
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+
+/**
+ * 가져온 차트 HTML에서 DTO 만들기
+ *
+ * @param <T> 차트 DTO 타입
+ */
+public interface IChartParser<T> {
+
+    /**
+     * 처리할 차트
+     */
+    ChartSource source();
+
+    /**
+     * HTML에서 차트 정보 추출하기
+     *
+     * @param doc         차트 HTML
+     * @param collectTime 수집 시간
+     * @return 차트 정보
+     */
+    List<T> parse(Document doc, String collectTime);
+}
@@ -0,0 +1,30 @@
+package kopo.poly.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JSOUP 라이브러리를 통해 실제 사이트에 접속하여 HTML 가져오기
+ */
+@Slf4j
+@ConditionalOnProperty(name = "ingest.fetcher", havingValue = "jsoup", matchIfMissing = true)
+@Component
+public class JsoupChartFetcher implements IChartFetcher {
+
+    @Value("${ingest.fetch-timeout:10s}")
+    private Duration timeout;
+
+    @Override
+    public Document fetch(ChartSource source) throws Exception {
+
+        log.info("{}.fetch : {}", this.getClass().getName(), source.getUrl());
+
+        return Jsoup.connect(source.getUrl()).timeout((int) timeout.toMillis()).get();
+    }
+}
@@ -0,0 +1,55 @@
+package kopo.poly.ingest;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.util.CmmUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class MelonChartParser implements IChartParser<MelonDTO> {
+
+    @Override
+    public ChartSource source() {
+        return ChartSource.MELON;
+    }
+
+    @Override
+    public List<MelonDTO> parse(Document doc, String collectTime) {
+
+        log.info("{}.parse Start!", this.getClass().getName());
+
+        List<MelonDTO> pList = new ArrayList<>();
+
+        // <div class="service_list_song"> 이 태그 내에서 있는 HTML소스만 element에 저장됨
+        Elements element = doc.select("div.service_list_song");
+
+        // 차트 순위(페이지에 나온 순서)
+        int rank = 0;
+
+        // Iterator을 사용하여 멜론차트 정보를 가져오기
+        for (Element songInfo : element.select("div.wrap_song_info")) {
+
+            rank++;
+
+            // 크롤링을 통해 데이터 저장하기
+            String song = CmmUtil.nvl(songInfo.select("div.ellipsis.rank01 a").text()); // 노래
+            String singer = CmmUtil.nvl(songInfo.select("div.ellipsis.rank02 a").eq(0).text()); // 가수
+
+            // 가수와 노래 정보가 모두 수집되었다면, 저장함
+            if ((!song.isEmpty()) && (!singer.isEmpty())) {
+                pList.add(MelonDTO.builder().collectTime(collectTime).rank(rank).song(song).singer(singer).build());
+            }
+        }
+
+        log.info("{}.parse End! size : {}", this.getClass().getName(), pList.size());
+
+        return pList;
+    }
+}
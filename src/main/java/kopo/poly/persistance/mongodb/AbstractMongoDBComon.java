@@ -3,14 +3,44 @@ package kopo.poly.persistance.mongodb;
 import com.mongodb.client.model.Indexes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
 public abstract class AbstractMongoDBComon {
 
+    // 컬렉션 종류별 인덱스 선언(MongoConfiguration.mongoIndexRegistry)
+    private MongoIndexRegistry indexRegistry;
+
+    // 이 서버에서 존재를 확인한 컬렉션(MongoConfiguration.mongoCollectionRegistry)
+    private MongoCollectionRegistry collectionRegistry;
+
+    /**
+     * 하위 Mapper들은 생성자에 MongoTemplate 등을 받으므로, 공통 객체는 setter로 주입받음
+     */
+    @Autowired
+    public void setIndexRegistry(MongoIndexRegistry indexRegistry) {
+        this.indexRegistry = indexRegistry;
+    }
+
+    @Autowired
+    public void setCollectionRegistry(MongoCollectionRegistry collectionRegistry) {
+        this.collectionRegistry = collectionRegistry;
+    }
+
+    /**
+     * 컬렉션에 선언된 인덱스 적용하기(이 서버에서 이미 적용했다면 MongoDB에 조회하지 않음)
+     *
+     * @param colNm 컬렉션 이름
+     */
+    protected void ensureIndexes(String colNm) {
+        indexRegistry.ensure(colNm);
+    }
+
     /**
      * 컬렉션 생성
+     * 이 서버에서 이미 확인한 컬렉션이면 MongoDB에 조회하지 않음(MongoCollectionRegistry)
      *
      * @param mongodb 접속된 MongoDB
      * @param colNm 생성할 컬렉션명
@@ -18,15 +48,10 @@ public abstract class AbstractMongoDBComon {
      */
     protected boolean createCollection(MongoTemplate mongodb, String colNm) {
 
-        boolean res;
+        boolean res = collectionRegistry.create(colNm);
 
-        if (mongodb.collectionExists(colNm)) {
-            res = false;
-
-        } else {
-            mongodb.createCollection(colNm);
-            res = true;
-        }
+        // 컬렉션 종류별로 선언된 인덱스 생성하기
+        this.ensureIndexes(colNm);
 
         return res;
     }
@@ -43,28 +68,20 @@ public abstract class AbstractMongoDBComon {
 
         log.info("{}.createCollection Start!", this.getClass().getName());
 
-        boolean res = false;
-
-        // 기존에 등록된 컬렉션 이름이 존재하는지 체크하고, 컬렉션이 없는 경우 생성함
-        if (!mongodb.collectionExists(colNm)) {
-
-            // 인덱스 값이 존재한다면..
-            if (index.length > 0) {
+        // 컬렉션이 없는 경우 생성함(이 서버에서 이미 확인한 컬렉션이면 MongoDB에 조회하지 않음)
+        boolean res = collectionRegistry.create(colNm);
 
-                // 컬렉션 생성 및 인덱스 생성, MongoDB에서 데이터 가져오는 방식에 맞게 인덱스는 반드시 생성하자!
-                // 데이터 양이 많지 않으면 문제되지 않으나, 최소 10만건 이상 데이터 저장시 속도가 약 10배 이상 발생함
-                mongodb.createCollection(colNm).createIndex(Indexes.ascending(index));
+        // 새로 생성했고 인덱스 값이 존재한다면..
+        if (res && index.length > 0) {
 
-            } else {
-
-                // 인덱스가 없으면 인덱스 없이 컬렉션 생성
-                mongodb.createCollection(colNm);
-
-            }
-
-            res = true;
+            // 인덱스 생성, MongoDB에서 데이터 가져오는 방식에 맞게 인덱스는 반드시 생성하자!
+            // 데이터 양이 많지 않으면 문제되지 않으나, 최소 10만건 이상 데이터 저장시 속도가 약 10배 이상 발생함
+            mongodb.getCollection(colNm).createIndex(Indexes.ascending(index));
         }
 
+        // 컬렉션 종류별로 선언된 인덱스 생성하기
+        this.ensureIndexes(colNm);
+
         log.info("{}.createCollection End!", this.getClass().getName());
 
         return res;
@@ -103,6 +120,10 @@ public abstract class AbstractMongoDBComon {
 
         }
 
+        // 다시 생성되면 컬렉션과 인덱스도 다시 생성하도록 존재 여부, 적용 여부 지우기
+        collectionRegistry.forget(colNm);
+        indexRegistry.forget(colNm);
+
         return res;
     }
 
@@ -1,9 +1,12 @@
 package kopo.poly.persistance.mongodb;
 
 import com.mongodb.MongoException;
+import kopo.poly.dto.BulkResultDTO;
 import kopo.poly.dto.MelonDTO;
+import org.bson.RawBsonDocument;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IMelonMapper {
 
@@ -16,6 +19,26 @@ public interface IMelonMapper {
      */
     int insertSong(List<MelonDTO> pList, String colNm) throws MongoException;
 
+    /**
+     * 멜론 노래 리스트 대량 저장하기
+     * 건수와 용량 기준으로 나눈 배치를 순서 없는(ordered=false) bulkWrite로 저장함
+     *
+     * @param pList 저장될 정보
+     * @param colNm 저장할 컬렉션 이름
+     * @return 배치별 저장 결과
+     */
+    List<BulkResultDTO> insertSongBulk(List<MelonDTO> pList, String colNm) throws MongoException;
+
+    /**
+     * 날짜의 차트를 새로 수집된 노래 리스트로 교체하기
+     * 교체가 끝날 때까지 기존 차트가 조회되며, 저장이 실패하면 기존 차트가 그대로 유지됨
+     *
+     * @param pList 저장될 정보
+     * @param colNm 교체할 컬렉션 이름
+     * @return 교체 결과(1 : 성공, 0 : 일부 저장 실패로 교체하지 않음)
+     */
+    int replaceSong(List<MelonDTO> pList, String colNm) throws MongoException;
+
     /**
      * 오늘 수집된 멜론 노래리스트 가져오기
      *
@@ -25,12 +48,38 @@ public interface IMelonMapper {
     List<MelonDTO> getSongList(String colNm) throws MongoException;
 
     /**
-     * 가수별 수집된 노래의 수 가져오기
+     * 오늘 수집된 멜론 노래리스트를 DTO로 변환하지 않고 가져오기
+     * RawBsonDocument는 필드를 읽을 때 변환하므로, 일부 필드만 사용하거나 BSON/JSON 그대로 전달할 때 사용함
      *
      * @param colNm 조회할 컬렉션 이름
-     * @return 노래 리스트
+     * @return BSON 문서 리스트
+     */
+    List<RawBsonDocument> getSongListRaw(String colNm) throws MongoException;
+
+    /**
+     * 가수별 수집된 노래의 수 가져오기(노래 수 내림차순)
+     * 저장/수정할 때 만들어 둔 요약 컬렉션(MELON_SINGER_CNT)에서 조회함
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @param topK  상위 몇 명의 가수를 조회할지(0 이하면 전체)
+     * @return 가수별 노래 수 리스트
+     */
+    List<MelonDTO> getSingerSongCnt(String colNm, int topK) throws MongoException;
+
+    /**
+     * 컬렉션에 저장된 노래로 가수별 노래 수 요약 다시 만들기($merge)
+     *
+     * @param colNm 요약할 컬렉션 이름
+     * @return 요약된 가수 수
      */
-    List<MelonDTO> getSingerSongCnt(String colNm) throws MongoException;
+    int refreshSingerSongCnt(String colNm) throws MongoException;
+
+    /**
+     * 저장되어 있는 모든 날짜별 멜론 차트 컬렉션(MELON_yyyyMMdd)의 가수별 노래 수 요약 만들기
+     *
+     * @return 요약한 컬렉션 수
+     */
+    int backfillSingerSongCnt() throws MongoException;
 
     /**
      * 가수 이름으로 조회하기
@@ -41,6 +90,25 @@ public interface IMelonMapper {
      */
     List<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO) throws MongoException;
 
+    /**
+     * 노래리스트를 MongoDB 커서로 조회하기(전체 결과를 메모리에 담지 않음)
+     * 사용이 끝나면 반드시 close 해야 커서가 닫힘(try-with-resources 사용)
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @return 커서 기반 노래 Stream
+     */
+    Stream<MelonDTO> streamSongList(String colNm) throws MongoException;
+
+    /**
+     * 가수 이름으로 MongoDB 커서로 조회하기(전체 결과를 메모리에 담지 않음)
+     * 사용이 끝나면 반드시 close 해야 커서가 닫힘(try-with-resources 사용)
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @param pDTO  가수명
+     * @return 커서 기반 노래 Stream
+     */
+    Stream<MelonDTO> streamSingerSong(String colNm, MelonDTO pDTO) throws MongoException;
+
     /**
      * 컬렉션 삭제하기
      *
@@ -0,0 +1,40 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.MongoException;
+import kopo.poly.dto.ChartMigrationDTO;
+
+import java.util.List;
+
+public interface IMelonMigrationMapper {
+
+    /**
+     * 저장되어 있는 날짜별 멜론 차트 컬렉션(MELON_yyyyMMdd) 이름 가져오기
+     *
+     * @return 컬렉션 이름 리스트(날짜순)
+     */
+    List<String> getDailyCollections() throws MongoException;
+
+    /**
+     * 날짜별 멜론 차트 컬렉션을 날짜 구분 컬렉션(MELON_CHART)으로 옮기기
+     * - 저장된 순위는 유지하고, 순위가 없는 문서만 저장 순서로 마지막 순위 다음부터 순위를 붙임
+     * - 같은 순위가 여러 번 저장되어 있으면 마지막에 저장된 문서만 옮김
+     * - MELON_CHART에 같은 날짜의 차트가 이미 있으면 옮기지 않음(force면 같은 순위를 교체하고 남은 순위는 삭제)
+     *
+     * @param colNm      옮길 컬렉션 이름
+     * @param dropSource 옮긴 후(이미 옮겨져 있어도) 날짜별 컬렉션 삭제 여부
+     * @param force      같은 날짜의 차트가 이미 있어도 다시 옮길지 여부
+     * @return 옮겨진 노래 수(migratedCnt), 건너뛴 여부(skipped)
+     */
+    ChartMigrationDTO migrateToChart(String colNm, boolean dropSource, boolean force) throws MongoException;
+
+    /**
+     * 저장된 멜론 차트 문서의 구조를 현재 구조로 바꾸기(서비스 중에도 실행 가능, 여러 번 실행해도 결과는 같음)
+     * - collectTime : 문자열(yyyyMMddHHmmss) -> Date($dateFromString)
+     * - rank : 날짜별 컬렉션에서 순위가 없는 문서만 저장 순서(_id 순서)로 마지막 순위 다음부터 순위 붙이기(저장된 순위는 유지)
+     *
+     * @param colNm 바꿀 컬렉션 이름
+     * @return 수집 시간이 바뀐 문서 수(convertedCnt), 순위가 새로 붙은 문서 수(rankedCnt)
+     */
+    ChartMigrationDTO migrateSchema(String colNm) throws MongoException;
+
+}
@@ -0,0 +1,33 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.BsonDocument;
+import org.bson.Document;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * MongoDB 변경 내역(Change Stream) 구독하기
+ * Change Stream은 복제 세트(Replica Set, 1대로 구성된 복제 세트 포함)에서만 사용할 수 있음
+ */
+public interface IMongoChangeStreamMapper {
+
+    /**
+     * 데이터베이스의 컬렉션 변경 내역 구독하기
+     * 변경 내역은 컬렉션 이름(ns.coll), 변경 종류, 문서 키와 차트 날짜(chartDate) / 요약 날짜(colNm) 필드만 전달됨
+     * 사용이 끝나면 반드시 close 해야 커서가 닫힘
+     *
+     * @param colPattern  구독할 컬렉션 이름
+     * @param resumeToken 마지막으로 처리한 변경 내역의 재개 토큰(없으면 null, 지금부터 구독)
+     * @param batchSize   한번에 가져올 변경 내역 수
+     * @param maxAwait    변경 내역이 없을 때 서버에서 기다리는 최대 시간
+     * @return 변경 내역 커서
+     */
+    MongoChangeStreamCursor<ChangeStreamDocument<Document>> watch(Pattern colPattern, BsonDocument resumeToken,
+                                                                  int batchSize, Duration maxAwait)
+            throws MongoException;
+
+}
@@ -0,0 +1,58 @@
+package kopo.poly.persistance.mongodb;
+
+import kopo.poly.dto.MelonDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 멜론 차트 논블로킹 Mapper(ReactiveMongoTemplate 사용)
+ * 요청 쓰레드를 점유하지 않고, 조회 결과가 준비되는 대로 Flux/Mono로 전달함
+ */
+public interface IReactiveMelonMapper {
+
+    /**
+     * 멜론 노래 리스트 저장하기
+     *
+     * @param pList 저장될 정보
+     * @param colNm 저장할 컬렉션 이름
+     * @return 저장 결과
+     */
+    Mono<Integer> insertSong(List<MelonDTO> pList, String colNm);
+
+    /**
+     * 오늘 수집된 멜론 노래리스트 가져오기
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @return 노래 리스트
+     */
+    Flux<MelonDTO> getSongList(String colNm);
+
+    /**
+     * 멜론 가수별 노래 수 가져오기
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @param topK  상위 몇 명의 가수를 조회할지(0 이하면 전체)
+     * @return 가수별 노래 수
+     */
+    Flux<MelonDTO> getSingerSongCnt(String colNm, int topK);
+
+    /**
+     * 가수의 노래 가져오기
+     *
+     * @param colNm 조회할 컬렉션 이름
+     * @param pDTO  가수명
+     * @return 노래 리스트
+     */
+    Flux<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO);
+
+    /**
+     * 컬렉션 삭제하기
+     *
+     * @param colNm 삭제할 컬렉션 이름
+     * @return 삭제 결과
+     */
+    Mono<Integer> dropCollection(String colNm);
+
+}
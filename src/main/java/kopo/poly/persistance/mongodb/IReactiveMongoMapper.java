@@ -0,0 +1,19 @@
+package kopo.poly.persistance.mongodb;
+
+import kopo.poly.dto.MongoDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * MongoDB 기본 실습 논블로킹 Mapper(ReactiveMongoTemplate 사용)
+ */
+public interface IReactiveMongoMapper {
+
+    /**
+     * 간단한 데이터 저장하기
+     *
+     * @param pDTO  저장할 데이터
+     * @param colNm 저장할 컬렉션 이름
+     * @return 저장 결과
+     */
+    Mono<Integer> insertData(MongoDTO pDTO, String colNm);
+}
@@ -0,0 +1,179 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.MergeOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 멜론 차트 조회/수정/삭제 조건, 출력 컬럼, 집계 파이프라인 모음
+ * <p>
+ * MelonMapper와 실행계획 검사 테스트(MelonQueryPlanTest)가 같은 쿼리를 사용하도록 한 곳에 모아둠
+ * 쿼리를 추가하거나 바꾸면 MelonQueryPlanTest에도 같이 추가해야 인덱스 사용 여부가 검사됨
+ */
+public final class MelonQueries {
+
+    private MelonQueries() {
+    }
+
+    // 날짜별 멜론 차트 컬렉션 이름
+    public static final Pattern DAILY_COL_PATTERN = Pattern.compile("MELON_\\d{8}");
+
+    // 모든 날짜의 멜론 차트를 저장하는 컬렉션(melon.mongo.layout=partitioned)
+    // 문서 구조 : { chartDate : ISODate("2024-03-01"), rank : 1, song : "...", singer : "...", collectTime : ISODate(...) }
+    public static final String CHART_COL = "MELON_CHART";
+
+    // 날짜(컬렉션)별 가수별 노래 수 요약 컬렉션
+    // 문서 구조 : { colNm : "MELON_20240301", singer : "아이유", singerCnt : 3 }
+    public static final String SINGER_CNT_COL = "MELON_SINGER_CNT";
+
+    /**
+     * 날짜별 가수별 노래 수 요약의 조회 결과 캐시 버전 키(MELON_SINGER_CNT:MELON_yyyyMMdd)
+     * 요약 컬렉션은 모든 날짜가 같이 사용하므로, 다른 날짜의 요약 캐시가 같이 무효화되지 않도록 날짜별로 버전을 관리함
+     */
+    public static String singerCntVersion(String colNm) {
+        return SINGER_CNT_COL + ":" + colNm;
+    }
+
+    // 전체 조회 조건
+    public static final Bson ALL = new BsonDocument();
+
+    // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절), 요청마다 Document를 새로 만들지 않도록 BSON으로 변환해 둔 상수 사용
+    // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않으므로 조회하지 않음
+    // SONG_PROJECTION은 {singer, song} 인덱스에 모두 있는 컬럼이므로 가수 조건 조회는 문서를 읽지 않음(covered query)
+    public static final Bson SONG_PROJECTION = projection("song", "singer");
+    public static final Bson NICKNAME_PROJECTION = projection("song", "singer", "nickname");
+    public static final Bson MEMBER_PROJECTION = projection("song", "singer", "member");
+    public static final Bson ADD_DATA_PROJECTION = projection("song", "singer", "addData");
+
+    // 차트 순위 순서, rank 인덱스(날짜 구분 컬렉션은 {chartDate, rank})로 정렬 없이 처리됨
+    public static final Bson RANK_SORT = Sorts.ascending("rank").toBsonDocument();
+
+    // 요약 컬렉션 조회 컬럼 및 정렬(노래 수 내림차순, 같으면 가수 이름순)
+    // {colNm, singerCnt, singer} 인덱스 순서와 같으므로 정렬 없이 인덱스만으로 처리됨
+    public static final Bson SINGER_CNT_PROJECTION = projection("singer", "singerCnt");
+    public static final Bson SINGER_CNT_SORT = Sorts.orderBy(Sorts.descending("singerCnt"), Sorts.ascending("singer"))
+            .toBsonDocument();
+
+    // 가수 이름순 정렬 후 가수별 노래 수 집계(SELECT singer, COUNT(singer) AS singerCnt GROUP BY singer)
+    // 정렬을 먼저 하면 {singer, song}(날짜 구분 컬렉션은 {chartDate, singer, song}) 인덱스만 읽고 문서는 읽지 않음
+    private static final Bson SINGER_SORT = Aggregates.sort(Sorts.ascending("singer")).toBsonDocument();
+    private static final Bson SINGER_CNT_GROUP = Aggregates.group("$singer", Accumulators.sum("singerCnt", 1))
+            .toBsonDocument();
+
+    private static Bson projection(String... fields) {
+        return Projections.fields(Projections.include(fields), Projections.excludeId()).toBsonDocument();
+    }
+
+    /**
+     * 가수 조건(singer = ?)
+     */
+    public static Bson bySinger(String singer) {
+        return Filters.eq("singer", singer);
+    }
+
+    /**
+     * 날짜별 컬렉션 이름(MELON_yyyyMMdd)의 차트 날짜(서버 시간대 0시)
+     */
+    public static Date chartDate(String colNm) {
+        LocalDate date = LocalDate.parse(colNm.substring(colNm.length() - 8), DateTimeFormatter.BASIC_ISO_DATE);
+
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * 차트 날짜의 날짜별 컬렉션 이름(MELON_yyyyMMdd)
+     */
+    public static String colNm(Date chartDate) {
+        return "MELON_" + chartDate.toInstant().atZone(ZoneId.systemDefault()).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 날짜 구분 컬렉션의 차트 날짜 조건(chartDate = ?)
+     */
+    public static Bson byChartDate(Date chartDate) {
+        return Filters.eq("chartDate", chartDate);
+    }
+
+    /**
+     * 날짜 구분 컬렉션에서 날짜 조건을 더한 조건(chartDate = ? AND ...)
+     */
+    public static Bson inChart(Date chartDate, Bson query) {
+        return query == ALL ? byChartDate(chartDate) : Filters.and(byChartDate(chartDate), query);
+    }
+
+    /**
+     * 요약 컬렉션의 날짜 조건(colNm = ?)
+     */
+    public static Bson byColNm(String colNm) {
+        return Filters.eq("colNm", colNm);
+    }
+
+    /**
+     * 요약 컬렉션의 날짜 + 가수 조건($inc upsert 기준)
+     */
+    public static Bson byColNmAndSinger(String colNm, String singer) {
+        return Filters.and(Filters.eq("colNm", colNm), Filters.eq("singer", singer));
+    }
+
+    /**
+     * 요약 컬렉션에서 해당 날짜의 차트에 없는 가수 조건(colNm = ? AND singer NOT IN (...))
+     *
+     * @param singers 차트에 있는 가수들
+     */
+    public static Bson staleSingers(String colNm, List<String> singers) {
+        return Filters.and(Filters.eq("colNm", colNm), Filters.nin("singer", singers));
+    }
+
+    /**
+     * 날짜별 가수별 노래 수 집계 결과를 요약 컬렉션에 바로 저장하는 파이프라인($merge, 결과를 서버로 가져오지 않음)
+     *
+     * @param colNm 집계할 컬렉션 이름
+     */
+    public static List<Bson> singerCntRefreshPipeline(String colNm) {
+        return singerCntRefreshPipeline(colNm, ALL);
+    }
+
+    /**
+     * 조건에 맞는 노래만 집계하는 파이프라인(날짜 구분 컬렉션은 차트 날짜 조건으로 집계)
+     *
+     * @param colNm 요약에 저장할 날짜(컬렉션 이름)
+     * @param match 집계할 노래 조건
+     */
+    public static List<Bson> singerCntRefreshPipeline(String colNm, Bson match) {
+
+        List<Bson> pipeline = new ArrayList<>(5);
+
+        if (match != ALL) {
+            pipeline.add(Aggregates.match(match));
+        }
+
+        pipeline.addAll(List.of(
+                SINGER_SORT,
+                SINGER_CNT_GROUP,
+                Aggregates.project(Projections.fields(
+                        Projections.computed("colNm", new Document("$literal", colNm)),
+                        Projections.computed("singer", "$_id"),
+                        Projections.include("singerCnt"),
+                        Projections.excludeId())),
+                Aggregates.merge(SINGER_CNT_COL, new MergeOptions()
+                        .uniqueIdentifier(List.of("colNm", "singer"))
+                        .whenMatched(MergeOptions.WhenMatched.REPLACE)
+                        .whenNotMatched(MergeOptions.WhenNotMatched.INSERT))));
+
+        return pipeline;
+    }
+}
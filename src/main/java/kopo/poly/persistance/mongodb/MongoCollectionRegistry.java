@@ -0,0 +1,84 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.MongoCommandException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에서 존재를 확인한 컬렉션 이름 저장소
+ * <p>
+ * 저장 요청마다 collectionExists(listCollections)를 호출하지 않도록, 처음 한 번만 MongoDB에 생성을 요청하고
+ * 결과(생성됨 또는 이미 있음)를 기억해 두고 이후에는 메모리에서만 확인함
+ * - 생성 : 존재 여부를 먼저 조회하지 않고 바로 생성 요청, 다른 서버(Pod)가 먼저 만들었다면
+ * NamespaceExists 오류를 받고 이미 있는 것으로 처리함(MongoDB 호출 1번)
+ * - 삭제 : 컬렉션을 삭제하면 반드시 forget을 호출해야 다시 생성함
+ * <p>
+ * 다른 서버에서 삭제한 컬렉션은 알 수 없으므로 이 서버는 계속 있는 것으로 판단하지만,
+ * MongoDB는 저장할 때 없는 컬렉션을 자동으로 생성하므로 저장은 실패하지 않음(인덱스는 서버 시작시 MongoIndexReconciler가 다시 적용함)
+ */
+@Slf4j
+public class MongoCollectionRegistry {
+
+    // MongoDB 오류 코드 : 이미 존재하는 컬렉션
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final MongoTemplate mongodb;
+
+    // 이 서버에서 존재를 확인한 컬렉션
+    private final Set<String> known = ConcurrentHashMap.newKeySet();
+
+    public MongoCollectionRegistry(MongoTemplate mongodb) {
+        this.mongodb = mongodb;
+    }
+
+    /**
+     * 컬렉션이 없으면 생성하기
+     *
+     * @param colNm 컬렉션 이름
+     * @return 이번 호출에서 생성했으면 true, 이미 있었으면 false
+     */
+    public boolean create(String colNm) throws MongoCommandException {
+
+        if (known.contains(colNm)) {
+            return false;
+        }
+
+        boolean res;
+
+        try {
+            // MongoTemplate.createCollection은 오류를 Spring 예외로 바꾸므로 오류 코드 확인을 위해 드라이버로 직접 생성함
+            mongodb.getDb().createCollection(colNm);
+            res = true;
+
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+
+            // 다른 서버(또는 다른 쓰레드)가 먼저 생성함
+            log.info("{} already exists", colNm);
+            res = false;
+        }
+
+        known.add(colNm);
+
+        return res;
+    }
+
+    /**
+     * 이 서버에서 존재를 확인한 컬렉션인지(MongoDB에 조회하지 않음)
+     */
+    public boolean contains(String colNm) {
+        return known.contains(colNm);
+    }
+
+    /**
+     * 컬렉션이 삭제되었으므로 존재 여부 지우기(다시 저장하면 다시 생성함)
+     */
+    public void forget(String colNm) {
+        known.remove(colNm);
+    }
+}
@@ -0,0 +1,45 @@
+package kopo.poly.persistance.mongodb;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 서버 시작시 이미 저장되어 있는 컬렉션(예 : 이전 날짜의 멜론 차트)에도 선언된 인덱스 적용하기
+ * 인덱스 생성은 오래 걸릴 수 있으므로 서버 시작을 기다리게 하지 않고 backendExecutor에서 실행함
+ */
+@Slf4j
+@ConditionalOnProperty(name = "melon.mongo.index.reconcile-on-startup", havingValue = "true", matchIfMissing = true)
+@Component
+public class MongoIndexReconciler {
+
+    private final MongoIndexRegistry indexRegistry;
+
+    private final Executor backendExecutor;
+
+    public MongoIndexReconciler(MongoIndexRegistry indexRegistry,
+                                @Qualifier("backendExecutor") Executor backendExecutor) {
+        this.indexRegistry = indexRegistry;
+        this.backendExecutor = backendExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        backendExecutor.execute(() -> {
+            try {
+                int res = indexRegistry.reconcile();
+
+                log.info("index reconcile on startup - created index count : {}", res);
+
+            } catch (Exception e) {
+                // MongoDB 접속 실패 등, 서버 실행에는 영향 없음(관리자 API로 다시 실행 가능)
+                log.warn("index reconcile on startup fail : {}", e.getMessage());
+            }
+        });
+    }
+}
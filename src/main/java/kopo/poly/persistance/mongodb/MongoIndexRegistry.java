@@ -0,0 +1,231 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import kopo.poly.dto.IndexBuildDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 컬렉션 종류(family)별로 필요한 인덱스를 선언해두고, 컬렉션에 적용하는 저장소
+ * <p>
+ * - 선언 : 컬렉션 이름 패턴과 인덱스 목록(MongoConfiguration.mongoIndexRegistry 참고)
+ * - 적용 : 컬렉션 생성시, 서버 시작시(MongoIndexReconciler) 없는 인덱스만 생성함(이미 있으면 생성하지 않음)
+ * - 생성 이력 : 인덱스별 생성 상태와 소요 시간을 보관하고 관리자 API(/mongo/admin/v1)로 조회함
+ */
+@Slf4j
+public class MongoIndexRegistry {
+
+    /**
+     * 컬렉션 종류별 인덱스 선언
+     *
+     * @param name    종류 이름
+     * @param pattern 컬렉션 이름 패턴
+     * @param indexes 필요한 인덱스
+     */
+    public record IndexFamily(String name, Pattern pattern, List<IndexModel> indexes) {
+    }
+
+    private final MongoTemplate mongodb;
+
+    private final List<IndexFamily> families = new ArrayList<>();
+
+    // 이 서버에서 인덱스 적용이 끝난 컬렉션(다시 적용하지 않음, 컬렉션 삭제시 제거)
+    private final Set<String> applied = ConcurrentHashMap.newKeySet();
+
+    // 인덱스 생성 이력(키 : 컬렉션 이름.인덱스 이름)
+    private final Map<String, IndexBuildDTO> builds = new ConcurrentHashMap<>();
+
+    public MongoIndexRegistry(MongoTemplate mongodb) {
+        this.mongodb = mongodb;
+    }
+
+    /**
+     * 컬렉션 종류 선언하기
+     *
+     * @param name      종류 이름
+     * @param colRegex  컬렉션 이름 패턴(정규식, 전체 일치)
+     * @param indexes   필요한 인덱스
+     * @return this
+     */
+    public MongoIndexRegistry family(String name, String colRegex, IndexModel... indexes) {
+        families.add(new IndexFamily(name, Pattern.compile(colRegex), List.of(indexes)));
+        return this;
+    }
+
+    /**
+     * 컬렉션 이름에 해당하는 종류 찾기
+     */
+    public Optional<IndexFamily> familyOf(String colNm) {
+        return families.stream().filter(f -> f.pattern().matcher(colNm).matches()).findFirst();
+    }
+
+    /**
+     * 컬렉션에 선언된 인덱스 적용하기(이 서버에서 이미 적용했다면 MongoDB에 조회하지 않음)
+     *
+     * @param colNm 컬렉션 이름
+     * @return 새로 생성한 인덱스 수
+     */
+    public int ensure(String colNm) {
+
+        if (applied.contains(colNm)) {
+            return 0;
+        }
+
+        return this.apply(colNm);
+    }
+
+    /**
+     * 컬렉션에 선언된 인덱스 중 없는 인덱스 생성하기
+     * 여러 인덱스는 createIndexes 1번으로 같이 생성함(컬렉션을 1번만 읽음)
+     *
+     * @param colNm 컬렉션 이름
+     * @return 새로 생성한 인덱스 수
+     */
+    public int apply(String colNm) throws MongoException {
+
+        IndexFamily family = this.familyOf(colNm).orElse(null);
+
+        if (family == null) {
+            applied.add(colNm);
+            return 0;
+        }
+
+        MongoCollection<Document> col = mongodb.getCollection(colNm);
+
+        // 이미 생성된 인덱스 이름
+        Set<String> existing = new HashSet<>();
+        col.listIndexes().forEach(idx -> existing.add(idx.getString("name")));
+
+        List<IndexModel> missing = family.indexes().stream()
+                .filter(idx -> !existing.contains(indexName(idx)))
+                .toList();
+
+        if (missing.isEmpty()) {
+            applied.add(colNm);
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        missing.forEach(idx -> this.track(colNm, family, idx, "BUILDING", startTime, 0, null));
+
+        try {
+            col.createIndexes(missing);
+
+            long elapsedMs = System.currentTimeMillis() - startTime;
+
+            missing.forEach(idx -> this.track(colNm, family, idx, "READY", startTime, elapsedMs, null));
+
+            log.info("index created - colNm : {}, indexes : {}, elapsedMs : {}", colNm,
+                    missing.stream().map(MongoIndexRegistry::indexName).toList(), elapsedMs);
+
+        } catch (MongoException e) {
+            long elapsedMs = System.currentTimeMillis() - startTime;
+
+            missing.forEach(idx -> this.track(colNm, family, idx, "FAILED", startTime, elapsedMs, e.getMessage()));
+
+            log.warn("index create fail - colNm : {}, {}", colNm, e.getMessage());
+
+            throw e;
+        }
+
+        applied.add(colNm);
+
+        return missing.size();
+    }
+
+    /**
+     * 저장된 모든 컬렉션에 선언된 인덱스 적용하기
+     *
+     * @return 새로 생성한 인덱스 수
+     */
+    public int reconcile() {
+
+        int res = 0;
+
+        for (String colNm : mongodb.getCollectionNames()) {
+            try {
+                res += this.apply(colNm);
+
+            } catch (MongoException e) {
+                // 한 컬렉션이 실패해도 나머지 컬렉션은 계속 적용하기(실패 내용은 생성 이력에 남음)
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * 컬렉션이 삭제되었으므로 적용 여부 지우기(다시 생성되면 인덱스를 다시 적용함)
+     */
+    public void forget(String colNm) {
+        applied.remove(colNm);
+    }
+
+    /**
+     * 인덱스 생성 이력 가져오기(최근 시작된 순서)
+     */
+    public List<IndexBuildDTO> getBuilds() {
+        return builds.values().stream()
+                .sorted((a, b) -> Long.compare(b.startTime(), a.startTime()))
+                .toList();
+    }
+
+    private void track(String colNm, IndexFamily family, IndexModel idx, String status,
+                       long startTime, long elapsedMs, String errorMsg) {
+
+        String indexNm = indexName(idx);
+
+        builds.put(colNm + "." + indexNm, IndexBuildDTO.builder()
+                .colNm(colNm)
+                .family(family.name())
+                .indexNm(indexNm)
+                .keys(idx.getKeys().toBsonDocument().toJson())
+                .status(status)
+                .startTime(startTime)
+                .elapsedMs(elapsedMs)
+                .errorMsg(errorMsg)
+                .build());
+    }
+
+    /**
+     * 인덱스 이름 가져오기(이름을 지정하지 않았다면 MongoDB 기본 규칙 : 필드_방향_필드_방향)
+     */
+    static String indexName(IndexModel idx) {
+
+        String name = idx.getOptions().getName();
+
+        if (name != null) {
+            return name;
+        }
+
+        BsonDocument keys = idx.getKeys().toBsonDocument();
+
+        return keys.entrySet().stream()
+                .map(e -> e.getKey() + "_" + keyValue(e.getValue()))
+                .collect(Collectors.joining("_"));
+    }
+
+    private static String keyValue(BsonValue value) {
+        if (value.isNumber()) {
+            return String.valueOf(value.asNumber().intValue());
+        }
+
+        return value.isString() ? value.asString().getValue() : value.toString();
+    }
+}
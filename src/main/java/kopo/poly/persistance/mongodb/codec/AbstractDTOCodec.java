@@ -0,0 +1,143 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO(record) <-> BSON 직접 변환 Codec 공통 기능
+ * Jackson(ObjectMapper) -> Map -> Document 변환 없이 BsonWriter/BsonReader로 바로 읽고 씀
+ */
+public abstract class AbstractDTOCodec<T> implements Codec<T> {
+
+    /**
+     * 문자열 필드 쓰기(null 값은 저장하지 않음)
+     */
+    protected void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    /**
+     * 문자열 리스트 필드 쓰기(null 값은 저장하지 않음)
+     */
+    protected void writeStringList(BsonWriter writer, String name, List<String> value) {
+        if (value != null) {
+            writer.writeStartArray(name);
+
+            for (String s : value) {
+                if (s == null) {
+                    writer.writeNull();
+
+                } else {
+                    writer.writeString(s);
+                }
+            }
+
+            writer.writeEndArray();
+        }
+    }
+
+    /**
+     * 날짜 문자열 필드를 BSON Date로 쓰기(null 값은 저장하지 않음, 형식이 맞지 않으면 문자열 그대로 저장)
+     */
+    protected void writeDateTime(BsonWriter writer, String name, String value, DateTimeFormatter format) {
+        if (value == null) {
+            return;
+        }
+
+        try {
+            writer.writeDateTime(name, LocalDateTime.parse(value, format)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        } catch (DateTimeParseException e) {
+            writer.writeString(name, value);
+        }
+    }
+
+    /**
+     * BSON Date 필드를 날짜 문자열로 읽기(이전에 문자열로 저장된 값은 그대로 읽음)
+     */
+    protected String readDateTime(BsonReader reader, DateTimeFormatter format) {
+
+        String res;
+
+        if (reader.getCurrentBsonType() == BsonType.DATE_TIME) {
+            res = format.format(Instant.ofEpochMilli(reader.readDateTime()).atZone(ZoneId.systemDefault()));
+
+        } else {
+            res = this.readString(reader);
+        }
+
+        return res;
+    }
+
+    /**
+     * 문자열 필드 읽기(문자열이 아니면 null)
+     */
+    protected String readString(BsonReader reader) {
+
+        String res = null;
+
+        if (reader.getCurrentBsonType() == BsonType.STRING) {
+            res = reader.readString();
+
+        } else {
+            reader.skipValue();
+        }
+
+        return res;
+    }
+
+    /**
+     * 숫자 필드 읽기($sum 결과는 int, long, double 중 하나로 전달될 수 있음)
+     */
+    protected int readInt(BsonReader reader) {
+
+        int res = 0;
+
+        switch (reader.getCurrentBsonType()) {
+            case INT32 -> res = reader.readInt32();
+            case INT64 -> res = (int) reader.readInt64();
+            case DOUBLE -> res = (int) reader.readDouble();
+            default -> reader.skipValue();
+        }
+
+        return res;
+    }
+
+    /**
+     * 문자열 리스트 필드 읽기
+     */
+    protected List<String> readStringList(BsonReader reader) {
+
+        List<String> rList = null;
+
+        if (reader.getCurrentBsonType() == BsonType.ARRAY) {
+            rList = new ArrayList<>();
+
+            reader.readStartArray();
+
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                rList.add(this.readString(reader));
+            }
+
+            reader.readEndArray();
+
+        } else {
+            reader.skipValue();
+        }
+
+        return rList;
+    }
+}
@@ -0,0 +1,108 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.util.CmmUtil;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MelonDTO <-> BSON 변환 Codec
+ * MelonDTO의 @JsonInclude(NON_DEFAULT)와 동일하게 null 값, 0인 rank, singerCnt는 저장하지 않음
+ * 수집 시간(collectTime)은 정렬/기간 조회가 가능하도록 BSON Date로 저장하고, 읽을 때 다시 문자열(yyyyMMddHHmmss)로 변환함
+ */
+public class MelonDTOCodec extends AbstractDTOCodec<MelonDTO> {
+
+    // MelonDTO.collectTime 문자열 형식
+    public static final DateTimeFormatter COLLECT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Override
+    public void encode(BsonWriter writer, MelonDTO value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        this.writeFields(writer, value);
+        writer.writeEndDocument();
+    }
+
+    /**
+     * 문서 시작/종료 없이 MelonDTO 필드만 쓰기
+     * 컬렉션 구조에 따라 필드를 추가로 붙여 저장할 때 사용함
+     */
+    public void writeFields(BsonWriter writer, MelonDTO value) {
+        writeDateTime(writer, "collectTime", value.collectTime(), COLLECT_TIME_FORMAT);
+
+        if (value.rank() != 0) {
+            writer.writeInt32("rank", value.rank());
+        }
+
+        writeString(writer, "song", value.song());
+        writeString(writer, "singer", value.singer());
+
+        if (value.singerCnt() != 0) {
+            writer.writeInt32("singerCnt", value.singerCnt());
+        }
+
+        writeString(writer, "updateSinger", value.updateSinger());
+        writeString(writer, "nickname", value.nickname());
+        writeStringList(writer, "member", value.member());
+        writeString(writer, "addFieldValue", value.addFieldValue());
+    }
+
+    /**
+     * 조회하지 않았거나 없는 필드는 이전 조회 결과(CmmUtil.nvl)와 같게 노래, 가수, 닉네임, 추가 필드는 "",
+     * 멤버는 빈 리스트로 채움
+     */
+    @Override
+    public MelonDTO decode(BsonReader reader, DecoderContext decoderContext) {
+
+        MelonDTO.MelonDTOBuilder builder = MelonDTO.builder();
+
+        String song = "";
+        String singer = "";
+        String nickname = "";
+        List<String> member = new ArrayList<>();
+        String addFieldValue = "";
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "collectTime" -> builder.collectTime(readDateTime(reader, COLLECT_TIME_FORMAT));
+                case "rank" -> builder.rank(readInt(reader));
+                case "song" -> song = CmmUtil.nvl(readString(reader));
+                case "singer" -> singer = CmmUtil.nvl(readString(reader));
+                case "singerCnt" -> builder.singerCnt(readInt(reader));
+                case "updateSinger" -> builder.updateSinger(readString(reader));
+                case "nickname" -> nickname = CmmUtil.nvl(readString(reader));
+                case "member" -> {
+                    List<String> rList = readStringList(reader);
+                    member = rList == null ? new ArrayList<>() : rList;
+                }
+
+                // updateFieldAndAddField는 addData 필드로 저장하므로 같은 값으로 읽음
+                case "addFieldValue", "addData" -> addFieldValue = CmmUtil.nvl(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return builder
+                .song(song)
+                .singer(singer)
+                .nickname(nickname)
+                .member(member)
+                .addFieldValue(addFieldValue)
+                .build();
+    }
+
+    @Override
+    public Class<MelonDTO> getEncoderClass() {
+        return MelonDTO.class;
+    }
+}
@@ -0,0 +1,116 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MelonDTO;
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * MelonDTO 리스트를 MongoDB에 저장할 BSON 문서(RawBsonDocument)로 변환하는 인코딩 단계
+ */
+public class MelonDocumentEncoder {
+
+    /**
+     * MelonDTO 리스트를 BSON 문서 리스트로 변환하기
+     * 문서 수가 기준값 이상일 때만 병렬로 변환하며, 병렬 변환시에도 결과 순서는 입력 순서(차트 순위)와 같음
+     *
+     * @param pList             변환할 노래 리스트(차트 순위 순서)
+     * @param codec             MelonDTO Codec(상태가 없어 여러 쓰레드에서 같이 사용 가능)
+     * @param parallelThreshold 병렬 변환을 시작할 최소 문서 수
+     * @return 입력 순서와 같은 순서의 BSON 문서 리스트
+     */
+    public static List<RawBsonDocument> encodeAll(List<MelonDTO> pList, Codec<MelonDTO> codec, int parallelThreshold) {
+
+        // 적은 양은 쓰레드 분배 비용이 더 크기 때문에 단일 쓰레드로 변환함
+        Stream<MelonDTO> stream = pList.size() >= parallelThreshold ? pList.parallelStream() : pList.stream();
+
+        // 순서가 있는 스트림의 toList()는 병렬 처리에서도 입력 순서를 유지함(공유 List에 add 하지 않음)
+        return stream.map(pDTO -> new RawBsonDocument(pDTO, codec)).toList();
+    }
+
+    /**
+     * MelonDTO 리스트를 차트 날짜, 순위 필드를 붙인 BSON 문서 리스트로 변환하기(날짜 구분 컬렉션 MELON_CHART 저장용)
+     * 순위가 없는 노래는 리스트 순서(1부터)를 순위로 사용하며, 병렬 변환시에도 결과 순서는 입력 순서와 같음
+     *
+     * @param pList             변환할 노래 리스트(차트 순위 순서)
+     * @param codec             MelonDTO Codec
+     * @param parallelThreshold 병렬 변환을 시작할 최소 문서 수
+     * @param chartDate         차트 날짜
+     * @return 입력 순서와 같은 순서의 BSON 문서 리스트
+     */
+    public static List<RawBsonDocument> encodeAll(List<MelonDTO> pList, MelonDTOCodec codec, int parallelThreshold,
+                                                  Date chartDate) {
+
+        IntStream stream = IntStream.range(0, pList.size());
+
+        if (pList.size() >= parallelThreshold) {
+            stream = stream.parallel();
+        }
+
+        return stream.mapToObj(i -> encode(pList.get(i), codec, chartDate, i + 1)).toList();
+    }
+
+    private static RawBsonDocument encode(MelonDTO pDTO, MelonDTOCodec codec, Date chartDate, int rank) {
+
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            writer.writeDateTime("chartDate", chartDate.getTime());
+
+            // 순위가 있으면 Codec이 저장함
+            if (pDTO.rank() == 0) {
+                writer.writeInt32("rank", rank);
+            }
+
+            codec.writeFields(writer, pDTO);
+            writer.writeEndDocument();
+        }
+
+        return new RawBsonDocument(buffer.toByteArray());
+    }
+
+    /**
+     * BSON 문서 리스트를 건수/용량 기준으로 배치 나누기
+     *
+     * @param docs     나눌 문서 리스트
+     * @param maxCount 배치당 최대 문서 수
+     * @param maxBytes 배치당 최대 BSON 크기(byte)
+     * @return 순서가 유지된 배치 리스트
+     */
+    public static List<List<RawBsonDocument>> split(List<RawBsonDocument> docs, int maxCount, long maxBytes) {
+
+        List<List<RawBsonDocument>> rList = new ArrayList<>();
+
+        List<RawBsonDocument> batch = new ArrayList<>();
+        long batchBytes = 0;
+
+        for (RawBsonDocument doc : docs) {
+            int docBytes = doc.getByteBuffer().remaining();
+
+            // 건수 또는 용량 제한을 넘으면 새로운 배치 시작하기
+            if (!batch.isEmpty() && (batch.size() >= maxCount || batchBytes + docBytes > maxBytes)) {
+                rList.add(batch);
+
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+
+            batch.add(doc);
+            batchBytes += docBytes;
+        }
+
+        if (!batch.isEmpty()) {
+            rList.add(batch);
+        }
+
+        return rList;
+    }
+}
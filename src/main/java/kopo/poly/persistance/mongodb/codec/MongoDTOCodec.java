@@ -0,0 +1,49 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MongoDTO;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * MongoDTO <-> BSON 변환 Codec
+ */
+public class MongoDTOCodec extends AbstractDTOCodec<MongoDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, MongoDTO value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "userName", value.userName());
+        writeString(writer, "addr", value.addr());
+        writeString(writer, "email", value.email());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public MongoDTO decode(BsonReader reader, DecoderContext decoderContext) {
+
+        MongoDTO.MongoDTOBuilder builder = MongoDTO.builder();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "userName" -> builder.userName(readString(reader));
+                case "addr" -> builder.addr(readString(reader));
+                case "email" -> builder.email(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return builder.build();
+    }
+
+    @Override
+    public Class<MongoDTO> getEncoderClass() {
+        return MongoDTO.class;
+    }
+}
@@ -0,0 +1,57 @@
+package kopo.poly.persistance.mongodb.codec;
+
+import kopo.poly.dto.MovieDTO;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * MovieDTO <-> BSON 변환 Codec
+ */
+public class MovieDTOCodec extends AbstractDTOCodec<MovieDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, MovieDTO value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "collectTime", value.collectTime());
+        writeString(writer, "rank", value.rank());
+        writeString(writer, "name", value.name());
+        writeString(writer, "reserve", value.reserve());
+        writeString(writer, "score", value.score());
+        writeString(writer, "openDay", value.openDay());
+        writeString(writer, "speechCommand", value.speechCommand());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public MovieDTO decode(BsonReader reader, DecoderContext decoderContext) {
+
+        MovieDTO.MovieDTOBuilder builder = MovieDTO.builder();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "collectTime" -> builder.collectTime(readString(reader));
+                case "rank" -> builder.rank(readString(reader));
+                case "name" -> builder.name(readString(reader));
+                case "reserve" -> builder.reserve(readString(reader));
+                case "score" -> builder.score(readString(reader));
+                case "openDay" -> builder.openDay(readString(reader));
+                case "speechCommand" -> builder.speechCommand(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return builder.build();
+    }
+
+    @Override
+    public Class<MovieDTO> getEncoderClass() {
+        return MovieDTO.class;
+    }
+}
@@ -1,32 +1,168 @@
 package kopo.poly.persistance.mongodb.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
-import com.mongodb.client.AggregateIterable;
+import com.mongodb.MongoNamespace;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import kopo.poly.dto.BulkResultDTO;
 import kopo.poly.dto.MelonDTO;
 import kopo.poly.persistance.mongodb.AbstractMongoDBComon;
 import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.mongodb.codec.MelonDocumentEncoder;
 import kopo.poly.util.CmmUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.bson.codecs.Codec;
 import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 날짜별 컬렉션(MELON_yyyyMMdd) 구조의 멜론 차트 Mapper(기본값, melon.mongo.layout=daily)
+ * <p>
+ * 컬렉션 구조에 따라 달라지는 부분(컬렉션 선택, 날짜 조건, 순위 정렬, 저장 문서 변환, 컬렉션 생성/삭제)은
+ * protected 메소드로 분리되어 있으며, 하나의 컬렉션에 날짜를 구분해 저장하는 구조는 PartitionedMelonMapper 참고
+ */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "melon.mongo.layout", havingValue = "daily", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
     private final MongoTemplate mongodb;
 
+    // 여러 배치를 동시에 저장할 때 사용하는 쓰레드풀
+    private final ExecutorService mongoWriteExecutor;
+
+    // 한 배치에 담을 최대 문서 수
+    @Value("${melon.mongo.bulk.max-count:1000}")
+    private int bulkMaxCount;
+
+    // 한 배치에 담을 최대 BSON 크기(byte)
+    @Value("${melon.mongo.bulk.max-bytes:4194304}")
+    private long bulkMaxBytes;
+
+    // 대량 저장시 사용할 WriteConcern 이름(ACKNOWLEDGED, W1, MAJORITY, UNACKNOWLEDGED 등)
+    @Value("${melon.mongo.bulk.write-concern:ACKNOWLEDGED}")
+    private String bulkWriteConcern;
+
+    // BSON 변환을 병렬로 처리할 최소 문서 수
+    @Value("${melon.mongo.encode.parallel-threshold:1000}")
+    private int encodeParallelThreshold;
+
+    // 커서 조회시 MongoDB에서 한번에 가져올 문서 수(커서 사용 중 메모리에 올라가는 최대 문서 수)
+    @Value("${melon.mongo.stream.batch-size:1000}")
+    private int streamBatchSize;
+
+    // 처음 조회할 때 예상하는 결과 건수(멜론 차트는 100곡)
+    @Value("${melon.mongo.read.expected-size:100}")
+    private int readExpectedSize;
+
+    // 조회 종류, 날짜별 마지막 결과 건수(다음 조회의 List 크기와 batchSize 예상값으로 사용)
+    private final Map<String, Integer> resultSizeHint = new ConcurrentHashMap<>();
+
+    /**
+     * 날짜(colNm)의 차트가 저장된 컬렉션
+     */
+    protected MongoCollection<Document> chartCol(String colNm) {
+        return mongodb.getCollection(colNm);
+    }
+
+    /**
+     * 날짜(colNm)의 차트를 저장할 컬렉션 생성
+     *
+     * @return 새로 생성했으면 true
+     */
+    protected boolean createChartCollection(String colNm) {
+        return super.createCollection(mongodb, colNm);
+    }
+
+    /**
+     * 날짜(colNm)의 차트를 저장한 컬렉션 삭제
+     *
+     * @return 삭제했으면 1
+     */
+    protected int dropChart(String colNm) {
+        return super.dropCollection(mongodb, colNm) ? 1 : 0;
+    }
+
+    /**
+     * 날짜(colNm)의 차트가 저장되어 있는지
+     */
+    protected boolean chartExists(String colNm) {
+        return mongodb.collectionExists(colNm);
+    }
+
+    /**
+     * 저장되어 있는 모든 날짜(colNm)
+     */
+    protected List<String> getChartNames() {
+        return mongodb.getCollectionNames().stream()
+                .filter(colNm -> MelonQueries.DAILY_COL_PATTERN.matcher(colNm).matches())
+                .toList();
+    }
+
+    /**
+     * 조회/수정/삭제 조건에 날짜 조건 더하기(날짜별 컬렉션은 컬렉션이 날짜이므로 그대로 사용)
+     */
+    protected Bson where(String colNm, Bson query) {
+        return query;
+    }
+
+    /**
+     * 전체 차트 조회 순서(차트 순위, rank 인덱스로 정렬 없이 처리됨)
+     */
+    protected Bson chartOrder() {
+        return MelonQueries.RANK_SORT;
+    }
+
+    /**
+     * 저장할 노래 리스트를 BSON 문서로 변환하기
+     */
+    protected List<RawBsonDocument> encode(String colNm, List<MelonDTO> pList, Codec<MelonDTO> codec,
+                                           int parallelThreshold) {
+        return MelonDocumentEncoder.encodeAll(pList, codec, parallelThreshold);
+    }
+
+    /**
+     * 변환된 문서 1건의 저장 방법(날짜별 컬렉션은 추가 저장)
+     */
+    protected WriteModel<RawBsonDocument> writeModel(RawBsonDocument doc) {
+        return new InsertOneModel<>(doc);
+    }
+
+    /**
+     * 저장한 노래를 가수별 노래 수 요약에 반영하기(날짜별 컬렉션은 저장한 노래 수만큼 더함)
+     */
+    protected void addSingerCnt(String colNm, List<MelonDTO> pList) {
+        this.incSingerCnt(colNm, pList);
+    }
+
     @Override
     public int insertSong(List<MelonDTO> pList, String colNm) throws MongoException {
 
@@ -34,154 +170,477 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
+        // 노래 한건씩 insertOne 하지 않고, 배치 단위로 묶어서 저장하기
+        List<BulkResultDTO> rList = this.insertSongBulk(pList, colNm);
+
+        // 모든 배치가 실패 없이 저장되었다면 성공
+        res = rList.stream().allMatch(r -> r.failedCnt() == 0) ? 1 : 0;
+
+        log.info("{}.insertSong End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @Override
+    public List<BulkResultDTO> insertSongBulk(List<MelonDTO> pList, String colNm) throws MongoException {
+
+        log.info("{}.insertSongBulk Start!", this.getClass().getName());
+
         // 데이터를 저장할 컬렉션 생성
-        if (super.createCollection(mongodb, colNm, "collectTime")) {
+        if (this.createChartCollection(colNm)) {
             log.info("{} 생성되었습니다.", colNm);
         }
 
-        // 저장할 컬렉션 객체 생성
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        List<BulkResultDTO> rList = this.writeChart(this.chartCol(colNm), colNm, pList);
 
-        for (MelonDTO pDTO : pList) {
-            col.insertOne(new Document(new ObjectMapper().convertValue(pDTO, Map.class))); // 레코드 한개씩 저장하기
+        // 가수별 노래 수 요약 반영하기(일부 저장이 실패했다면 저장된 문서 기준으로 다시 만들기)
+        if (rList.stream().allMatch(r -> r.failedCnt() == 0)) {
+            this.addSingerCnt(colNm, pList);
+
+        } else {
+            this.refreshSingerSongCnt(colNm);
         }
 
-        res = 1;
+        log.info("{}.insertSongBulk End!", this.getClass().getName());
 
-        log.info("{}.insertSong End!", this.getClass().getName());
+        return rList;
+    }
+
+    @Override
+    public int replaceSong(List<MelonDTO> pList, String colNm) throws MongoException {
+
+        log.info("{}.replaceSong Start!", this.getClass().getName());
+
+        int res = 0;
+
+        // 임시 컬렉션에 모두 저장한 후 이름을 바꿔서 교체하기
+        // 교체 전까지는 기존 차트가 그대로 조회되고, 저장이 실패하면 기존 차트가 유지됨
+        String tmpColNm = colNm + "_TMP_" + new ObjectId().toHexString();
+
+        // 임시 컬렉션에도 날짜별 컬렉션 인덱스를 만들어 두면 이름을 바꿀 때 같이 옮겨짐
+        super.createCollection(mongodb, tmpColNm);
+
+        try {
+            MongoCollection<Document> tmp = mongodb.getCollection(tmpColNm);
+
+            List<BulkResultDTO> rList = this.writeChart(tmp, colNm, pList);
+
+            if (rList.stream().allMatch(r -> r.failedCnt() == 0)) {
+                tmp.renameCollection(new MongoNamespace(mongodb.getDb().getName(), colNm),
+                        new RenameCollectionOptions().dropTarget(true));
+
+                // 교체된 차트 기준으로 가수별 노래 수 요약 다시 만들기
+                this.refreshSingerSongCnt(colNm);
+
+                res = 1;
+            }
+
+        } finally {
+            // 이름이 바뀌었으면 이미 없는 컬렉션이므로 이 서버의 생성 여부, 인덱스 적용 여부만 지워짐
+            super.dropCollection(mongodb, tmpColNm);
+        }
+
+        log.info("colNm : {} / res : {}", colNm, res);
+
+        log.info("{}.replaceSong End!", this.getClass().getName());
 
         return res;
     }
 
-    @Override
-    public List<MelonDTO> getSongList(String colNm) throws MongoException {
+    /**
+     * 저장할 노래 리스트를 BSON 문서로 변환하기(MongoClient에 등록된 MelonDTO Codec으로 Map 변환 없이 변환함)
+     */
+    protected List<RawBsonDocument> encode(String colNm, List<MelonDTO> pList) {
+        return this.encode(colNm, pList, mongodb.getDb().getCodecRegistry().get(MelonDTO.class),
+                encodeParallelThreshold);
+    }
 
-        log.info("{}.getSongList Start!", this.getClass().getName());
+    /**
+     * 노래 리스트를 건수 또는 용량 제한으로 나눈 배치 단위로 저장하기
+     *
+     * @param target 저장할 컬렉션
+     * @param colNm  차트 날짜(MELON_yyyyMMdd)
+     * @param pList  저장할 노래 리스트
+     * @return 배치별 저장 결과
+     */
+    private List<BulkResultDTO> writeChart(MongoCollection<Document> target, String colNm, List<MelonDTO> pList) {
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
+        List<BulkResultDTO> rList = new ArrayList<>();
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        // 설정된 이름이 잘못되었다면 기본값(ACKNOWLEDGED) 사용하기
+        WriteConcern writeConcern = Optional.ofNullable(WriteConcern.valueOf(bulkWriteConcern))
+                .orElse(WriteConcern.ACKNOWLEDGED);
+
+        // 문서 크기를 미리 알 수 있도록 BSON으로 변환된 문서(RawBsonDocument)를 그대로 저장하는 컬렉션 객체 생성
+        MongoCollection<RawBsonDocument> col = target
+                .withDocumentClass(RawBsonDocument.class)
+                .withWriteConcern(writeConcern);
+
+        List<RawBsonDocument> docs = this.encode(colNm, pList);
+
+        for (List<RawBsonDocument> batch : MelonDocumentEncoder.split(docs, bulkMaxCount, bulkMaxBytes)) {
+            rList.add(this.doBulkWrite(col, batch, rList.size()));
+        }
+
+        return rList;
+    }
 
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
+    /**
+     * 배치 한개를 순서 없는(ordered=false) bulkWrite로 저장하기
+     * 일부 문서 저장이 실패해도 나머지 문서는 계속 저장되며, 실패 건수는 결과로 전달함
+     *
+     * @param col     저장할 컬렉션
+     * @param batch   저장할 문서들
+     * @param batchNo 배치 번호
+     * @return 배치 저장 결과
+     */
+    private BulkResultDTO doBulkWrite(MongoCollection<RawBsonDocument> col, List<RawBsonDocument> batch, int batchNo) {
 
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
+        long startTime = System.currentTimeMillis();
 
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(new Document()).projection(projection);
+        long batchBytes = batch.stream().mapToLong(doc -> doc.getByteBuffer().remaining()).sum();
 
-        for (Document doc : rs) {
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
+        int insertedCnt;
+        int failedCnt = 0;
+        String errorMsg = null;
 
-            log.info("song : {}/ singer : {}", song, singer);
+        try {
+            BulkWriteResult rs = col.bulkWrite(
+                    batch.stream().map(this::writeModel).toList(), new BulkWriteOptions().ordered(false));
 
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).build();
+            // UNACKNOWLEDGED인 경우 저장 건수를 알 수 없으므로 요청 건수로 대신함
+            insertedCnt = rs.wasAcknowledged() ? this.writtenCnt(rs) : batch.size();
 
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
+        } catch (MongoBulkWriteException e) {
+            insertedCnt = this.writtenCnt(e.getWriteResult());
+            failedCnt = batch.size() - insertedCnt;
+            errorMsg = e.getWriteErrors().isEmpty()
+                    ? e.getMessage() : e.getWriteErrors().get(0).getMessage(); // WriteConcern 오류는 writeErrors가 비어있음
 
+            log.info("batchNo : {} / failedCnt : {} / errorMsg : {}", batchNo, failedCnt, errorMsg);
         }
+
+        BulkResultDTO rDTO = BulkResultDTO.builder()
+                .batchNo(batchNo)
+                .requestCnt(batch.size())
+                .insertedCnt(insertedCnt)
+                .failedCnt(failedCnt)
+                .batchBytes(batchBytes)
+                .elapsedMs(System.currentTimeMillis() - startTime)
+                .errorMsg(errorMsg)
+                .build();
+
+        log.info("bulk result : {}", rDTO);
+
+        return rDTO;
+    }
+
+    /**
+     * 저장된 문서 수(추가 + upsert로 추가 + 같은 순위를 교체한 문서)
+     */
+    private int writtenCnt(BulkWriteResult rs) {
+        return rs.getInsertedCount() + rs.getUpserts().size() + rs.getMatchedCount();
+    }
+
+    @Override
+    public List<MelonDTO> getSongList(String colNm) throws MongoException {
+
+        log.info("{}.getSongList Start!", this.getClass().getName());
+
+        MongoCollection<Document> col = this.chartCol(colNm);
+
+        // 조회 결과 중 출력할 컬럼은 상수(MelonQueries.SONG_PROJECTION)로 만들어 두고 재사용함
+        List<MelonDTO> rList = this.find(col, this.where(colNm, MelonQueries.ALL), MelonQueries.SONG_PROJECTION,
+                this.chartOrder(), this.hintKey("getSongList", colNm));
+
+        log.info("rList size : {}", rList.size());
+
         log.info("{}.getSongList End!", this.getClass().getName());
 
         return rList;
     }
 
     @Override
-    public List<MelonDTO> getSingerSongCnt(String colNm) throws MongoException {
+    public List<MelonDTO> getSingerSongCnt(String colNm, int topK) throws MongoException {
 
         log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
+        log.info("colNm : {} / topK : {}", colNm, topK);
+
+        // 매번 전체 노래를 $group 집계하지 않고, 저장할 때 만들어 둔 요약 컬렉션을 인덱스 순서대로 조회하기
+        List<MelonDTO> rList = this.findSingerCnt(colNm, topK);
+
+        // 요약이 만들어지기 전에 저장된 컬렉션이면 요약 만든 후 다시 조회하기
+        if (rList.isEmpty() && this.chartExists(colNm) && this.refreshSingerSongCnt(colNm) > 0) {
+            rList = this.findSingerCnt(colNm, topK);
+        }
 
-        // MongoDB 조회 쿼리
-        List<? extends Bson> pipeline = Arrays.asList(
-                new Document().append("$group",
-                        new Document().append("_id", new Document().append("singer", "$singer")).append("COUNT(singer)",
-                                new Document().append("$sum", 1))),
-                new Document()
-                        .append("$project",
-                                new Document().append("singer", "$_id.singer").append("singerCnt", "$COUNT(singer)")
-                                        .append("_id", 0)),
-                new Document().append("$sort", new Document().append("singerCnt", -1)));
+        log.info("rList size : {}", rList.size());
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
-        AggregateIterable<Document> rs = col.aggregate(pipeline).allowDiskUse(true);
+        log.info("{}.getSingerSongCnt End!", this.getClass().getName());
+
+        return rList;
+    }
 
-        for (Document doc : rs) {
-            String singer = doc.getString("singer");
-            int singerCnt = doc.getInteger("singerCnt", 0);
+    private List<MelonDTO> findSingerCnt(String colNm, int topK) {
 
-            log.info("singer : {}/ singerCnt : {}", singer, singerCnt);
+        int expected = topK > 0 ? topK : this.expectedSize(this.hintKey("getSingerSongCnt", colNm));
 
-            MelonDTO rDTO = MelonDTO.builder().singer(singer).singerCnt(singerCnt).build();
+        List<MelonDTO> rList = new ArrayList<>(expected);
 
-            rList.add(rDTO);
+        FindIterable<MelonDTO> it = this.singerCntCol().find(MelonQueries.byColNm(colNm), MelonDTO.class)
+                .projection(MelonQueries.SINGER_CNT_PROJECTION)
+                .sort(MelonQueries.SINGER_CNT_SORT)
+                .batchSize(topK > 0 ? Math.min(topK + 1, streamBatchSize) : this.batchSize(expected));
 
+        if (topK > 0) {
+            it.limit(topK);
         }
 
-        log.info("{}.getSingerSongCnt End!", this.getClass().getName());
+        it.into(rList);
+
+        if (topK <= 0) {
+            resultSizeHint.put(this.hintKey("getSingerSongCnt", colNm), Math.max(rList.size(), 1));
+        }
 
         return rList;
     }
 
     @Override
-    public List<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO) throws MongoException {
+    public int refreshSingerSongCnt(String colNm) throws MongoException {
 
-        log.info("{}.getSingerSong Start!", this.getClass().getName());
+        log.info("{}.refreshSingerSongCnt Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
+        MongoCollection<Document> summary = this.singerCntCol();
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        // 집계 결과로 가수별 요약 교체하기($merge, 결과를 서버로 가져오지 않음)
+        // 먼저 지우고 다시 만들면 그 사이에 조회한 요청은 빈 요약을 받으므로 지우지 않고 교체함
+        Bson where = this.where(colNm, MelonQueries.ALL);
 
-        // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
-        Document query = new Document();
-        query.append("singer", CmmUtil.nvl(pDTO.singer()));
+        this.chartCol(colNm).aggregate(MelonQueries.singerCntRefreshPipeline(colNm, where)).allowDiskUse(true)
+                .toCollection();
+
+        // 이름이 바뀌거나 삭제되어 차트에 없는 가수의 요약만 지우기
+        List<String> singers = this.chartCol(colNm).distinct("singer", where, String.class).into(new ArrayList<>());
+
+        summary.deleteMany(MelonQueries.staleSingers(colNm, singers));
+
+        int res = (int) summary.countDocuments(MelonQueries.byColNm(colNm));
+
+        log.info("colNm : {} / singer count : {}", colNm, res);
+
+        log.info("{}.refreshSingerSongCnt End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @Override
+    public int backfillSingerSongCnt() throws MongoException {
+
+        log.info("{}.backfillSingerSongCnt Start!", this.getClass().getName());
+
+        int res = 0;
+
+        // 날짜별로 저장된 멜론 차트(MELON_yyyyMMdd)
+        for (String colNm : this.getChartNames()) {
+            this.refreshSingerSongCnt(colNm);
+            res++;
+        }
 
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
+        log.info("backfill collection count : {}", res);
 
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
+        log.info("{}.backfillSingerSongCnt End!", this.getClass().getName());
 
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(query).projection(projection);
+        return res;
+    }
 
-        for (Document doc : rs) {
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
+    /**
+     * 저장된 노래의 가수별 노래 수를 요약 컬렉션에 더하기($inc upsert, 가수 1명당 1건)
+     */
+    private void incSingerCnt(String colNm, List<MelonDTO> pList) {
 
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).build();
+        Map<String, Long> singerCnt = new HashMap<>();
 
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
+        for (MelonDTO dto : pList) {
+            if (dto.singer() != null) {
+                singerCnt.merge(dto.singer(), 1L, Long::sum);
+            }
+        }
 
+        if (singerCnt.isEmpty()) {
+            return;
         }
+
+        List<UpdateOneModel<Document>> updates = new ArrayList<>(singerCnt.size());
+
+        singerCnt.forEach((singer, cnt) -> updates.add(new UpdateOneModel<>(
+                MelonQueries.byColNmAndSinger(colNm, singer),
+                Updates.inc("singerCnt", cnt),
+                new UpdateOptions().upsert(true))));
+
+        this.singerCntCol().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+    }
+
+    /**
+     * 요약 컬렉션 가져오기(처음 사용할 때 인덱스 생성)
+     */
+    private MongoCollection<Document> singerCntCol() {
+
+        // 인덱스는 MongoConfiguration.mongoIndexRegistry에 선언됨
+        super.ensureIndexes(MelonQueries.SINGER_CNT_COL);
+
+        return mongodb.getCollection(MelonQueries.SINGER_CNT_COL);
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO) throws MongoException {
+
+        log.info("{}.getSingerSong Start!", this.getClass().getName());
+
+        MongoCollection<Document> col = this.chartCol(colNm);
+
+        // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.singer())));
+
+        List<MelonDTO> rList = this.find(col, query, MelonQueries.SONG_PROJECTION, null,
+                this.hintKey("getSingerSong", colNm));
+
+        log.info("rList size : {}", rList.size());
+
         log.info("{}.getSingerSong End!", this.getClass().getName());
 
         return rList;
 
     }
 
+    /**
+     * 조회 결과를 미리 크기를 잡아둔 ArrayList에 담기
+     * <p>
+     * - LinkedList는 원소마다 노드 객체가 추가로 생성되므로, 예상 건수만큼 크기를 잡은 ArrayList 사용
+     * - batchSize를 예상 건수 + 1로 지정하면, 결과가 예상 건수 이하일 때 getMore 없이 1번에 조회가 끝남
+     * (기본값은 첫 배치 101건, 이후 16MB 단위)
+     *
+     * @param sort    정렬(null이면 정렬하지 않음)
+     * @param hintKey 조회 종류 + 날짜(같은 키의 마지막 결과 건수를 다음 조회의 예상값으로 사용)
+     */
+    private List<MelonDTO> find(MongoCollection<Document> col, Bson query, Bson projection, Bson sort, String hintKey) {
+
+        List<MelonDTO> rList = new ArrayList<>(this.expectedSize(hintKey));
+
+        col.find(query, MelonDTO.class)
+                .projection(projection)
+                .sort(sort)
+                .batchSize(this.batchSize(this.expectedSize(hintKey)))
+                .into(rList);
+
+        resultSizeHint.put(hintKey, Math.max(rList.size(), 1));
+
+        return rList;
+    }
+
+    /**
+     * 조회 종류 + 날짜별 예상값 키(같은 조회라도 날짜마다 결과 건수가 다름)
+     */
+    private String hintKey(String method, String colNm) {
+        return method + ":" + colNm;
+    }
+
+    private int expectedSize(String hintKey) {
+        return resultSizeHint.getOrDefault(hintKey, readExpectedSize);
+    }
+
+    /**
+     * 결과 건수가 적었던 조회(예 : 1곡만 있는 가수)가 다음 조회의 batchSize를 줄이지 않도록 설정값(readExpectedSize)보다 작게 하지 않음
+     */
+    private int batchSize(int expected) {
+        return Math.min(Math.max(expected, readExpectedSize) + 1, streamBatchSize);
+    }
+
+    @Override
+    public List<RawBsonDocument> getSongListRaw(String colNm) throws MongoException {
+
+        log.info("{}.getSongListRaw Start!", this.getClass().getName());
+
+        // 문서를 DTO로 변환하지 않고 BSON 그대로 가져오기(필드는 읽을 때 변환됨)
+        MongoCollection<RawBsonDocument> col = this.chartCol(colNm).withDocumentClass(RawBsonDocument.class);
+
+        int expected = this.expectedSize(this.hintKey("getSongList", colNm));
+
+        List<RawBsonDocument> rList = new ArrayList<>(expected);
+
+        col.find(this.where(colNm, MelonQueries.ALL))
+                .projection(MelonQueries.SONG_PROJECTION)
+                .sort(this.chartOrder())
+                .batchSize(this.batchSize(expected))
+                .into(rList);
+
+        log.info("rList size : {}", rList.size());
+
+        log.info("{}.getSongListRaw End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public Stream<MelonDTO> streamSongList(String colNm) throws MongoException {
+
+        log.info("{}.streamSongList Start!", this.getClass().getName());
+
+        MongoCollection<Document> col = this.chartCol(colNm);
+
+        // cursor() 호출 시점에 첫번째 배치를 조회하므로, 접속 오류는 이 메소드에서 바로 발생함
+        MongoCursor<MelonDTO> cursor = col.find(this.where(colNm, MelonQueries.ALL), MelonDTO.class)
+                .projection(MelonQueries.SONG_PROJECTION)
+                .sort(this.chartOrder())
+                .batchSize(streamBatchSize)
+                .cursor();
+
+        log.info("{}.streamSongList End!", this.getClass().getName());
+
+        return this.toStream(cursor);
+    }
+
+    @Override
+    public Stream<MelonDTO> streamSingerSong(String colNm, MelonDTO pDTO) throws MongoException {
+
+        log.info("{}.streamSingerSong Start!", this.getClass().getName());
+
+        MongoCollection<Document> col = this.chartCol(colNm);
+
+        // 조회할 조건
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.singer())));
+
+        MongoCursor<MelonDTO> cursor = col.find(query, MelonDTO.class)
+                .projection(MelonQueries.SONG_PROJECTION)
+                .batchSize(streamBatchSize)
+                .cursor();
+
+        log.info("{}.streamSingerSong End!", this.getClass().getName());
+
+        return this.toStream(cursor);
+    }
+
+    /**
+     * MongoDB 커서를 Stream으로 변환하기
+     * Stream을 close하면 커서도 닫히고, 다음 배치는 Stream을 읽을 때 MongoDB에서 가져옴
+     */
+    private Stream<MelonDTO> toStream(MongoCursor<MelonDTO> cursor) {
+        Spliterator<MelonDTO> spliterator = Spliterators.spliteratorUnknownSize(
+                cursor, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
+    }
+
     @Override
     public int dropCollection(String colNm) throws MongoException {
 
         log.info("{}.dropCollection Start!", this.getClass().getName());
 
         // 컬렉션 삭제하기
-        int res = super.dropCollection(mongodb, colNm) ? 1 : 0;
+        int res = this.dropChart(colNm);
+
+        // 삭제된 컬렉션의 가수별 노래 수 요약도 삭제하기
+        this.singerCntCol().deleteMany(MelonQueries.byColNm(colNm));
 
         log.info("{}.dropCollection End!", this.getClass().getName());
 
@@ -196,25 +655,48 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
         int res;
 
         // 데이터를 저장할 컬렉션 생성
-        if (super.createCollection(mongodb, colNm, "collectTime")) {
+        if (this.createChartCollection(colNm)) {
             log.info("{} 생성되었습니다.", colNm);
         }
 
-        // 저장할 컬렉션 객체 생성
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        // 저장할 컬렉션 객체 생성(BSON으로 변환된 문서를 그대로 저장하는 컬렉션)
+        MongoCollection<RawBsonDocument> col = this.chartCol(colNm).withDocumentClass(RawBsonDocument.class);
+
+        // 1단계 : 문서 수가 기준값 이상이면 병렬로 BSON 변환하기(결과 순서는 차트 순위 순서로 유지됨)
+        List<RawBsonDocument> docs = this.encode(
+                colNm, pList, col.getCodecRegistry().get(MelonDTO.class), encodeParallelThreshold);
+
+        // 2단계 : 배치로 나누고, 배치가 여러 개면 동시에 bulkWrite 실행하기
+        List<List<RawBsonDocument>> batchList = MelonDocumentEncoder.split(docs, bulkMaxCount, bulkMaxBytes);
 
-        List<Document> list = new ArrayList<>();
+        try {
+            if (batchList.size() == 1) {
+                this.writeBatch(col, batchList.get(0));
 
-        // 람다식 활용하여 병렬 처리(순서 상관없이 저장) parallelStream과 -> 사용
-        pList.parallelStream().forEach(melon ->
-                list.add(new Document(new ObjectMapper().convertValue(melon, Map.class))));
+            } else {
+                List<CompletableFuture<BulkWriteResult>> futures = batchList.stream()
+                        .map(batch -> CompletableFuture.supplyAsync(() -> this.writeBatch(col, batch), mongoWriteExecutor))
+                        .toList();
 
-        // 람다식 활용하여 싱글 쓰레드
-//        pList.forEach(melon ->
-//                list.add(new Document(new ObjectMapper().convertValue(melon, Map.class))));
+                // 실패한 배치가 있어도 나머지 배치가 모두 끝날때까지 기다리기(저장 중인 배치가 있으면 요약이 틀어짐)
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            }
 
-        // List<Document> 파라미터로 사용하며, 레코드 리스트 단위로 한번에 저장하기
-        col.insertMany(list);
+        } catch (RuntimeException e) {
+            // 일부 배치만 저장되었으므로 저장된 문서 기준으로 가수별 노래 수 요약 다시 만들기
+            this.refreshSingerSongCnt(colNm);
+
+            // 다른 쓰레드에서 발생한 예외는 CompletionException으로 감싸져 있으므로 MongoException으로 꺼내기
+            if (e instanceof CompletionException && e.getCause() instanceof MongoException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+
+        this.addSingerCnt(colNm, pList);
+
+        log.info("insert docs : {} / batch : {}", docs.size(), batchList.size());
 
         res = 1;
 
@@ -223,6 +705,10 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
         return res;
     }
 
+    private BulkWriteResult writeBatch(MongoCollection<RawBsonDocument> col, List<RawBsonDocument> batch) {
+        return col.bulkWrite(batch.stream().map(this::writeModel).toList(), new BulkWriteOptions().ordered(false));
+    }
+
     @Override
     public int updateField(String colNm, MelonDTO pDTO) throws MongoException {
 
@@ -230,7 +716,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         String singer = CmmUtil.nvl(pDTO.singer());
         String updateSinger = CmmUtil.nvl(pDTO.updateSinger());
@@ -242,7 +728,10 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         // UPDATE MELON_20220321 SET singer = 'BTS' WHERE singer ='방탄소년단')
         // Filters.eq : singer ='방탄소년단'
-        col.updateMany(Filters.eq("singer", singer), update);
+        col.updateMany(this.where(colNm, MelonQueries.bySinger(singer)), update);
+
+        // 가수 이름이 바뀌었으므로 가수별 노래 수 요약 다시 만들기
+        this.refreshSingerSongCnt(colNm);
 
         res = 1;
 
@@ -256,42 +745,16 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         log.info("{}.getUpdateSinger Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
-
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
-        Document query = new Document();
-        query.append("singer", CmmUtil.nvl(pDTO.updateSinger()));
-
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
-
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
-
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(query).projection(projection);
-
-        for (Document doc : rs) {
-
-            // MongoDB 조회 결과를 MelonDTO 저장하기 위해 변수에 저장
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.updateSinger())));
 
-            log.info("song : {}/ singer : {}", song, singer);
+        List<MelonDTO> rList = this.find(col, query, MelonQueries.SONG_PROJECTION, null,
+                this.hintKey("getUpdateSinger", colNm));
 
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).build();
+        log.info("rList size : {}", rList.size());
 
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
-
-        }
         log.info("{}.getUpdateSinger End!", this.getClass().getName());
 
         return rList;
@@ -304,7 +767,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         String singer = CmmUtil.nvl(pDTO.singer());
         String nickname = CmmUtil.nvl(pDTO.nickname());
@@ -317,7 +780,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
         
         // UPDATE MELON_20220321 SET singer = 'BTS' WHERE singer ='방탄소년단')
         // Filters.eq : singer ='방탄소년단'
-        col.updateMany(Filters.eq("singer", singer),
+        col.updateMany(this.where(colNm, MelonQueries.bySinger(singer)),
                 Updates.set("nickname", nickname));
 
         res = 1;
@@ -332,44 +795,16 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         log.info("{}.getSingerSongNickname Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
-
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
-        Document query = new Document();
-        query.append("singer", CmmUtil.nvl(pDTO.singer()));
-
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
-        projection.append("nickname", "$nickname");
-
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
-
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(query).projection(projection);
-
-        for (Document doc : rs) {
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.singer())));
 
-            // MongoDB 조회 결과를 MelonDTO 저장하기 위해 변수에 저장
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
-            String nickname = CmmUtil.nvl(doc.getString("nickname"));
+        List<MelonDTO> rList = this.find(col, query, MelonQueries.NICKNAME_PROJECTION, null,
+                this.hintKey("getSingerSongNickname", colNm));
 
-            log.info("song : {}/ singer : {}/ nickname : {}", song, singer, nickname);
+        log.info("rList size : {}", rList.size());
 
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).nickname(nickname).build();
-
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
-
-        }
         log.info("{}.getSingerSongNickname End!", this.getClass().getName());
 
         return rList;
@@ -382,7 +817,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         String singer = CmmUtil.nvl(pDTO.singer());
         List<String> member = pDTO.member();
@@ -396,7 +831,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         // UPDATE MELON_20220321 SET singer = 'BTS' WHERE singer ='방탄소년단')
         // Filters.eq : singer ='방탄소년단'
-        col.updateMany(Filters.eq("singer", singer), update);
+        col.updateMany(this.where(colNm, MelonQueries.bySinger(singer)), update);
 
         res = 1;
 
@@ -410,44 +845,16 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         log.info("{}.getSingerSongMember Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
-
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
-        Document query = new Document();
-        query.append("singer", CmmUtil.nvl(pDTO.singer()));
-
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
-        projection.append("member", "$member");
-
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
-
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(query).projection(projection);
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.singer())));
 
-        for (Document doc : rs) {
+        List<MelonDTO> rList = this.find(col, query, MelonQueries.MEMBER_PROJECTION, null,
+                this.hintKey("getSingerSongMember", colNm));
 
-            // MongoDB 조회 결과를 MelonDTO 저장하기 위해 변수에 저장
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
-            List<String> member = doc.getList("member", String.class, new ArrayList<>());
+        log.info("rList size : {}", rList.size());
 
-            log.info("song : {}/ singer : {}/ member : {}", song, singer, member);
-
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).member(member).build();
-
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
-
-        }
         log.info("{}.getSingerSongMember End!", this.getClass().getName());
 
         return rList;
@@ -460,7 +867,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         String singer = CmmUtil.nvl(pDTO.singer());
         String updateSinger = CmmUtil.nvl(pDTO.updateSinger());
@@ -475,7 +882,10 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         // UPDATE MELON_20220321 SET singer = 'BTS' WHERE singer ='방탄소년단')
         // Filters.eq : singer ='방탄소년단'
-        col.updateMany(Filters.eq("singer", singer), update);
+        col.updateMany(this.where(colNm, MelonQueries.bySinger(singer)), update);
+
+        // 가수 이름이 바뀌었으므로 가수별 노래 수 요약 다시 만들기
+        this.refreshSingerSongCnt(colNm);
 
         res = 1;
 
@@ -490,44 +900,16 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         log.info("{}.getSingerSongAddData Start!", this.getClass().getName());
 
-        // 조회 결과를 전달하기 위한 객체 생성하기
-        List<MelonDTO> rList = new LinkedList<>();
-
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         // 조회할 조건(SQL의 WHERE 역할 /  SELECT song, singer FROM MELON_20220321 where singer ='방탄소년단')
-        Document query = new Document();
-        query.append("singer", CmmUtil.nvl(pDTO.updateSinger())); // 이전 실행에서 가수이름이 변경되어 변경시킬 값으로 적용
-
-        // 조회 결과 중 출력할 컬럼들(SQL의 SELECT절과 FROM절 가운데 컬럼들과 유사함)
-        Document projection = new Document();
-        projection.append("song", "$song");
-        projection.append("singer", "$singer");
-        projection.append("addData", "$addData");
+        Bson query = this.where(colNm, MelonQueries.bySinger(CmmUtil.nvl(pDTO.updateSinger()))); // 이전 실행에서 가수이름이 변경되어 변경시킬 값으로 적용
 
-        // MongoDB는 무조건 ObjectId가 자동생성되며, ObjectID는 사용하지 않을때, 조회할 필요가 없음
-        // ObjectId를 가지고 오지 않을 때 사용함
-        projection.append("_id", 0);
+        List<MelonDTO> rList = this.find(col, query, MelonQueries.ADD_DATA_PROJECTION, null,
+                this.hintKey("getSingerSongAddData", colNm));
 
-        // MongoDB의 find 명령어를 통해 조회할 경우 사용함
-        // 조회하는 데이터의 양이 적은 경우, find를 사용하고, 데이터양이 많은 경우 무조건 Aggregate 사용한다.
-        FindIterable<Document> rs = col.find(query).projection(projection);
+        log.info("rList size : {}", rList.size());
 
-        for (Document doc : rs) {
-
-            // MongoDB 조회 결과를 MelonDTO 저장하기 위해 변수에 저장
-            String song = CmmUtil.nvl(doc.getString("song"));
-            String singer = CmmUtil.nvl(doc.getString("singer"));
-            String addData = CmmUtil.nvl(doc.getString("addData"));
-
-            log.info("song : {}/ singer : {}/ addData : {}", song, singer, addData);
-
-            MelonDTO rDTO = MelonDTO.builder().song(song).singer(singer).addFieldValue(addData).build();
-
-            // 레코드 결과를 List에 저장하기
-            rList.add(rDTO);
-
-        }
         log.info("{}.getSingerSongAddData End!", this.getClass().getName());
 
         return rList;
@@ -540,7 +922,7 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         int res;
 
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        MongoCollection<Document> col = this.chartCol(colNm);
 
         String singer = CmmUtil.nvl(pDTO.singer());
 
@@ -549,7 +931,10 @@ public class MelonMapper extends AbstractMongoDBComon implements IMelonMapper {
 
         // DELETE FROM MELON_20220321 WHERE singer ='방탄소년단'
         // Filters.eq : singer ='방탄소년단'
-        col.deleteMany(Filters.eq("singer", singer));
+        col.deleteMany(this.where(colNm, MelonQueries.bySinger(singer)));
+
+        // 삭제된 가수가 요약에 남지 않도록 다시 만들기
+        this.refreshSingerSongCnt(colNm);
 
         res = 1;
 
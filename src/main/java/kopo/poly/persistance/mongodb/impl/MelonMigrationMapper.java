@@ -0,0 +1,191 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Field;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.MergeOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WindowOutputFields;
+import com.mongodb.client.model.Windows;
+import kopo.poly.dto.ChartMigrationDTO;
+import kopo.poly.persistance.mongodb.AbstractMongoDBComon;
+import kopo.poly.persistance.mongodb.IMelonMigrationMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MelonMigrationMapper extends AbstractMongoDBComon implements IMelonMigrationMapper {
+
+    private final MongoTemplate mongodb;
+
+    @Override
+    public List<String> getDailyCollections() throws MongoException {
+
+        log.info("{}.getDailyCollections Start!", this.getClass().getName());
+
+        List<String> rList = mongodb.getCollectionNames().stream()
+                .filter(colNm -> MelonQueries.DAILY_COL_PATTERN.matcher(colNm).matches())
+                .sorted()
+                .toList();
+
+        log.info("{}.getDailyCollections End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public ChartMigrationDTO migrateToChart(String colNm, boolean dropSource, boolean force) throws MongoException {
+
+        log.info("{}.migrateToChart Start!", this.getClass().getName());
+
+        // 날짜 구분 컬렉션과 인덱스 생성하기(인덱스는 MongoConfiguration.mongoIndexRegistry에 선언됨)
+        super.createCollection(mongodb, MelonQueries.CHART_COL);
+
+        MongoCollection<Document> chart = mongodb.getCollection(MelonQueries.CHART_COL);
+
+        Date chartDate = MelonQueries.chartDate(colNm);
+
+        // 이미 옮겨졌거나 partitioned 전환 후 새로 저장된 날짜는 이전 데이터로 덮어쓰지 않음(force면 다시 옮김)
+        if (!force && chart.countDocuments(MelonQueries.byChartDate(chartDate), new CountOptions().limit(1)) > 0) {
+            log.info("colNm : {} / already in {}, skipped", colNm, MelonQueries.CHART_COL);
+
+            // 차트가 이미 옮겨져 있으므로 날짜별 컬렉션만 삭제하기
+            if (dropSource) {
+                super.dropCollection(mongodb, colNm);
+            }
+
+            log.info("{}.migrateToChart End!", this.getClass().getName());
+
+            return ChartMigrationDTO.builder().colNm(colNm).skipped(true).build();
+        }
+
+        MongoCollection<Document> col = mongodb.getCollection(colNm);
+
+        // 순위가 없는 문서는 저장 순서(_id 순서)대로 저장된 마지막 순위 다음부터 순위 붙이기
+        int lastRank = this.lastRank(col);
+        long unranked = col.countDocuments(Filters.exists("rank", false));
+
+        // 같은 순위로 여러 번 저장된 날짜(insertSong 중복 실행)는 순위별로 마지막에 저장된 문서만 옮김
+        Document rank = new Document("$ifNull", Arrays.asList("$rank", null));
+
+        // 결과는 서버로 가져오지 않고 바로 저장하기($merge)
+        // 같은 날짜, 같은 순위({chartDate, rank} 유일 인덱스)가 있으면 교체하므로 조회 중에도 차트가 비지 않음
+        List<Bson> pipeline = List.of(
+                Aggregates.setWindowFields(rank, Sorts.ascending("_id"),
+                        WindowOutputFields.documentNumber("seq"),
+                        WindowOutputFields.count("cnt", Windows.documents(Windows.Bound.UNBOUNDED,
+                                Windows.Bound.UNBOUNDED))),
+                Aggregates.match(Filters.expr(new Document("$or", List.of(
+                        new Document("$eq", Arrays.asList(rank, null)),
+                        new Document("$eq", List.of("$seq", "$cnt")))))),
+                Aggregates.set(
+                        new Field<>("rank", new Document("$ifNull", List.of("$rank",
+                                new Document("$add", List.of("$seq", lastRank))))),
+                        new Field<>("chartDate", new Document("$literal", chartDate))),
+                Aggregates.unset("_id", "seq", "cnt"),
+                Aggregates.merge(MelonQueries.CHART_COL, new MergeOptions()
+                        .uniqueIdentifier(List.of("chartDate", "rank"))
+                        .whenMatched(MergeOptions.WhenMatched.REPLACE)
+                        .whenNotMatched(MergeOptions.WhenNotMatched.INSERT)));
+
+        col.aggregate(pipeline).allowDiskUse(true).toCollection();
+
+        // 다시 옮길 때(force) 옮긴 차트보다 뒤의 순위는 이전 데이터이므로 삭제하기
+        chart.deleteMany(MelonQueries.inChart(chartDate, Filters.gt("rank", lastRank + unranked)));
+
+        long res = chart.countDocuments(MelonQueries.byChartDate(chartDate));
+
+        log.info("colNm : {} / migratedCnt : {}", colNm, res);
+
+        // 가수별 노래 수 요약(MELON_SINGER_CNT)은 같은 colNm으로 조회하므로 그대로 사용함
+        if (dropSource && res > 0) {
+            super.dropCollection(mongodb, colNm);
+        }
+
+        log.info("{}.migrateToChart End!", this.getClass().getName());
+
+        return ChartMigrationDTO.builder().colNm(colNm).migratedCnt(res).build();
+    }
+
+    @Override
+    public ChartMigrationDTO migrateSchema(String colNm) throws MongoException {
+
+        log.info("{}.migrateSchema Start!", this.getClass().getName());
+
+        MongoCollection<Document> col = mongodb.getCollection(colNm);
+
+        // 문자열로 저장된 수집 시간만 Date로 바꾸기(서버에서 문서마다 변환, 형식이 맞지 않으면 그대로 둠)
+        // 이전 수집 시간은 12시간 형식(hh)으로 저장되어 오전/오후를 알 수 없으므로 시간은 그대로 사용함
+        long converted = col.updateMany(Filters.type("collectTime", BsonType.STRING), List.of(
+                Aggregates.set(new Field<>("collectTime", new Document("$dateFromString", new Document()
+                        .append("dateString", "$collectTime")
+                        .append("format", "%Y%m%d%H%M%S")
+                        .append("timezone", ZoneId.systemDefault().getId())
+                        .append("onError", "$collectTime")))))).getModifiedCount();
+
+        log.info("colNm : {} / collectTime converted : {}", colNm, converted);
+
+        // 순위가 없는 문서에만 저장 순서(_id 순서)대로 순위 붙이기(날짜 구분 컬렉션은 저장할 때 순위가 붙음)
+        // 이미 저장된 순위는 바꾸지 않고, 새 순위는 저장된 마지막 순위 다음부터 붙임
+        long ranked = MelonQueries.DAILY_COL_PATTERN.matcher(colNm).matches()
+                ? col.countDocuments(Filters.exists("rank", false)) : 0;
+
+        if (ranked > 0) {
+
+            int lastRank = this.lastRank(col);
+
+            List<Bson> pipeline = List.of(
+                    Aggregates.match(Filters.exists("rank", false)),
+                    Aggregates.setWindowFields(null, Sorts.ascending("_id"), WindowOutputFields.documentNumber("rank")),
+                    Aggregates.set(new Field<>("rank", new Document("$add", List.of("$rank", lastRank)))),
+                    Aggregates.project(Projections.include("rank")),
+                    Aggregates.merge(colNm, new MergeOptions()
+                            .whenMatched(MergeOptions.WhenMatched.MERGE)
+                            .whenNotMatched(MergeOptions.WhenNotMatched.DISCARD)));
+
+            col.aggregate(pipeline).allowDiskUse(true).toCollection();
+
+            log.info("colNm : {} / ranked : {}, after rank : {}", colNm, ranked, lastRank);
+        }
+
+        // 새로 선언된 인덱스(rank) 적용하기
+        super.ensureIndexes(colNm);
+
+        log.info("{}.migrateSchema End!", this.getClass().getName());
+
+        return ChartMigrationDTO.builder()
+                .colNm(colNm)
+                .convertedCnt(converted)
+                .rankedCnt(ranked)
+                .build();
+    }
+
+    /**
+     * 저장된 마지막 순위 가져오기(순위가 붙은 문서가 없으면 0)
+     */
+    private int lastRank(MongoCollection<Document> col) {
+        Document doc = col.find(Filters.exists("rank"))
+                .sort(Sorts.descending("rank"))
+                .projection(Projections.include("rank"))
+                .first();
+
+        return doc == null || !(doc.get("rank") instanceof Number rank) ? 0 : rank.intValue();
+    }
+}
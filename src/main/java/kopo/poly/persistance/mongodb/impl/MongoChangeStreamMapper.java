@@ -0,0 +1,65 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import kopo.poly.persistance.mongodb.IMongoChangeStreamMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoChangeStreamMapper implements IMongoChangeStreamMapper {
+
+    // 변경 내역 중 캐시 무효화에 필요한 필드(재개 토큰인 _id는 항상 포함되어야 함)
+    // 문서 전체(노래 정보)는 전달받지 않고, 날짜 구분 컬렉션의 차트 날짜와 요약 컬렉션의 날짜만 전달받음
+    private static final Bson EVENT_PROJECTION = Aggregates.project(Projections.include(
+            "operationType", "ns", "to", "documentKey", "fullDocument.chartDate", "fullDocument.colNm"));
+
+    private final MongoTemplate mongodb;
+
+    @Override
+    public MongoChangeStreamCursor<ChangeStreamDocument<Document>> watch(Pattern colPattern, BsonDocument resumeToken,
+                                                                         int batchSize, Duration maxAwait)
+            throws MongoException {
+
+        log.info("{}.watch Start!", this.getClass().getName());
+
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.regex("ns.coll", colPattern)),
+                EVENT_PROJECTION);
+
+        // 수정(update)은 변경된 필드만 전달되므로, 차트 날짜를 알 수 있도록 현재 문서를 조회함(UPDATE_LOOKUP)
+        ChangeStreamIterable<Document> stream = mongodb.getDb().watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .batchSize(batchSize)
+                .maxAwaitTime(maxAwait.toMillis(), TimeUnit.MILLISECONDS);
+
+        if (resumeToken != null) {
+            // resumeAfter와 달리 구독 종료(invalidate) 이후의 토큰으로도 다시 시작할 수 있음
+            stream = stream.startAfter(resumeToken);
+        }
+
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor();
+
+        log.info("{}.watch End!", this.getClass().getName());
+
+        return cursor;
+    }
+}
@@ -1,6 +1,5 @@
 package kopo.poly.persistance.mongodb.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
 import kopo.poly.dto.MongoDTO;
@@ -8,12 +7,9 @@ import kopo.poly.persistance.mongodb.AbstractMongoDBComon;
 import kopo.poly.persistance.mongodb.IMongoMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -33,11 +29,11 @@ public class MongoMapper extends AbstractMongoDBComon implements IMongoMapper {
             log.info("{} 생성되었습니다.", colNm);
         }
 
-        // 저장할 컬렉션 객체 생성
-        MongoCollection<Document> col = mongodb.getCollection(colNm);
+        // 저장할 컬렉션 객체 생성(MongoDTO를 바로 저장하는 컬렉션)
+        MongoCollection<MongoDTO> col = mongodb.getCollection(colNm).withDocumentClass(MongoDTO.class);
 
-        // DTO를 Map 데이터타입으로 변경 한 뒤, 변경된 Map 데이터타입을 Document로 변경하기
-        col.insertOne(new Document(new ObjectMapper().convertValue(pDTO, Map.class)));
+        // 등록된 MongoDTO Codec으로 Map, Document 변환 없이 바로 BSON으로 저장하기
+        col.insertOne(pDTO);
 
         res = 1;
 
@@ -0,0 +1,210 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.mongodb.codec.MelonDTOCodec;
+import kopo.poly.persistance.mongodb.codec.MelonDocumentEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.conversions.Bson;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 모든 날짜의 멜론 차트를 하나의 컬렉션(MELON_CHART)에 차트 날짜(chartDate)로 구분해 저장하는 Mapper
+ * (melon.mongo.layout=partitioned)
+ * <p>
+ * - 날짜마다 컬렉션/인덱스를 새로 만들지 않고, 여러 날짜 조회도 컬렉션 1개만 읽음
+ * - 인덱스 : {chartDate, rank}(차트 순위 조회), {chartDate, singer, song}(가수별 조회), chartDate TTL(보관 기간 지나면 자동 삭제)
+ * - 기존 IMelonMapper의 colNm(MELON_yyyyMMdd)은 차트 날짜로 바꿔서 조건에 사용하므로 서비스 코드는 바꾸지 않아도 됨
+ * - 기존 날짜별 컬렉션은 관리자 API(/mongo/admin/v1/migrateChartLayout)로 옮김
+ * - 같은 날짜를 다시 저장하면 {chartDate, rank} 유일 인덱스 기준으로 같은 순위의 노래를 교체함(날짜별 컬렉션은 추가 저장)
+ * - 차트 교체(replaceSong)는 복제 세트/샤드 클러스터면 트랜잭션으로, 단독 mongod면 순위별 교체 후 남은 순위 삭제로 실행함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "melon.mongo.layout", havingValue = "partitioned")
+public class PartitionedMelonMapper extends MelonMapper {
+
+    private final MongoTemplate mongodb;
+
+    // 차트 날짜, 순위 필드를 붙여 저장하기 위한 Codec(필드만 쓰기)
+    private final MelonDTOCodec codec = new MelonDTOCodec();
+
+    // 트랜잭션 사용 가능 여부(처음 차트를 교체할 때 서버에 확인함, null이면 아직 확인 전)
+    private volatile Boolean transactional;
+
+    public PartitionedMelonMapper(MongoTemplate mongodb, ExecutorService mongoWriteExecutor) {
+        super(mongodb, mongoWriteExecutor);
+        this.mongodb = mongodb;
+    }
+
+    @Override
+    protected MongoCollection<Document> chartCol(String colNm) {
+        return mongodb.getCollection(MelonQueries.CHART_COL);
+    }
+
+    @Override
+    protected boolean createChartCollection(String colNm) {
+
+        // 컬렉션은 처음 한번만 생성되고, 이후에는 이 서버에 기록된 생성 여부만 확인함
+        return super.createCollection(mongodb, MelonQueries.CHART_COL);
+    }
+
+    @Override
+    protected int dropChart(String colNm) {
+
+        // 컬렉션을 삭제하지 않고 해당 날짜의 차트만 삭제하기
+        long deletedCnt = this.chartCol(colNm).deleteMany(MelonQueries.byChartDate(MelonQueries.chartDate(colNm)))
+                .getDeletedCount();
+
+        log.info("colNm : {} / deletedCnt : {}", colNm, deletedCnt);
+
+        return deletedCnt > 0 ? 1 : 0;
+    }
+
+    @Override
+    protected boolean chartExists(String colNm) {
+        return this.chartCol(colNm).countDocuments(MelonQueries.byChartDate(MelonQueries.chartDate(colNm)),
+                new CountOptions().limit(1)) > 0;
+    }
+
+    @Override
+    protected List<String> getChartNames() {
+
+        List<String> rList = new ArrayList<>();
+
+        // chartDate 인덱스만 읽어서 저장된 날짜 가져오기
+        mongodb.getCollection(MelonQueries.CHART_COL).distinct("chartDate", Date.class)
+                .forEach(chartDate -> rList.add(MelonQueries.colNm(chartDate)));
+
+        return rList;
+    }
+
+    @Override
+    protected Bson where(String colNm, Bson query) {
+        return MelonQueries.inChart(MelonQueries.chartDate(colNm), query);
+    }
+
+    @Override
+    protected List<RawBsonDocument> encode(String colNm, List<MelonDTO> pList, Codec<MelonDTO> codec,
+                                           int parallelThreshold) {
+        return MelonDocumentEncoder.encodeAll(pList, this.codec, parallelThreshold, MelonQueries.chartDate(colNm));
+    }
+
+    @Override
+    public int replaceSong(List<MelonDTO> pList, String colNm) throws MongoException {
+
+        log.info("{}.replaceSong Start!", this.getClass().getName());
+
+        // 컬렉션 생성은 트랜잭션 밖에서 먼저 하기
+        if (this.createChartCollection(colNm)) {
+            log.info("{} 생성되었습니다.", colNm);
+        }
+
+        MongoCollection<RawBsonDocument> col = this.chartCol(colNm).withDocumentClass(RawBsonDocument.class);
+
+        List<RawBsonDocument> docs = this.encode(colNm, pList);
+
+        if (this.supportsTransaction()) {
+            // 해당 날짜의 차트 삭제와 저장을 하나의 트랜잭션으로 실행하기(복제 세트 필요)
+            // 커밋 전까지 다른 조회는 기존 차트를 읽고, 저장이 실패하면 삭제도 취소됨
+            try (ClientSession session = mongodb.getMongoDatabaseFactory().getSession(
+                    ClientSessionOptions.builder().build())) {
+
+                session.withTransaction(() -> {
+                    col.deleteMany(session, MelonQueries.byChartDate(MelonQueries.chartDate(colNm)));
+                    col.insertMany(session, docs);
+                    return null;
+                });
+            }
+
+        } else {
+            this.replaceWithoutTransaction(col, colNm, docs);
+        }
+
+        // 교체된 차트 기준으로 가수별 노래 수 요약 다시 만들기
+        this.refreshSingerSongCnt(colNm);
+
+        log.info("colNm : {} / docs : {}", colNm, docs.size());
+
+        log.info("{}.replaceSong End!", this.getClass().getName());
+
+        return 1;
+    }
+
+    /**
+     * 단독 mongod(트랜잭션 미지원)에서 차트 교체하기
+     * 같은 순위는 교체(upsert)하고, 새 차트보다 뒤의 순위만 삭제하므로 날짜 전체가 비어 보이는 순간은 없음
+     * 다만 교체 중에는 이전 차트와 새 차트의 순위가 섞여 조회될 수 있고, 저장이 실패하면 일부 순위만 교체됨
+     */
+    private void replaceWithoutTransaction(MongoCollection<RawBsonDocument> col, String colNm,
+                                           List<RawBsonDocument> docs) {
+
+        Date chartDate = MelonQueries.chartDate(colNm);
+
+        if (!docs.isEmpty()) {
+            col.bulkWrite(docs.stream().map(this::writeModel).toList(), new BulkWriteOptions().ordered(false));
+        }
+
+        int lastRank = docs.stream().mapToInt(doc -> doc.getInt32("rank").getValue()).max().orElse(0);
+
+        long deletedCnt = col.deleteMany(MelonQueries.inChart(chartDate, Filters.gt("rank", lastRank)))
+                .getDeletedCount();
+
+        log.info("colNm : {} / replaced without transaction, deletedCnt : {}", colNm, deletedCnt);
+    }
+
+    /**
+     * 연결된 MongoDB가 트랜잭션을 지원하는지 확인하기(복제 세트 구성원 또는 mongos)
+     */
+    private boolean supportsTransaction() {
+
+        if (transactional == null) {
+            Document hello = mongodb.getDb().runCommand(new Document("hello", 1));
+
+            transactional = hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+
+            if (!transactional) {
+                log.warn("MongoDB is not a replica set. MELON_CHART replace runs without transaction");
+            }
+        }
+
+        return transactional;
+    }
+
+    @Override
+    protected WriteModel<RawBsonDocument> writeModel(RawBsonDocument doc) {
+
+        // 같은 날짜, 같은 순위가 이미 저장되어 있으면 교체하고, 없으면 추가하기(유일 인덱스 중복 오류 방지)
+        Bson query = MelonQueries.inChart(new Date(doc.getDateTime("chartDate").getValue()),
+                Filters.eq("rank", doc.getInt32("rank").getValue()));
+
+        return new ReplaceOneModel<>(query, doc, new ReplaceOptions().upsert(true));
+    }
+
+    @Override
+    protected void addSingerCnt(String colNm, List<MelonDTO> pList) {
+
+        // 교체된 순위의 이전 가수가 있을 수 있으므로 더하지 않고 저장된 차트 기준으로 요약 다시 만들기
+        this.refreshSingerSongCnt(colNm);
+    }
+}
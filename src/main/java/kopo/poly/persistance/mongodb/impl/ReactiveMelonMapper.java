@@ -0,0 +1,164 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.InsertManyOptions;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.IReactiveMelonMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.mongodb.MongoIndexRegistry;
+import kopo.poly.persistance.redis.IReactiveCollectionVersionMapper;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 멜론 차트 논블로킹 Mapper(날짜별 컬렉션 MELON_yyyyMMdd, reactive 프로필)
+ * 조회 조건, 출력 컬럼, 요약 집계, 인덱스 선언은 MelonMapper와 같은 MelonQueries, MongoIndexRegistry를 사용함
+ */
+@Slf4j
+@Profile("reactive")
+@Component
+@RequiredArgsConstructor
+public class ReactiveMelonMapper implements IReactiveMelonMapper {
+
+    private final ReactiveMongoTemplate mongodb;
+
+    private final MongoIndexRegistry indexRegistry; // 컬렉션 종류별 인덱스 선언
+
+    private final IReactiveCollectionVersionMapper collectionVersionMapper; // 조회 결과 캐시 버전(RedisDB)
+
+    /**
+     * 저장/삭제가 끝나면(실패해도 일부는 저장되었을 수 있으므로 항상) 차트와 요약의 조회 결과 캐시 버전 올리기
+     * VersionedMelonMapper와 같은 버전 키를 사용하므로 블로킹 Mapper의 조회 결과 캐시도 무효화됨
+     */
+    private <T> Mono<T> changed(Mono<T> write, String colNm) {
+        Mono<List<Long>> incVersion = collectionVersionMapper.incVersion(colNm, MelonQueries.singerCntVersion(colNm))
+                .onErrorResume(e -> {
+                    log.error("incVersion failed, cached query may be stale until hard-ttl / colNm : {} / {}",
+                            colNm, e.getMessage());
+                    return Mono.empty();
+                });
+
+        return write
+                .flatMap(res -> incVersion.thenReturn(res))
+                .onErrorResume(e -> incVersion.then(Mono.error(e)));
+    }
+
+    /**
+     * 컬렉션이 없으면 MongoIndexRegistry에 선언된 인덱스와 함께 생성하기(MelonMapper와 같은 인덱스)
+     */
+    private Mono<Void> createCollection(String colNm) {
+        List<IndexModel> indexes = indexRegistry.familyOf(colNm).map(MongoIndexRegistry.IndexFamily::indexes)
+                .orElse(List.of());
+
+        return mongodb.collectionExists(colNm)
+                .flatMap(exists -> exists ? Mono.<Void>empty()
+                        : mongodb.createCollection(colNm)
+                        .flatMap(col -> indexes.isEmpty() ? Mono.just(col)
+                                : Flux.from(col.createIndexes(indexes)).then(Mono.just(col)))
+                        .doOnNext(col -> log.info("{} 생성되었습니다.", colNm))
+                        .then());
+    }
+
+    /**
+     * 가수별 노래 수 요약(MELON_SINGER_CNT) 다시 만들기
+     * MelonMapper.refreshSingerSongCnt와 같이 집계 결과로 교체한 후 차트에 없는 가수의 요약만 지움
+     */
+    private Mono<Void> refreshSingerSongCnt(String colNm) {
+
+        // $merge 기준({colNm, singer}) 유일 인덱스가 있어야 하므로 요약 컬렉션을 먼저 만들어 두기
+        return this.createCollection(MelonQueries.SINGER_CNT_COL)
+                .then(mongodb.getCollection(colNm))
+                .flatMap(col -> Mono.from(col.aggregate(MelonQueries.singerCntRefreshPipeline(colNm))
+                                .allowDiskUse(true).toCollection())
+                        .then(Flux.from(col.distinct("singer", String.class)).collectList()))
+                .flatMap(singers -> mongodb.getCollection(MelonQueries.SINGER_CNT_COL)
+                        .flatMap(summary -> Mono.from(summary.deleteMany(MelonQueries.staleSingers(colNm, singers)))))
+                .then();
+    }
+
+    @Override
+    public Mono<Integer> insertSong(List<MelonDTO> pList, String colNm) {
+
+        log.info("{}.insertSong Start!", this.getClass().getName());
+
+        if (pList.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // 등록된 MelonDTO Codec으로 Map, Document 변환 없이 바로 BSON으로 저장하기
+        Mono<Integer> write = this.createCollection(colNm)
+                .then(mongodb.getCollection(colNm))
+                .flatMap(col -> Mono.from(col.withDocumentClass(MelonDTO.class)
+                        .insertMany(pList, new InsertManyOptions().ordered(false))))
+                .then(this.refreshSingerSongCnt(colNm))
+                .thenReturn(1);
+
+        return this.changed(write, colNm)
+                .doOnNext(res -> log.info("{}.insertSong End!", this.getClass().getName()));
+    }
+
+    @Override
+    public Flux<MelonDTO> getSongList(String colNm) {
+
+        log.info("{}.getSongList Start!", this.getClass().getName());
+
+        // MelonMapper와 같은 출력 컬럼, 순위 정렬(rank 인덱스) 사용하기
+        return mongodb.getCollection(colNm)
+                .flatMapMany(col -> col.find(MelonQueries.ALL, MelonDTO.class)
+                        .projection(MelonQueries.SONG_PROJECTION)
+                        .sort(MelonQueries.RANK_SORT));
+    }
+
+    @Override
+    public Flux<MelonDTO> getSingerSongCnt(String colNm, int topK) {
+
+        log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
+
+        // 저장할 때 만들어 둔 요약 컬렉션(MELON_SINGER_CNT)을 인덱스 순서대로 조회하기
+        Flux<MelonDTO> summary = mongodb.getCollection(MelonQueries.SINGER_CNT_COL)
+                .flatMapMany(col -> col.find(MelonQueries.byColNm(colNm), MelonDTO.class)
+                        .projection(MelonQueries.SINGER_CNT_PROJECTION)
+                        .sort(MelonQueries.SINGER_CNT_SORT)
+                        .limit(Math.max(topK, 0)));
+
+        // 요약이 만들어지기 전에 저장된 컬렉션이면 요약 만든 후 다시 조회하기(MelonMapper.getSingerSongCnt와 같음)
+        return summary
+                .switchIfEmpty(mongodb.collectionExists(colNm)
+                        .flatMapMany(exists -> exists ? this.refreshSingerSongCnt(colNm).thenMany(summary)
+                                : Flux.empty()));
+    }
+
+    @Override
+    public Flux<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO) {
+
+        log.info("{}.getSingerSong Start!", this.getClass().getName());
+
+        // 가수 조건과 출력 컬럼이 모두 {singer, song} 인덱스에 있으므로 문서를 읽지 않음(covered query)
+        return mongodb.getCollection(colNm)
+                .flatMapMany(col -> col.find(MelonQueries.bySinger(CmmUtil.nvl(pDTO.singer())), MelonDTO.class)
+                        .projection(MelonQueries.SONG_PROJECTION));
+    }
+
+    @Override
+    public Mono<Integer> dropCollection(String colNm) {
+
+        log.info("{}.dropCollection Start!", this.getClass().getName());
+
+        // 삭제된 날짜의 가수별 노래 수 요약도 같이 지우기
+        Mono<Void> deleteSummary = mongodb.getCollection(MelonQueries.SINGER_CNT_COL)
+                .flatMap(summary -> Mono.from(summary.deleteMany(MelonQueries.byColNm(colNm))))
+                .then();
+
+        return this.changed(mongodb.collectionExists(colNm)
+                .flatMap(exists -> exists ? mongodb.dropCollection(colNm).then(deleteSummary).thenReturn(1)
+                        : Mono.just(0)), colNm);
+    }
+}
@@ -0,0 +1,31 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import kopo.poly.dto.MongoDTO;
+import kopo.poly.persistance.mongodb.IReactiveMongoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Component
+public class ReactiveMongoMapper implements IReactiveMongoMapper {
+
+    private final ReactiveMongoTemplate mongodb;
+
+    @Override
+    public Mono<Integer> insertData(MongoDTO pDTO, String colNm) {
+
+        log.info("{}.insertData Start!", this.getClass().getName());
+
+        // 컬렉션이 없으면 insertOne시 MongoDB가 자동으로 생성함
+        // 등록된 MongoDTO Codec으로 Map, Document 변환 없이 바로 BSON으로 저장하기
+        return mongodb.getCollection(colNm)
+                .flatMap(col -> Mono.from(col.withDocumentClass(MongoDTO.class).insertOne(pDTO)))
+                .map(rs -> 1);
+    }
+}
@@ -0,0 +1,299 @@
+package kopo.poly.persistance.mongodb.impl;
+
+import com.mongodb.MongoException;
+import kopo.poly.cache.MelonCacheKeyGenerator;
+import kopo.poly.cache.MelonCacheNames;
+import kopo.poly.dto.BulkResultDTO;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.redis.ICollectionVersionMapper;
+import kopo.poly.util.CmmUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+/**
+ * 컬렉션 버전으로 조회 결과를 캐시하는 MelonMapper(IMelonMapper를 주입받는 곳은 모두 이 Mapper를 사용함)
+ * <p>
+ * - 캐시 키 : 컬렉션이름:v버전:메서드이름[:조회 조건 해시] (캐시 이름 melonQuery)
+ * - 저장/수정/삭제는 MongoDB 처리가 끝난 뒤 변경된 컬렉션의 버전을 올림(ICollectionVersionMapper, RedisDB INCR)
+ * 버전이 바뀌면 이전 버전의 캐시 키는 더 이상 조회되지 않고 유효시간이 지나면 삭제되므로, 캐시를 찾아서 지우지 않아도 됨
+ * - 변경되지 않은 컬렉션(다른 날짜)의 캐시는 그대로 사용하고, 같은 컬렉션의 조회는 버전이 바뀌기 전까지 MongoDB를 다시 조회하지 않음
+ * - 가수별 노래 수(getSingerSongCnt)는 요약 컬렉션(MELON_SINGER_CNT)에서 조회하므로 날짜별 요약 버전(MELON_SINGER_CNT:colNm)을 사용함
+ * - 커서 조회(stream), BSON 그대로 조회(getSongListRaw)는 결과를 메모리에 모으지 않도록 캐시하지 않음
+ * <p>
+ * RedisDB 장애로 버전을 조회하지 못하면 캐시 없이 MongoDB를 조회함
+ * 버전을 올리지 못하면 이전 캐시가 유효시간(melon.cache.query.hard-ttl)까지 사용될 수 있으므로 오류 로그를 남김
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "melon.cache.query.enabled", havingValue = "true", matchIfMissing = true)
+public class VersionedMelonMapper implements IMelonMapper {
+
+    // 저장 방식(melon.mongo.layout)에 따라 MelonMapper 또는 PartitionedMelonMapper 1개만 등록됨
+    private final MelonMapper melonMapper;
+
+    private final ICollectionVersionMapper collectionVersionMapper;
+
+    private final Cache cache;
+
+    public VersionedMelonMapper(MelonMapper melonMapper, ICollectionVersionMapper collectionVersionMapper,
+                                CacheManager cacheManager) {
+        this.melonMapper = melonMapper;
+        this.collectionVersionMapper = collectionVersionMapper;
+        this.cache = cacheManager.getCache(MelonCacheNames.QUERY);
+    }
+
+    /**
+     * 컬렉션 버전이 들어간 캐시 키로 조회하기(캐시에 없으면 MongoDB 조회 후 저장)
+     *
+     * @param verColNm 버전을 확인할 컬렉션 이름
+     * @param method   조회 메서드 이름
+     * @param params   조회 조건(없으면 null)
+     * @param loader   MongoDB 조회
+     */
+    private List<MelonDTO> cached(String verColNm, String method, String params, Callable<List<MelonDTO>> loader)
+            throws MongoException {
+
+        long version;
+
+        try {
+            version = collectionVersionMapper.getVersion(verColNm);
+
+        } catch (Exception e) {
+            log.warn("getVersion failed, bypass query cache / colNm : {} / {}", verColNm, e.getMessage());
+
+            return this.call(loader);
+        }
+
+        StringBuilder key = new StringBuilder(verColNm).append(":v").append(version).append(':').append(method);
+
+        if (params != null) {
+            key.append(':').append(MelonCacheKeyGenerator.hash(params));
+        }
+
+        try {
+            return cache.get(key.toString(), loader);
+
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof MongoException me) {
+                throw me;
+            }
+
+            throw e;
+        }
+    }
+
+    private List<MelonDTO> call(Callable<List<MelonDTO>> loader) throws MongoException {
+        try {
+            return loader.call();
+
+        } catch (RuntimeException e) {
+            throw e;
+
+        } catch (Exception e) {
+            throw new MongoException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변경된 컬렉션 버전 올리기(MongoDB 처리가 실패해도 일부는 저장되었을 수 있으므로 항상 실행함)
+     */
+    private void changed(String... colNms) {
+        try {
+            collectionVersionMapper.incVersion(colNms);
+
+        } catch (Exception e) {
+            log.error("incVersion failed, cached query may be stale until hard-ttl / colNms : {} / {}",
+                    String.join(",", colNms), e.getMessage());
+        }
+    }
+
+    @Override
+    public int insertSong(List<MelonDTO> pList, String colNm) throws MongoException {
+        try {
+            return melonMapper.insertSong(pList, colNm);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public int replaceSong(List<MelonDTO> pList, String colNm) throws MongoException {
+        try {
+            return melonMapper.replaceSong(pList, colNm);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public List<BulkResultDTO> insertSongBulk(List<MelonDTO> pList, String colNm) throws MongoException {
+        try {
+            return melonMapper.insertSongBulk(pList, colNm);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getSongList(String colNm) throws MongoException {
+        return this.cached(colNm, "getSongList", null, () -> melonMapper.getSongList(colNm));
+    }
+
+    @Override
+    public List<RawBsonDocument> getSongListRaw(String colNm) throws MongoException {
+        return melonMapper.getSongListRaw(colNm);
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSongCnt(String colNm, int topK) throws MongoException {
+        return this.cached(MelonQueries.singerCntVersion(colNm), "getSingerSongCnt",
+                String.valueOf(Math.max(topK, 0)), () -> melonMapper.getSingerSongCnt(colNm, topK));
+    }
+
+    @Override
+    public int refreshSingerSongCnt(String colNm) throws MongoException {
+        try {
+            return melonMapper.refreshSingerSongCnt(colNm);
+
+        } finally {
+            this.changed(MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public int backfillSingerSongCnt() throws MongoException {
+        try {
+            return melonMapper.backfillSingerSongCnt();
+
+        } finally {
+            // 모든 날짜의 요약을 다시 만들었으므로 조회 결과 캐시를 모두 지움(관리자 작업이라 자주 실행되지 않음)
+            cache.clear();
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSong(String colNm, MelonDTO pDTO) throws MongoException {
+        return this.cached(colNm, "getSingerSong", CmmUtil.nvl(pDTO.singer()),
+                () -> melonMapper.getSingerSong(colNm, pDTO));
+    }
+
+    @Override
+    public Stream<MelonDTO> streamSongList(String colNm) throws MongoException {
+        return melonMapper.streamSongList(colNm);
+    }
+
+    @Override
+    public Stream<MelonDTO> streamSingerSong(String colNm, MelonDTO pDTO) throws MongoException {
+        return melonMapper.streamSingerSong(colNm, pDTO);
+    }
+
+    @Override
+    public int dropCollection(String colNm) throws MongoException {
+        try {
+            return melonMapper.dropCollection(colNm);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public int insertManyField(String colNm, List<MelonDTO> pList) throws MongoException {
+        try {
+            return melonMapper.insertManyField(colNm, pList);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public int updateField(String colNm, MelonDTO pDTO) throws MongoException {
+        try {
+            return melonMapper.updateField(colNm, pDTO);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getUpdateSinger(String colNm, MelonDTO pDTO) throws MongoException {
+        return this.cached(colNm, "getUpdateSinger", CmmUtil.nvl(pDTO.updateSinger()),
+                () -> melonMapper.getUpdateSinger(colNm, pDTO));
+    }
+
+    @Override
+    public int updateAddField(String colNm, MelonDTO pDTO) throws MongoException {
+        try {
+            return melonMapper.updateAddField(colNm, pDTO);
+
+        } finally {
+            // 가수 이름은 바뀌지 않으므로 요약 컬렉션 버전은 그대로 둠
+            this.changed(colNm);
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSongNickname(String colNm, MelonDTO pDTO) throws MongoException {
+        return this.cached(colNm, "getSingerSongNickname", CmmUtil.nvl(pDTO.singer()),
+                () -> melonMapper.getSingerSongNickname(colNm, pDTO));
+    }
+
+    @Override
+    public int updateAddListField(String colNm, MelonDTO pDTO) throws MongoException {
+        try {
+            return melonMapper.updateAddListField(colNm, pDTO);
+
+        } finally {
+            this.changed(colNm);
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSongMember(String colNm, MelonDTO pDTO) throws MongoException {
+        return this.cached(colNm, "getSingerSongMember", CmmUtil.nvl(pDTO.singer()),
+                () -> melonMapper.getSingerSongMember(colNm, pDTO));
+    }
+
+    @Override
+    public int updateFieldAndAddField(String colNm, MelonDTO pDTO) throws MongoException {
+        try {
+            return melonMapper.updateFieldAndAddField(colNm, pDTO);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+
+    @Override
+    public List<MelonDTO> getSingerSongAddData(String colNm, MelonDTO pDTO) throws MongoException {
+        return this.cached(colNm, "getSingerSongAddData", CmmUtil.nvl(pDTO.updateSinger()),
+                () -> melonMapper.getSingerSongAddData(colNm, pDTO));
+    }
+
+    @Override
+    public int deleteDocument(String colNm, MelonDTO pDTO) throws MongoException {
+        try {
+            return melonMapper.deleteDocument(colNm, pDTO);
+
+        } finally {
+            this.changed(colNm, MelonQueries.singerCntVersion(colNm));
+        }
+    }
+}
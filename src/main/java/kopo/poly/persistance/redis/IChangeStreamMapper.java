@@ -0,0 +1,64 @@
+package kopo.poly.persistance.redis;
+
+import java.time.Duration;
+
+/**
+ * MongoDB 변경 내역(Change Stream) 구독 상태(RedisDB String)
+ * - 재개 토큰 : 서버를 다시 시작해도 마지막으로 처리한 변경 내역 다음부터 구독함
+ * - 임대(lease) : 여러 서버(Pod) 중 1대만 구독하도록 함
+ * - 관리 표시 : 애플리케이션이 요약, 가수 필터, 순위표까지 같이 저장한 날짜(구독 서버가 다시 만들지 않음)
+ */
+public interface IChangeStreamMapper {
+
+    /**
+     * 재개 토큰 가져오기
+     *
+     * @param name 구독 이름
+     * @return 재개 토큰(JSON), 없으면 null
+     */
+    String getResumeToken(String name) throws Exception;
+
+    /**
+     * 재개 토큰 저장하기
+     *
+     * @param name  구독 이름
+     * @param token 재개 토큰(JSON)
+     */
+    void insertResumeToken(String name, String token) throws Exception;
+
+    /**
+     * 재개 토큰 삭제하기(토큰이 만료되어 재개할 수 없을 때)
+     */
+    boolean deleteResumeToken(String name) throws Exception;
+
+    /**
+     * 구독 임대 획득 또는 연장하기
+     *
+     * @param name  구독 이름
+     * @param owner 서버 식별값
+     * @param lease 임대 유지시간
+     * @return 이 서버가 임대를 가지고 있으면 true
+     */
+    boolean acquireLease(String name, String owner, Duration lease) throws Exception;
+
+    /**
+     * 구독 임대 해제하기(이 서버의 임대일 때만)
+     */
+    void releaseLease(String name, String owner) throws Exception;
+
+    /**
+     * 애플리케이션이 저장하는 날짜 표시하기(저장 전에 표시하고, 유지시간이 지나면 자동 삭제됨)
+     *
+     * @param colNm 저장할 차트 날짜(MELON_yyyyMMdd)
+     */
+    void insertMaintained(String colNm) throws Exception;
+
+    /**
+     * 애플리케이션이 저장한 날짜인지 확인하기
+     *
+     * @param colNm 차트 날짜(MELON_yyyyMMdd)
+     * @return 관리 표시가 남아있으면 true
+     */
+    boolean isMaintained(String colNm) throws Exception;
+
+}
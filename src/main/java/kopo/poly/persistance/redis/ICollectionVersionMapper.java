@@ -0,0 +1,27 @@
+package kopo.poly.persistance.redis;
+
+import java.util.List;
+
+/**
+ * 컬렉션(날짜별 차트)별 버전 번호(RedisDB String, INCR)
+ * 조회 결과 캐시 키에 버전을 넣어두고, 저장/수정/삭제할 때 버전을 올려서 해당 컬렉션의 캐시만 더 이상 사용하지 않게 함
+ */
+public interface ICollectionVersionMapper {
+
+    /**
+     * 현재 버전 가져오기(없으면 현재 시간(ms)으로 시작함)
+     *
+     * @param colNm 컬렉션 이름(MELON_yyyyMMdd, MELON_SINGER_CNT 등)
+     * @return 현재 버전
+     */
+    long getVersion(String colNm) throws Exception;
+
+    /**
+     * 버전 올리기(컬렉션마다 INCR, 파이프라인으로 한번에 전송)
+     *
+     * @param colNms 변경된 컬렉션 이름들
+     * @return 변경된 버전(colNms 순서)
+     */
+    List<Long> incVersion(String... colNms) throws Exception;
+
+}
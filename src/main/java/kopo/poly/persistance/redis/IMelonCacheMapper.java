@@ -0,0 +1,34 @@
+package kopo.poly.persistance.redis;
+
+import kopo.poly.dto.MelonDTO;
+
+import java.util.List;
+
+public interface IMelonCacheMapper {
+
+    /**
+     * 멜론 노래 리스트 RedisDB에 저장하기
+     *
+     * @param pList    저장할 노래 리스트
+     * @param redisKey 저장할 키
+     * @return 저장 결과
+     */
+    int insertSong(List<MelonDTO> pList, String redisKey) throws Exception;
+
+    /**
+     * 저장된 멜론 노래 리스트 존재여부 체크하기
+     *
+     * @param key 저장된 키 이름
+     * @return key존재여부
+     */
+    boolean getExistKey(String key) throws Exception;
+
+    /**
+     * 저장된 멜론 노래 리스트 가져오기
+     *
+     * @param key 저장된 키 이름
+     * @return 노래 리스트(저장된 데이터가 없으면 null)
+     */
+    List<MelonDTO> getSongList(String key) throws Exception;
+
+}
@@ -0,0 +1,64 @@
+package kopo.poly.persistance.redis;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.SingerRankDTO;
+
+import java.util.List;
+
+/**
+ * 날짜별 가수별 노래 수 순위표(RedisDB Sorted Set, 가수 -> 노래 수)
+ * 차트를 저장할 때 함께 만들어 두고, 순위 조회는 MongoDB를 거치지 않고 RedisDB 메모리에서만 처리함
+ */
+public interface IMelonRankMapper {
+
+    /**
+     * 수집된 차트로 순위표 교체하기(노래마다 ZINCRBY, 파이프라인으로 한번에 전송)
+     *
+     * @param colNm 차트 컬렉션 이름(MELON_yyyyMMdd)
+     * @param pList 수집된 노래 리스트
+     * @return 저장된 가수 수
+     */
+    long insertSong(String colNm, List<MelonDTO> pList) throws Exception;
+
+    /**
+     * 가수별 노래 수로 순위표 교체하기(MongoDB 요약 컬렉션으로 다시 만들 때 사용)
+     *
+     * @param colNm 차트 컬렉션 이름(MELON_yyyyMMdd)
+     * @param pList 가수별 노래 수(singer, singerCnt)
+     * @return 저장된 가수 수
+     */
+    long insertSingerCnt(String colNm, List<MelonDTO> pList) throws Exception;
+
+    /**
+     * 순위표 존재여부 체크하기
+     */
+    boolean getExistKey(String colNm) throws Exception;
+
+    /**
+     * 순위표 삭제하기(차트가 바뀌면 다음 조회시 다시 만들어짐)
+     */
+    boolean deleteSingerCnt(String colNm) throws Exception;
+
+    /**
+     * 노래 수 상위 가수 가져오기(ZREVRANGE WITHSCORES)
+     *
+     * @param topK 상위 몇 명까지 조회할지(0이면 전체)
+     */
+    List<SingerRankDTO> getTopSinger(String colNm, int topK) throws Exception;
+
+    /**
+     * 가수의 노래 수와 순위 가져오기(ZREVRANK, ZSCORE)
+     *
+     * @return 순위표에 없는 가수면 null
+     */
+    SingerRankDTO getSingerRank(String colNm, String singer) throws Exception;
+
+    /**
+     * 노래 수가 범위 안에 있는 가수 가져오기(ZREVRANGEBYSCORE WITHSCORES, 노래 수 내림차순)
+     *
+     * @param minCnt 최소 노래 수
+     * @param maxCnt 최대 노래 수(0이면 제한 없음)
+     */
+    List<SingerRankDTO> getSingerCntRange(String colNm, long minCnt, long maxCnt) throws Exception;
+
+}
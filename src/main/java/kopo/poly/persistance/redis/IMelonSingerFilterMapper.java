@@ -0,0 +1,31 @@
+package kopo.poly.persistance.redis;
+
+/**
+ * 날짜별 차트 가수 Bloom 필터 비트맵(RedisDB String)
+ * 여러 서버(Pod)가 같은 필터를 사용하도록 차트를 저장한 서버가 RedisDB에 저장함
+ */
+public interface IMelonSingerFilterMapper {
+
+    /**
+     * 필터 비트맵 저장하기
+     *
+     * @param colNm     차트 컬렉션 이름(MELON_yyyyMMdd)
+     * @param bitmap    필터 비트맵
+     * @param overwrite 이미 있으면 덮어쓸지(false면 없을 때만 저장)
+     * @return 저장 여부
+     */
+    boolean insertFilter(String colNm, byte[] bitmap, boolean overwrite) throws Exception;
+
+    /**
+     * 필터 비트맵 가져오기
+     *
+     * @return 저장된 필터가 없으면 null
+     */
+    byte[] getFilter(String colNm) throws Exception;
+
+    /**
+     * 필터 비트맵 삭제하기
+     */
+    boolean deleteFilter(String colNm) throws Exception;
+
+}
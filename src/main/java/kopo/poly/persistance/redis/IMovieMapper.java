@@ -15,6 +15,15 @@ public interface IMovieMapper {
      */
     int insertMovie(MovieDTO pDTO, String redisKey) throws Exception;
 
+    /**
+     * 수집된 CGV 영화 정보로 교체하기(기존 데이터 삭제 후 저장)
+     *
+     * @param pList    저장할 데이터
+     * @param redisKey 저장할 키
+     * @return 저장 결과
+     */
+    int insertMovieList(List<MovieDTO> pList, String redisKey) throws Exception;
+
     /**
      * 수집된 영화 정보 존재여부 체크하기
      *
@@ -27,7 +36,7 @@ public interface IMovieMapper {
      * 1시간 이내 수집 및 호출된 영화 정보가져오기
      *
      * @param redisKey 저장된 키 이름
-     * @return 영화정보
+     * @return 영화정보(저장된 데이터가 없으면 null)
      */
     List<MovieDTO> getMovieList(String redisKey) throws Exception;
 
@@ -20,7 +20,7 @@ public interface IMyRedisMapper {
      * String 타입 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     RedisDTO getString(String redisKey) throws Exception;
 
@@ -37,7 +37,7 @@ public interface IMyRedisMapper {
      * String 타입에 JSON 형태로 저장된 데이터 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     RedisDTO getStringJSON(String redisKey) throws Exception;
 
@@ -54,7 +54,7 @@ public interface IMyRedisMapper {
      * List타입에 여러 문자열로 저장된 데이터 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     List<String> getList(String redisKey) throws Exception;
 
@@ -71,7 +71,7 @@ public interface IMyRedisMapper {
      * List타입에 JSON 형태로 저장된 데이터 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     List<RedisDTO> getListJSON(String redisKey) throws Exception;
 
@@ -88,7 +88,7 @@ public interface IMyRedisMapper {
      * Hash 타입에 문자열 형태로 저장된 값 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     RedisDTO getHash(String redisKey) throws Exception;
 
@@ -105,7 +105,7 @@ public interface IMyRedisMapper {
      * Set타입에 JSON 형태로 람다식을 이용하여 저장된 값 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     Set<RedisDTO> getSetJSON(String redisKey) throws Exception;
 
@@ -122,7 +122,7 @@ public interface IMyRedisMapper {
      * ZSet타입에 JSON 형태로 저장된 값 가져오기
      *
      * @param redisKey 가져올 RedisKey
-     * @return 결과 값
+     * @return 결과 값(저장된 데이터가 없으면 null)
      */
     Set<RedisDTO> getZSetJSON(String redisKey) throws Exception;
 
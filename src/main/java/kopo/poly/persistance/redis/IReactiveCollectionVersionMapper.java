@@ -0,0 +1,21 @@
+package kopo.poly.persistance.redis;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 컬렉션(날짜별 차트)별 버전 번호 논블로킹 Mapper(ReactiveStringRedisTemplate 사용)
+ * ICollectionVersionMapper와 같은 키를 사용하므로, 논블로킹 Mapper로 저장/삭제해도 조회 결과 캐시가 무효화됨
+ */
+public interface IReactiveCollectionVersionMapper {
+
+    /**
+     * 버전 올리기(컬렉션마다 INCR)
+     *
+     * @param colNms 변경된 컬렉션 이름들
+     * @return 변경된 버전(colNms 순서)
+     */
+    Mono<List<Long>> incVersion(String... colNms);
+
+}
@@ -0,0 +1,21 @@
+package kopo.poly.persistance.redis;
+
+import kopo.poly.dto.MovieDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * CGV 영화 정보 논블로킹 Mapper(ReactiveRedisTemplate 사용)
+ */
+public interface IReactiveMovieMapper {
+
+    /**
+     * 1시간 이내 수집 및 호출된 영화 정보가져오기
+     *
+     * @param redisKey 저장된 키 이름
+     * @return 영화정보(저장된 정보가 없으면 빈 Mono)
+     */
+    Mono<List<MovieDTO>> getMovieList(String redisKey);
+
+}
@@ -0,0 +1,43 @@
+package kopo.poly.persistance.redis;
+
+import kopo.poly.dto.RedisDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 자료구조 실습 논블로킹 Mapper(ReactiveRedisTemplate 사용)
+ * 메서드별 저장 방식과 유효시간은 IMyRedisMapper와 동일함
+ */
+public interface IReactiveMyRedisMapper {
+
+    Mono<Integer> saveString(String redisKey, RedisDTO pDTO);
+
+    Mono<RedisDTO> getString(String redisKey);
+
+    Mono<Integer> saveStringJSON(String redisKey, RedisDTO pDTO);
+
+    Mono<RedisDTO> getStringJSON(String redisKey);
+
+    Mono<Integer> saveList(String redisKey, List<RedisDTO> pList);
+
+    Mono<List<String>> getList(String redisKey);
+
+    Mono<Integer> saveListJSON(String redisKey, List<RedisDTO> pList);
+
+    Mono<List<RedisDTO>> getListJSON(String redisKey);
+
+    Mono<Integer> saveHash(String redisKey, RedisDTO pDTO);
+
+    Mono<RedisDTO> getHash(String redisKey);
+
+    Mono<Integer> saveSetJSON(String redisKey, List<RedisDTO> pList);
+
+    Mono<Set<RedisDTO>> getSetJSON(String redisKey);
+
+    Mono<Integer> saveZSetJSON(String redisKey, List<RedisDTO> pList);
+
+    Mono<Set<RedisDTO>> getZSetJSON(String redisKey);
+
+}
@@ -0,0 +1,96 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.persistance.redis.IChangeStreamMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 키 : CHANGE_STREAM:구독이름:TOKEN(재개 토큰 JSON) / CHANGE_STREAM:구독이름:LEASE(임대한 서버 식별값)
+ * / CHANGE_STREAM:MAINTAINED:컬렉션이름(애플리케이션이 저장한 날짜, 구독 이름과 관계없이 표시함)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ChangeStreamMapper implements IChangeStreamMapper {
+
+    // 자신의 임대면 연장하고, 임대한 서버가 없으면 획득하기
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end "
+                    + "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end "
+                    + "return 0",
+            Long.class);
+
+    // 자신의 임대일 때만 해제하기(다른 서버가 다시 획득한 임대를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisDB;
+
+    // 재개 토큰 보관 기간(MongoDB oplog 보관 기간이 지난 토큰으로는 재개할 수 없음)
+    @Value("${melon.change-stream.token-ttl:7d}")
+    private Duration ttl;
+
+    // 관리 표시 유지시간(저장이 끝나고 변경 내역이 구독 서버에 전달될 때까지)
+    @Value("${melon.change-stream.maintained-ttl:2m}")
+    private Duration maintainedTtl;
+
+    private String tokenKey(String name) {
+        return "CHANGE_STREAM:" + name + ":TOKEN";
+    }
+
+    private String leaseKey(String name) {
+        return "CHANGE_STREAM:" + name + ":LEASE";
+    }
+
+    private String maintainedKey(String colNm) {
+        return "CHANGE_STREAM:MAINTAINED:" + colNm;
+    }
+
+    @Override
+    public String getResumeToken(String name) throws Exception {
+        return redisDB.opsForValue().get(this.tokenKey(name));
+    }
+
+    @Override
+    public void insertResumeToken(String name, String token) throws Exception {
+        redisDB.opsForValue().set(this.tokenKey(name), token, ttl);
+    }
+
+    @Override
+    public boolean deleteResumeToken(String name) throws Exception {
+        return Boolean.TRUE.equals(redisDB.delete(this.tokenKey(name)));
+    }
+
+    @Override
+    public boolean acquireLease(String name, String owner, Duration lease) throws Exception {
+
+        Long res = redisDB.execute(ACQUIRE_SCRIPT, List.of(this.leaseKey(name)), owner,
+                String.valueOf(lease.toMillis()));
+
+        return res != null && res == 1;
+    }
+
+    @Override
+    public void releaseLease(String name, String owner) throws Exception {
+        redisDB.execute(RELEASE_SCRIPT, List.of(this.leaseKey(name)), owner);
+    }
+
+    @Override
+    public void insertMaintained(String colNm) throws Exception {
+        redisDB.opsForValue().set(this.maintainedKey(colNm), "1", maintainedTtl);
+    }
+
+    @Override
+    public boolean isMaintained(String colNm) throws Exception {
+        return Boolean.TRUE.equals(redisDB.hasKey(this.maintainedKey(colNm)));
+    }
+}
@@ -0,0 +1,91 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.persistance.redis.ICollectionVersionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키 : 컬렉션이름:VERSION / 값 : 버전 번호
+ * - 시작 값은 현재 시간(ms)이므로, 키가 만료된 뒤 다시 시작해도 이전 버전(이전에 저장된 캐시 키)과 겹치지 않음
+ * - 보관 기간은 조회 결과 캐시 유효시간(melon.cache.query.hard-ttl)보다 길어야 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CollectionVersionMapper implements ICollectionVersionMapper {
+
+    private final StringRedisTemplate redisDB;
+
+    // 버전 보관 기간(버전을 올릴 때마다 다시 설정됨)
+    @Value("${melon.cache.query.version-ttl:7d}")
+    private Duration ttl;
+
+    private String key(String colNm) {
+        return colNm + ":VERSION";
+    }
+
+    @Override
+    public long getVersion(String colNm) throws Exception {
+
+        String key = this.key(colNm);
+
+        String version = redisDB.opsForValue().get(key);
+
+        if (version == null) {
+            // 여러 서버가 동시에 시작해도 먼저 저장한 값 1개만 사용함(SET NX)
+            redisDB.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()), ttl);
+            version = redisDB.opsForValue().get(key);
+        }
+
+        return Long.parseLong(version);
+    }
+
+    @Override
+    public List<Long> incVersion(String... colNms) throws Exception {
+
+        log.info("{}.incVersion Start!", this.getClass().getName());
+
+        String start = String.valueOf(System.currentTimeMillis());
+
+        // 컬렉션마다 SET NX(없으면 시작 값) -> INCR -> EXPIRE 순서로 실행
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                for (String colNm : colNms) {
+                    String key = key(colNm);
+
+                    ops.opsForValue().setIfAbsent(key, start, ttl);
+                    ops.opsForValue().increment(key);
+                    ops.expire(key, ttl);
+                }
+
+                return null;
+            }
+        });
+
+        List<Long> rList = new ArrayList<>(colNms.length);
+
+        for (int i = 0; i < colNms.length; i++) {
+            rList.add((Long) res.get(i * 3 + 1));
+        }
+
+        log.info("colNms : {} / versions : {}", String.join(",", colNms), rList);
+
+        log.info("{}.incVersion End!", this.getClass().getName());
+
+        return rList;
+    }
+}
@@ -1,12 +1,14 @@
 package kopo.poly.persistance.redis.impl;
 
 import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.redis.IMelonCacheMapper;
 import kopo.poly.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,7 +20,8 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class MelonCacheMapper implements IMelonCacheMapper {
 
-    private final RedisTemplate<String, Object> redisDB;
+    // MelonDTO를 JSON으로 저장하도록 서버 시작시 설정된 RedisTemplate(RedisConfiguration 참고)
+    private final RedisTemplate<String, MelonDTO> redisDB;
 
     @Override
     public int insertSong(List<MelonDTO> pList, String redisKey) throws RuntimeException {
@@ -30,9 +33,6 @@ public class MelonCacheMapper implements IMelonCacheMapper {
         // Redis에 저장될 키
         String key = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        redisDB.setKeySerializer(new StringRedisSerializer());
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(MelonDTO.class));
-
         // 람다식으로 데이터 저장하기
         pList.forEach(melon -> redisDB.opsForList().leftPush(key, melon));
 
@@ -56,18 +56,27 @@ public class MelonCacheMapper implements IMelonCacheMapper {
 
         log.info("{}.getSongList Start!", this.getClass().getName());
 
-        redisDB.setKeySerializer(new StringRedisSerializer());
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(MelonDTO.class));
+        // 조회(LRANGE)와 1시간 연장(EXPIRE)을 파이프라인으로 한번에 전송하기
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, MelonDTO> ops = (RedisOperations<String, MelonDTO>) operations;
 
-        List<MelonDTO> rList = null;
+                ops.opsForList().range(key, 0, -1);
+                ops.expire(key, 1, TimeUnit.HOURS);
 
-        // 저장된 키가 존재한다면...
-        if (Optional.ofNullable(redisDB.hasKey(key)).orElseThrow(Exception::new)) {
-            rList = (List) redisDB.opsForList().range(key, 0, -1);
-        }
+                return null;
+            }
+        });
 
-        // 저장된 데이터는 1시간동안 연장하기
-        redisDB.expire(key, 1, TimeUnit.HOURS);
+        @SuppressWarnings("unchecked")
+        List<MelonDTO> rList = (List<MelonDTO>) res.get(0);
+
+        // 저장된 키가 없으면 빈 리스트가 조회되므로, 기존과 동일하게 null로 처리하기
+        if (rList != null && rList.isEmpty()) {
+            rList = null;
+        }
 
         log.info("{}.getSongList End!", this.getClass().getName());
 
@@ -0,0 +1,252 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.SingerRankDTO;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 날짜별 가수별 노래 수 순위표(RedisDB Sorted Set)
+ * - 키 : MELON_yyyyMMdd:SINGER_RANK / 멤버 : 가수 / 점수 : 노래 수
+ * - 저장 : 임시 키에 모두 저장한 뒤 RENAME으로 교체하므로, 저장 중에도 조회는 이전 순위표 또는 새 순위표 전체만 보임
+ * - 조회 : 상위 K명 O(log N + K), 가수 순위 O(log N)
+ * 같은 노래 수의 가수는 RedisDB 정렬 기준(가수 이름 역순)으로 정렬됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MelonRankMapper implements IMelonRankMapper {
+
+    private final StringRedisTemplate redisDB;
+
+    // 순위표 보관 기간(차트는 30분마다 다시 수집되며, 키가 없으면 MongoDB 요약 컬렉션으로 다시 만듦)
+    @Value("${melon.rank.ttl:2d}")
+    private Duration ttl;
+
+    private String key(String colNm) {
+        return colNm + ":SINGER_RANK";
+    }
+
+    /**
+     * 임시 키에 순위표를 저장하고 기존 순위표와 교체하기(모든 명령은 파이프라인으로 한번에 전송)
+     *
+     * @param writer 임시 키에 저장할 명령(ZSetOperations, 임시 키)
+     * @return 저장된 가수 수
+     */
+    private long replace(String colNm, BiConsumer<ZSetOperations<String, String>, String> writer) {
+
+        String key = this.key(colNm);
+        String tmpKey = key + ":" + UUID.randomUUID();
+
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                writer.accept(ops.opsForZSet(), tmpKey);
+
+                // RENAME은 보관 기간도 같이 옮김
+                ops.expire(tmpKey, ttl);
+                ops.rename(tmpKey, key);
+                ops.opsForZSet().zCard(key);
+
+                return null;
+            }
+        });
+
+        return (Long) res.get(res.size() - 1);
+    }
+
+    @Override
+    public long insertSong(String colNm, List<MelonDTO> pList) throws Exception {
+
+        log.info("{}.insertSong Start!", this.getClass().getName());
+
+        List<String> singers = pList.stream().map(MelonDTO::singer).filter(singer -> singer != null).toList();
+
+        long res;
+
+        if (singers.isEmpty()) {
+            this.deleteSingerCnt(colNm);
+            res = 0;
+
+        } else {
+            // 노래마다 가수의 노래 수 1씩 더하기(ZINCRBY)
+            res = this.replace(colNm, (zSet, tmpKey) -> singers.forEach(
+                    singer -> zSet.incrementScore(tmpKey, singer, 1)));
+        }
+
+        log.info("colNm : {} / singerCnt : {}", colNm, res);
+
+        log.info("{}.insertSong End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @Override
+    public long insertSingerCnt(String colNm, List<MelonDTO> pList) throws Exception {
+
+        log.info("{}.insertSingerCnt Start!", this.getClass().getName());
+
+        Set<TypedTuple<String>> tuples = new HashSet<>(pList.size());
+
+        pList.stream()
+                .filter(dto -> dto.singer() != null && dto.singerCnt() > 0)
+                .forEach(dto -> tuples.add(new DefaultTypedTuple<>(dto.singer(), (double) dto.singerCnt())));
+
+        long res;
+
+        if (tuples.isEmpty()) {
+            this.deleteSingerCnt(colNm);
+            res = 0;
+
+        } else {
+            // 가수별 노래 수를 ZADD 1번으로 저장하기
+            res = this.replace(colNm, (zSet, tmpKey) -> zSet.add(tmpKey, tuples));
+        }
+
+        log.info("colNm : {} / singerCnt : {}", colNm, res);
+
+        log.info("{}.insertSingerCnt End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @Override
+    public boolean getExistKey(String colNm) throws Exception {
+        return Optional.ofNullable(redisDB.hasKey(this.key(colNm))).orElseThrow(Exception::new);
+    }
+
+    @Override
+    public boolean deleteSingerCnt(String colNm) throws Exception {
+        return Boolean.TRUE.equals(redisDB.delete(this.key(colNm)));
+    }
+
+    @Override
+    public List<SingerRankDTO> getTopSinger(String colNm, int topK) throws Exception {
+
+        log.info("{}.getTopSinger Start!", this.getClass().getName());
+
+        Set<TypedTuple<String>> rSet = redisDB.opsForZSet()
+                .reverseRangeWithScores(this.key(colNm), 0, topK > 0 ? topK - 1 : -1);
+
+        List<SingerRankDTO> rList = this.toRankList(rSet, 0);
+
+        log.info("{}.getTopSinger End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public SingerRankDTO getSingerRank(String colNm, String singer) throws Exception {
+
+        log.info("{}.getSingerRank Start!", this.getClass().getName());
+
+        String key = this.key(colNm);
+
+        // 순위(ZREVRANK)와 노래 수(ZSCORE)를 파이프라인으로 한번에 조회하기
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().reverseRank(key, singer);
+                ops.opsForZSet().score(key, singer);
+
+                return null;
+            }
+        });
+
+        SingerRankDTO rDTO = null;
+
+        if (res.get(0) instanceof Long rank && res.get(1) instanceof Double score) {
+            rDTO = SingerRankDTO.builder()
+                    .singer(singer)
+                    .singerCnt(score.longValue())
+                    .rank(rank + 1)
+                    .build();
+        }
+
+        log.info("{}.getSingerRank End!", this.getClass().getName());
+
+        return rDTO;
+    }
+
+    @Override
+    public List<SingerRankDTO> getSingerCntRange(String colNm, long minCnt, long maxCnt) throws Exception {
+
+        log.info("{}.getSingerCntRange Start!", this.getClass().getName());
+
+        String key = this.key(colNm);
+
+        double max = maxCnt > 0 ? maxCnt : Double.POSITIVE_INFINITY;
+
+        // 범위보다 노래 수가 많은 가수 수(첫 번째 가수의 순위 계산용)와 범위 안의 가수를 한번에 조회하기
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().count(key, max + 1, Double.POSITIVE_INFINITY);
+                ops.opsForZSet().reverseRangeByScoreWithScores(key, minCnt, max);
+
+                return null;
+            }
+        });
+
+        long offset = res.get(0) instanceof Long cnt ? cnt : 0;
+
+        @SuppressWarnings("unchecked")
+        List<SingerRankDTO> rList = this.toRankList((Set<TypedTuple<String>>) res.get(1), offset);
+
+        log.info("{}.getSingerCntRange End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    /**
+     * 조회된 순위표를 순위를 붙여 DTO로 변환하기
+     *
+     * @param offset 첫 번째 가수보다 앞 순위의 가수 수
+     */
+    private List<SingerRankDTO> toRankList(Set<TypedTuple<String>> rSet, long offset) {
+
+        List<SingerRankDTO> rList = new ArrayList<>(rSet == null ? 0 : rSet.size());
+
+        if (rSet != null) {
+            long rank = offset;
+
+            for (TypedTuple<String> tuple : rSet) {
+                rList.add(SingerRankDTO.builder()
+                        .singer(tuple.getValue())
+                        .singerCnt(tuple.getScore() == null ? 0 : tuple.getScore().longValue())
+                        .rank(++rank)
+                        .build());
+            }
+        }
+
+        return rList;
+    }
+}
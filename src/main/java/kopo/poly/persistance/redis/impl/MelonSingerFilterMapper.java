@@ -0,0 +1,72 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.persistance.redis.IMelonSingerFilterMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 키 : MELON_yyyyMMdd:SINGER_BLOOM / 값 : 비트맵(byte[] 그대로 저장, GETBIT/BITCOUNT로 확인 가능)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MelonSingerFilterMapper implements IMelonSingerFilterMapper {
+
+    // 비트맵은 문자열로 변환하지 않고 byte[] 그대로 저장하기 위해 연결(RedisCallback)을 직접 사용함
+    private final StringRedisTemplate redisDB;
+
+    // 필터 보관 기간
+    @Value("${melon.singer-filter.ttl:2d}")
+    private Duration ttl;
+
+    private byte[] key(String colNm) {
+        return (colNm + ":SINGER_BLOOM").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean insertFilter(String colNm, byte[] bitmap, boolean overwrite) throws Exception {
+
+        log.info("{}.insertFilter Start!", this.getClass().getName());
+
+        byte[] key = this.key(colNm);
+
+        RedisStringCommands.SetOption option = overwrite
+                ? RedisStringCommands.SetOption.upsert() : RedisStringCommands.SetOption.ifAbsent();
+
+        Boolean res = redisDB.execute((RedisCallback<Boolean>) con ->
+                con.stringCommands().set(key, bitmap, Expiration.from(ttl), option));
+
+        log.info("colNm : {} / bytes : {} / res : {}", colNm, bitmap.length, res);
+
+        log.info("{}.insertFilter End!", this.getClass().getName());
+
+        return Boolean.TRUE.equals(res);
+    }
+
+    @Override
+    public byte[] getFilter(String colNm) throws Exception {
+
+        byte[] key = this.key(colNm);
+
+        return redisDB.execute((RedisCallback<byte[]>) con -> con.stringCommands().get(key));
+    }
+
+    @Override
+    public boolean deleteFilter(String colNm) throws Exception {
+
+        byte[] key = this.key(colNm);
+
+        Long res = redisDB.execute((RedisCallback<Long>) con -> con.keyCommands().del(key));
+
+        return res != null && res > 0;
+    }
+}
@@ -4,9 +4,10 @@ import kopo.poly.dto.MovieDTO;
 import kopo.poly.persistance.redis.IMovieMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,7 +19,8 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class MovieMapper implements IMovieMapper {
 
-    private final RedisTemplate<String, Object> redisDB;
+    // MovieDTO를 JSON으로 저장하도록 서버 시작시 설정된 RedisTemplate(RedisConfiguration 참고)
+    private final RedisTemplate<String, MovieDTO> redisDB;
 
     /**
      * 수집 및 조회 요청시 1시간씩 유효시간 연장하기
@@ -36,12 +38,6 @@ public class MovieMapper implements IMovieMapper {
 
         int res;
 
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // MovieDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(MovieDTO.class));
-
         // 오름차순으로 저장하기
         redisDB.opsForList().rightPush(redisKey, pDTO);
 
@@ -55,6 +51,38 @@ public class MovieMapper implements IMovieMapper {
         return res;
     }
 
+    @Override
+    public int insertMovieList(List<MovieDTO> pList, String redisKey) throws Exception {
+        log.info("{}.insertMovieList Start!", this.getClass().getName());
+
+        int res;
+
+        // 기존 데이터 삭제, 오름차순 저장(RPUSH key v1 v2 ... vn), 유효시간 설정을 MULTI/EXEC로 한번에 처리하기
+        // 조회하는 요청은 교체 중인 데이터를 볼 수 없음
+        List<Object> rList = redisDB.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, MovieDTO> ops = (RedisOperations<String, MovieDTO>) operations;
+
+                ops.multi();
+                ops.delete(redisKey);
+                ops.opsForList().rightPushAll(redisKey, pList);
+                ops.expire(redisKey, 1, TimeUnit.HOURS);
+
+                return ops.exec();
+            }
+        });
+
+        log.info("transaction result : {}", rList);
+
+        res = pList.size();
+
+        log.info("{}.insertMovieList End!", this.getClass().getName());
+
+        return res;
+    }
+
     @Override
     public boolean getExistKey(String redisKey) throws Exception {
         log.info("{}.getExistKey Start!", this.getClass().getName());
@@ -65,21 +93,27 @@ public class MovieMapper implements IMovieMapper {
     public List<MovieDTO> getMovieList(String redisKey) throws Exception {
         log.info("{}.getMovieList Start!", this.getClass().getName());
 
-        // 결과 값 저장할 객체
-        List<MovieDTO> rList = null;
-
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
+        // 조회(LRANGE)와 유효시간 1시간 연장(EXPIRE)을 파이프라인으로 한번에 전송하기
+        // 키가 없으면 빈 리스트가 조회되며, 없는 키의 EXPIRE는 아무 동작도 하지 않음
+        List<Object> res = redisDB.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, MovieDTO> ops = (RedisOperations<String, MovieDTO>) operations;
 
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(MovieDTO.class));
+                ops.opsForList().range(redisKey, 0, -1);
+                ops.expire(redisKey, 1, TimeUnit.HOURS);
 
-        if (Optional.ofNullable(redisDB.hasKey(redisKey)).orElseThrow(Exception::new)) {
-            rList = (List) redisDB.opsForList().range(redisKey, 0, -1);
+                return null;
+            }
+        });
 
-            // 데이터 유효시간 1시간 연장하기
-            this.setTimeOutHour(redisKey);
+        @SuppressWarnings("unchecked")
+        List<MovieDTO> rList = (List<MovieDTO>) res.get(0);
 
+        // 조회 결과가 없으면 저장된 데이터가 없는 것으로 처리하기
+        if (rList != null && rList.isEmpty()) {
+            rList = null;
         }
 
         log.info("{}.getMovieList End!", this.getClass().getName());
@@ -6,33 +6,70 @@ import kopo.poly.util.CmmUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.*;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class MyRedisMapper implements IMyRedisMapper {
 
-    private final RedisTemplate<String, Object> redisDB;
+    // 키, 값 모두 String으로 저장하는 RedisTemplate(String, List, Hash 구조 저장용)
+    private final StringRedisTemplate redisDB;
+
+    // RedisDTO를 JSON으로 저장하는 RedisTemplate(JSON 저장용)
+    private final RedisTemplate<String, RedisDTO> jsonRedisDB;
 
     /**
-     * RedisDB 저장된 키 삭제하는 공통 함수
+     * 조회 결과가 없으면(키가 없으면) null 반환하기
+     * MovieMapper, MelonCacheMapper와 같이 저장된 데이터가 없으면 null로 전달함
      */
-    private void deleteRedisKey(String redisKey) {
+    private static <C extends Collection<?>> C nullIfEmpty(C res) {
+        return res == null || res.isEmpty() ? null : res;
+    }
 
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) { // 데이터가 존재하면, 기존 데이터 삭제하기
-            redisDB.delete(redisKey); // 삭제하기
+    /**
+     * 기존 키 삭제, 데이터 저장, 유효시간(TTL) 설정을 MULTI/EXEC 트랜잭션으로 한번에 실행하는 공통 함수
+     * 명령어들이 한번에 전송되어 저장 건수와 상관없이 왕복 1회로 처리되며,
+     * 다른 요청은 일부만 저장된 데이터나 유효시간이 없는 키를 볼 수 없음
+     *
+     * @param template 저장에 사용할 RedisTemplate
+     * @param redisKey Redis저장 키
+     * @param timeout  유효시간
+     * @param unit     유효시간 단위
+     * @param writer   트랜잭션 안에서 실행할 저장 명령어
+     */
+    private <V> void replaceKey(RedisTemplate<String, V> template, String redisKey, long timeout, TimeUnit unit,
+                                Consumer<RedisOperations<String, V>> writer) {
 
-            log.info("삭제 성공!");
+        List<Object> rList = template.execute(new SessionCallback<List<Object>>() {
 
-        }
+            @SuppressWarnings("unchecked")
+            @Override
+            public <K, HV> List<Object> execute(RedisOperations<K, HV> operations) throws DataAccessException {
+
+                RedisOperations<String, V> ops = (RedisOperations<String, V>) operations;
+
+                ops.multi(); // 트랜잭션 시작
+                ops.delete(redisKey); // 기존 데이터 삭제하기
+                writer.accept(ops); // 데이터 저장하기
+                ops.expire(redisKey, timeout, unit); // 유효시간 설정하기
+
+                return ops.exec(); // 트랜잭션 실행
+            }
+        });
+
+        log.info("transaction result : {}", rList);
     }
 
     @Override
@@ -44,20 +81,9 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         String saveData = CmmUtil.nvl(pDTO.text()); // 저장할 값
 
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setValueSerializer(new StringRedisSerializer()); // String 타입
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
-        // 데이터 저장하기
-        redisDB.opsForValue().set(redisKey, saveData);
-
-        // RedisDB에 저장되는 데이터의 유효시간 설정(TTL 설정)
-        // 2일이 지나면, 자동으로 데이터가 삭제되도록 설정함
-        redisDB.expire(redisKey, 2, TimeUnit.DAYS);
+        // 데이터 저장 및 유효시간 설정(TTL 설정)을 SET EX 명령어 한번으로 처리하기
+        // 기존 데이터는 덮어쓰며, 2일이 지나면, 자동으로 데이터가 삭제되도록 설정함
+        redisDB.opsForValue().set(redisKey, saveData, 2, TimeUnit.DAYS);
 
         res = 1;
 
@@ -73,20 +99,14 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("String redisKey : {}", redisKey);
 
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setValueSerializer(new StringRedisSerializer()); // String 타입
-
         RedisDTO rDTO = null;
 
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) { // 데이터가 존재하면, 조회하기
-            String res = (String) redisDB.opsForValue().get(redisKey); // redisKey 통해 조회하기
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 null)
+        String res = redisDB.opsForValue().get(redisKey); // redisKey 통해 조회하기
 
-            log.info("res : {}", res); // 조회 결과
+        log.info("res : {}", res); // 조회 결과
 
-            // RedisDB에 저장된 데이터를 DTO에 저장하기
+        if (res != null) { // 데이터가 존재하면, RedisDB에 저장된 데이터를 DTO에 저장하기
             rDTO = RedisDTO.builder().text(res).build();
         }
 
@@ -102,20 +122,9 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         int res;
 
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
-        // 데이터 저장하기
-        redisDB.opsForValue().set(redisKey, pDTO);
-
-        // RedisDB에 저장되는 데이터의 유효시간 설정(TTL 설정)
-        // 2일이 지나면, 자동으로 데이터가 삭제되도록 설정함
-        redisDB.expire(redisKey, 2, TimeUnit.DAYS);
+        // 데이터 저장 및 유효시간 설정(TTL 설정)을 SET EX 명령어 한번으로 처리하기
+        // 기존 데이터는 덮어쓰며, 2일이 지나면, 자동으로 데이터가 삭제되도록 설정함
+        jsonRedisDB.opsForValue().set(redisKey, pDTO, 2, TimeUnit.DAYS);
 
         res = 1;
 
@@ -130,18 +139,8 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("String redisKey : {}", redisKey);
 
-        RedisDTO rDTO = null;
-
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) { // 데이터가 존재하면, 조회하기
-            rDTO = (RedisDTO) redisDB.opsForValue().get(redisKey); // redisKey 통해 조회하기
-
-        }
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 null)
+        RedisDTO rDTO = jsonRedisDB.opsForValue().get(redisKey); // redisKey 통해 조회하기
 
         log.info("{}.getStringJSON End!", this.getClass().getName());
 
@@ -154,25 +153,19 @@ public class MyRedisMapper implements IMyRedisMapper {
         log.info("{}.saveList Start!", this.getClass().getName());
 
         int res;
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setValueSerializer(new StringRedisSerializer()); // String 타입
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
 
-        pList.forEach(dto -> {
-//            오름차순으로 저장하기
-//                    redisDB.opsForList().rightPush(redisKey, CmmUtil.nvl(dto.text()));
-
-                    // 내림차순으로 저장하기
-                    redisDB.opsForList().leftPush(redisKey, CmmUtil.nvl(dto.text()));
-                }
-        );
+        List<String> values = pList.stream().map(dto -> CmmUtil.nvl(dto.text())).toList();
 
         // 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
-        redisDB.expire(redisKey, 5, TimeUnit.HOURS);
+        this.replaceKey(redisDB, redisKey, 5, TimeUnit.HOURS, ops -> {
+            if (!values.isEmpty()) {
+//                오름차순으로 저장하기(RPUSH key v1 v2 ... vn)
+//                ops.opsForList().rightPushAll(redisKey, values);
+
+                // 내림차순으로 저장하기(LPUSH key v1 v2 ... vn)
+                ops.opsForList().leftPushAll(redisKey, values);
+            }
+        });
 
         res = 1;
 
@@ -186,17 +179,8 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("{}.getRedisList Start!", this.getClass().getName());
 
-        List<String> rList = null;
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setValueSerializer(new StringRedisSerializer()); // String 타입
-
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) {
-            rList = (List) redisDB.opsForList().range(redisKey, 0, -1);
-
-        }
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 빈 리스트가 조회되므로 null로 바꿈)
+        List<String> rList = nullIfEmpty(redisDB.opsForList().range(redisKey, 0, -1));
 
         log.info("{}.getRedisList End!", this.getClass().getName());
 
@@ -210,19 +194,13 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         int res;
 
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
-        // 람다식 사용하여 데이터 저장
-        pList.forEach(dto -> redisDB.opsForList().rightPush(redisKey, dto));
-
+        // 오름차순으로 한번에 저장하기(RPUSH key v1 v2 ... vn)
         // 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
-        redisDB.expire(redisKey, 5, TimeUnit.HOURS);
+        this.replaceKey(jsonRedisDB, redisKey, 5, TimeUnit.HOURS, ops -> {
+            if (!pList.isEmpty()) {
+                ops.opsForList().rightPushAll(redisKey, pList);
+            }
+        });
 
         res = 1;
 
@@ -236,19 +214,8 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("{}.getListJSON Start!", this.getClass().getName());
 
-        // 결과 값 저장할 객체
-        List<RedisDTO> rList = null;
-
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) {
-            rList = (List) redisDB.opsForList().range(redisKey, 0, -1);
-
-        }
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 빈 리스트가 조회되므로 null로 바꿈)
+        List<RedisDTO> rList = nullIfEmpty(jsonRedisDB.opsForList().range(redisKey, 0, -1));
 
         log.info("{}.getListJSON End!", this.getClass().getName());
 
@@ -262,21 +229,14 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         int res;
 
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setHashKeySerializer(new StringRedisSerializer()); // Hash 구조의 키 타입, String 타입
-        redisDB.setHashValueSerializer(new StringRedisSerializer()); // Hash 구조의 값 타입, String 타입
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
-        redisDB.opsForHash().put(redisKey, "name", CmmUtil.nvl(pDTO.name()));
-        redisDB.opsForHash().put(redisKey, "email", CmmUtil.nvl(pDTO.email()));
-        redisDB.opsForHash().put(redisKey, "addr", CmmUtil.nvl(pDTO.addr()));
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put("name", CmmUtil.nvl(pDTO.name()));
+        hash.put("email", CmmUtil.nvl(pDTO.email()));
+        hash.put("addr", CmmUtil.nvl(pDTO.addr()));
 
+        // 여러 필드를 한번에 저장하기(HSET key f1 v1 f2 v2 ...)
         // 저장되는 데이터의 유효기간(TTL)은 100분으로 정의
-        redisDB.expire(redisKey, 100, TimeUnit.MINUTES);
+        this.replaceKey(redisDB, redisKey, 100, TimeUnit.MINUTES, ops -> ops.opsForHash().putAll(redisKey, hash));
 
         res = 1;
 
@@ -294,17 +254,14 @@ public class MyRedisMapper implements IMyRedisMapper {
         // 결과값 전달할 객체
         RedisDTO rDTO = null;
 
-        /*
-         * redis 저장 및 읽기에 대한 데이터 타입 지정(String 타입으로 지정함)
-         */
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-        redisDB.setHashKeySerializer(new StringRedisSerializer()); // Hash 구조의 키 타입, String 타입
-        redisDB.setHashValueSerializer(new StringRedisSerializer()); // Hash 구조의 값 타입, String 타입
+        // 필드 3개를 한번에 조회하기(HMGET key name email addr), 키가 없으면 모든 값이 null
+        List<String> values = redisDB.<String, String>opsForHash()
+                .multiGet(redisKey, List.of("name", "email", "addr"));
 
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) {
-            String name = CmmUtil.nvl((String) redisDB.opsForHash().get(redisKey, "name"));
-            String email = CmmUtil.nvl((String) redisDB.opsForHash().get(redisKey, "email"));
-            String addr = CmmUtil.nvl((String) redisDB.opsForHash().get(redisKey, "addr"));
+        if (values.stream().anyMatch(Objects::nonNull)) {
+            String name = CmmUtil.nvl(values.get(0));
+            String email = CmmUtil.nvl(values.get(1));
+            String addr = CmmUtil.nvl(values.get(2));
 
             log.info("name : {}", name);
             log.info("email : {}", email);
@@ -326,21 +283,15 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         int res;
 
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
         log.info("입력받은 데이터 수 : {}", pList.size());
 
         // Set 구조는 저장 순서에 상관없이 저장하기 떄문에 List 구조와 달리 방향이 존재하지 않음
-        pList.forEach(dto -> redisDB.opsForSet().add(redisKey, dto));
-
-        // 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
-        redisDB.expire(redisKey, 5, TimeUnit.HOURS);
+        // 한번에 저장하기(SADD key v1 v2 ... vn), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        this.replaceKey(jsonRedisDB, redisKey, 5, TimeUnit.HOURS, ops -> {
+            if (!pList.isEmpty()) {
+                ops.opsForSet().add(redisKey, pList.toArray(new RedisDTO[0]));
+            }
+        });
 
         res = 1;
 
@@ -354,19 +305,8 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("{}.getSetJSON Start!", this.getClass().getName());
 
-        // 결과값 전달할 객체
-        Set<RedisDTO> rSet = null;
-
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) {
-            rSet = (Set) redisDB.opsForSet().members(redisKey); // RedisDB 데이터 조회하기
-
-        }
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 빈 Set이 조회되므로 null로 바꿈)
+        Set<RedisDTO> rSet = nullIfEmpty(jsonRedisDB.opsForSet().members(redisKey)); // RedisDB 데이터 조회하기
 
         log.info("{}.getSetJSON End!", this.getClass().getName());
 
@@ -380,22 +320,18 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         int res;
 
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        this.deleteRedisKey(redisKey); // RedisDB 저장된 키 삭제
-
-        pList.forEach(dto -> {
-            redisDB.opsForZSet().add(redisKey, dto, dto.order()); // 저장순서는 order 값에 따름
+        // 저장순서는 order 값에 따름
+        Set<ZSetOperations.TypedTuple<RedisDTO>> tuples = pList.stream()
+                .map(dto -> ZSetOperations.TypedTuple.of(dto, (double) dto.order()))
+                .collect(Collectors.toSet());
 
+        // 한번에 저장하기(ZADD key s1 v1 s2 v2 ...), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        this.replaceKey(jsonRedisDB, redisKey, 5, TimeUnit.HOURS, ops -> {
+            if (!tuples.isEmpty()) {
+                ops.opsForZSet().add(redisKey, tuples);
+            }
         });
 
-        // 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
-        redisDB.expire(redisKey, 5, TimeUnit.HOURS);
-
         res = 1;
 
         log.info("{}.saveZSetJSON End!", this.getClass().getName());
@@ -408,19 +344,8 @@ public class MyRedisMapper implements IMyRedisMapper {
 
         log.info("{}.getZSetJSON Start!", this.getClass().getName());
 
-        // 결과값 전달할 객체
-        Set<RedisDTO> rSet = null;
-
-        // redisDB의 키의 데이터 타입을 String으로 정의(항상 String으로 설정함)
-        redisDB.setKeySerializer(new StringRedisSerializer()); // String 타입
-
-        // RedisDTO에 저장된 데이터를 자동으로 JSON으로 변경하기
-        redisDB.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisDTO.class));
-
-        if (Boolean.TRUE.equals(redisDB.hasKey(redisKey))) {
-            rSet = (Set) redisDB.opsForZSet().range(redisKey, 0, -1);
-
-        }
+        // hasKey로 존재 여부를 먼저 확인하지 않고 바로 조회하기(키가 없으면 빈 Set이 조회되므로 null로 바꿈)
+        Set<RedisDTO> rSet = nullIfEmpty(jsonRedisDB.opsForZSet().range(redisKey, 0, -1));
 
         log.info("{}.getZSetJSON End!", this.getClass().getName());
 
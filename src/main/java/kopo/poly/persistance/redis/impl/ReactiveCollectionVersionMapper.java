@@ -0,0 +1,54 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.persistance.redis.IReactiveCollectionVersionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 키 : 컬렉션이름:VERSION / 값 : 버전 번호(CollectionVersionMapper와 같은 키, 같은 시작 값)
+ */
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Component
+public class ReactiveCollectionVersionMapper implements IReactiveCollectionVersionMapper {
+
+    private final ReactiveStringRedisTemplate redisDB;
+
+    // 버전 보관 기간(버전을 올릴 때마다 다시 설정됨)
+    @Value("${melon.cache.query.version-ttl:7d}")
+    private Duration ttl;
+
+    private String key(String colNm) {
+        return colNm + ":VERSION";
+    }
+
+    @Override
+    public Mono<List<Long>> incVersion(String... colNms) {
+
+        log.info("{}.incVersion Start!", this.getClass().getName());
+
+        String start = String.valueOf(System.currentTimeMillis());
+
+        // 컬렉션마다 SET NX(없으면 시작 값) -> INCR -> EXPIRE 순서로 실행
+        return Flux.fromArray(colNms)
+                .concatMap(colNm -> {
+                    String key = this.key(colNm);
+
+                    return redisDB.opsForValue().setIfAbsent(key, start, ttl)
+                            .then(redisDB.opsForValue().increment(key))
+                            .flatMap(version -> redisDB.expire(key, ttl).thenReturn(version));
+                })
+                .collectList()
+                .doOnNext(rList -> log.info("colNms : {} / versions : {}", String.join(",", colNms), rList));
+    }
+}
@@ -0,0 +1,37 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.persistance.redis.IReactiveMovieMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Component
+public class ReactiveMovieMapper implements IReactiveMovieMapper {
+
+    // MovieDTO를 JSON으로 저장하도록 서버 시작시 설정된 ReactiveRedisTemplate(ReactiveRedisConfiguration 참고)
+    private final ReactiveRedisTemplate<String, MovieDTO> redisDB;
+
+    @Override
+    public Mono<List<MovieDTO>> getMovieList(String redisKey) {
+
+        log.info("{}.getMovieList Start!", this.getClass().getName());
+
+        // 조회(LRANGE)와 유효시간 1시간 연장(EXPIRE)을 응답을 기다리지 않고 같이 전송하기(Lettuce 파이프라이닝)
+        return Mono.zip(
+                        redisDB.opsForList().range(redisKey, 0, -1).collectList(),
+                        redisDB.expire(redisKey, Duration.ofHours(1)))
+                .map(Tuple2::getT1)
+                .filter(rList -> !rList.isEmpty()); // 저장된 데이터가 없으면 빈 Mono
+    }
+}
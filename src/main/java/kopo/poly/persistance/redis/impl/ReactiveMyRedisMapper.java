@@ -0,0 +1,203 @@
+package kopo.poly.persistance.redis.impl;
+
+import kopo.poly.dto.RedisDTO;
+import kopo.poly.persistance.redis.IReactiveMyRedisMapper;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ReactiveRedisTemplate은 MULTI/EXEC 트랜잭션을 지원하지 않으므로,
+ * 저장은 기존 키 삭제 -> 저장 -> 유효시간 설정 순서로 명령어를 이어서 실행함(MyRedisMapper.replaceKey와 달리 원자적이지 않음)
+ */
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Component
+public class ReactiveMyRedisMapper implements IReactiveMyRedisMapper {
+
+    // 키, 값 모두 String으로 저장하는 ReactiveRedisTemplate(String, List, Hash 구조 저장용)
+    private final ReactiveStringRedisTemplate redisDB;
+
+    // RedisDTO를 JSON으로 저장하는 ReactiveRedisTemplate(JSON 저장용)
+    private final ReactiveRedisTemplate<String, RedisDTO> jsonRedisDB;
+
+    /**
+     * 기존 키 삭제, 데이터 저장, 유효시간(TTL) 설정을 순서대로 실행하는 공통 함수
+     *
+     * @param redisKey Redis저장 키
+     * @param ttl      유효시간
+     * @param writer   저장 명령어
+     * @return 저장 결과
+     */
+    private Mono<Integer> replaceKey(String redisKey, Duration ttl, Mono<?> writer) {
+        return redisDB.delete(redisKey)
+                .then(writer)
+                .then(redisDB.expire(redisKey, ttl))
+                .thenReturn(1);
+    }
+
+    @Override
+    public Mono<Integer> saveString(String redisKey, RedisDTO pDTO) {
+
+        log.info("{}.saveString Start!", this.getClass().getName());
+
+        // 데이터 저장 및 유효시간 설정(TTL 설정)을 SET EX 명령어 한번으로 처리하기
+        return redisDB.opsForValue().set(redisKey, CmmUtil.nvl(pDTO.text()), Duration.ofDays(2))
+                .thenReturn(1);
+    }
+
+    @Override
+    public Mono<RedisDTO> getString(String redisKey) {
+
+        log.info("{}.getString Start!", this.getClass().getName());
+
+        // 키가 없으면 빈 Mono
+        return redisDB.opsForValue().get(redisKey)
+                .map(res -> RedisDTO.builder().text(res).build());
+    }
+
+    @Override
+    public Mono<Integer> saveStringJSON(String redisKey, RedisDTO pDTO) {
+
+        log.info("{}.saveStringJSON Start!", this.getClass().getName());
+
+        return jsonRedisDB.opsForValue().set(redisKey, pDTO, Duration.ofDays(2))
+                .thenReturn(1);
+    }
+
+    @Override
+    public Mono<RedisDTO> getStringJSON(String redisKey) {
+
+        log.info("{}.getStringJSON Start!", this.getClass().getName());
+
+        return jsonRedisDB.opsForValue().get(redisKey);
+    }
+
+    @Override
+    public Mono<Integer> saveList(String redisKey, List<RedisDTO> pList) {
+
+        log.info("{}.saveList Start!", this.getClass().getName());
+
+        List<String> values = pList.stream().map(dto -> CmmUtil.nvl(dto.text())).toList();
+
+        // 내림차순으로 저장하기(LPUSH key v1 v2 ... vn), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        return this.replaceKey(redisKey, Duration.ofHours(5),
+                values.isEmpty() ? Mono.empty() : redisDB.opsForList().leftPushAll(redisKey, values));
+    }
+
+    @Override
+    public Mono<List<String>> getList(String redisKey) {
+
+        log.info("{}.getList Start!", this.getClass().getName());
+
+        return redisDB.opsForList().range(redisKey, 0, -1).collectList();
+    }
+
+    @Override
+    public Mono<Integer> saveListJSON(String redisKey, List<RedisDTO> pList) {
+
+        log.info("{}.saveListJSON Start!", this.getClass().getName());
+
+        // 오름차순으로 저장하기(RPUSH key v1 v2 ... vn), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        return this.replaceKey(redisKey, Duration.ofHours(5),
+                pList.isEmpty() ? Mono.empty() : jsonRedisDB.opsForList().rightPushAll(redisKey, pList));
+    }
+
+    @Override
+    public Mono<List<RedisDTO>> getListJSON(String redisKey) {
+
+        log.info("{}.getListJSON Start!", this.getClass().getName());
+
+        return jsonRedisDB.opsForList().range(redisKey, 0, -1).collectList();
+    }
+
+    @Override
+    public Mono<Integer> saveHash(String redisKey, RedisDTO pDTO) {
+
+        log.info("{}.saveHash Start!", this.getClass().getName());
+
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put("name", CmmUtil.nvl(pDTO.name()));
+        hash.put("email", CmmUtil.nvl(pDTO.email()));
+        hash.put("addr", CmmUtil.nvl(pDTO.addr()));
+
+        // 여러 필드를 한번에 저장하기(HSET key f1 v1 f2 v2 ...), 저장되는 데이터의 유효기간(TTL)은 100분으로 정의
+        return this.replaceKey(redisKey, Duration.ofMinutes(100),
+                redisDB.<String, String>opsForHash().putAll(redisKey, hash));
+    }
+
+    @Override
+    public Mono<RedisDTO> getHash(String redisKey) {
+
+        log.info("{}.getHash Start!", this.getClass().getName());
+
+        // 필드 3개를 한번에 조회하기(HMGET key name email addr), 키가 없으면 빈 Mono
+        return redisDB.<String, String>opsForHash().multiGet(redisKey, List.of("name", "email", "addr"))
+                .filter(values -> values.stream().anyMatch(Objects::nonNull))
+                .map(values -> RedisDTO.builder()
+                        .name(CmmUtil.nvl(values.get(0)))
+                        .email(CmmUtil.nvl(values.get(1)))
+                        .addr(CmmUtil.nvl(values.get(2)))
+                        .build());
+    }
+
+    @Override
+    public Mono<Integer> saveSetJSON(String redisKey, List<RedisDTO> pList) {
+
+        log.info("{}.saveSetJSON Start!", this.getClass().getName());
+
+        // 한번에 저장하기(SADD key v1 v2 ... vn), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        return this.replaceKey(redisKey, Duration.ofHours(5),
+                pList.isEmpty() ? Mono.empty() : jsonRedisDB.opsForSet().add(redisKey, pList.toArray(new RedisDTO[0])));
+    }
+
+    @Override
+    public Mono<Set<RedisDTO>> getSetJSON(String redisKey) {
+
+        log.info("{}.getSetJSON Start!", this.getClass().getName());
+
+        return jsonRedisDB.opsForSet().members(redisKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<Integer> saveZSetJSON(String redisKey, List<RedisDTO> pList) {
+
+        log.info("{}.saveZSetJSON Start!", this.getClass().getName());
+
+        // 저장순서는 order 값에 따름
+        Set<ZSetOperations.TypedTuple<RedisDTO>> tuples = pList.stream()
+                .map(dto -> ZSetOperations.TypedTuple.of(dto, (double) dto.order()))
+                .collect(Collectors.toSet());
+
+        // 한번에 저장하기(ZADD key s1 v1 s2 v2 ...), 저장되는 데이터의 유효기간(TTL)은 5시간으로 정의
+        return this.replaceKey(redisKey, Duration.ofHours(5),
+                tuples.isEmpty() ? Mono.empty() : jsonRedisDB.opsForZSet().addAll(redisKey, tuples));
+    }
+
+    @Override
+    public Mono<Set<RedisDTO>> getZSetJSON(String redisKey) {
+
+        log.info("{}.getZSetJSON Start!", this.getClass().getName());
+
+        // 점수(order) 순서대로 조회하기
+        return jsonRedisDB.opsForZSet().range(redisKey, Range.unbounded())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,38 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.SingerRankDTO;
+
+import java.util.List;
+
+public interface IMelonRankService {
+
+    /**
+     * 오늘 차트의 노래 수 상위 가수 가져오기
+     *
+     * @param pDTO topK(상위 몇 명까지 조회할지, 0이면 전체)
+     */
+    List<SingerRankDTO> getTopSinger(SingerRankDTO pDTO) throws Exception;
+
+    /**
+     * 오늘 차트에서 가수의 노래 수와 순위 가져오기
+     *
+     * @param pDTO singer(가수)
+     * @return 차트에 없는 가수면 null
+     */
+    SingerRankDTO getSingerRank(SingerRankDTO pDTO) throws Exception;
+
+    /**
+     * 오늘 차트에서 노래 수가 범위 안에 있는 가수 가져오기
+     *
+     * @param pDTO minCnt(최소 노래 수), maxCnt(최대 노래 수, 0이면 제한 없음)
+     */
+    List<SingerRankDTO> getSingerCntRange(SingerRankDTO pDTO) throws Exception;
+
+    /**
+     * 오늘 차트의 순위표를 MongoDB 요약 컬렉션으로 다시 만들기
+     *
+     * @return 저장된 가수 수
+     */
+    long rebuildSingerRank() throws Exception;
+
+}
@@ -3,11 +3,12 @@ package kopo.poly.service;
 import kopo.poly.dto.MelonDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IMelonService {
 
     /**
-     * 멜론 노래 리스트 저장하기
+     * 멜론 노래 리스트 수집 요청하기(수집 및 저장은 수집 파이프라인에서 처리)
      */
     int collectMelonSong() throws Exception;
 
@@ -18,8 +19,17 @@ public interface IMelonService {
 
     /**
      * 멜론 가수별 노래 수 가져오기
+     *
+     * @param pDTO topK(상위 몇 명까지 조회할지, 0이면 전체)
+     */
+    List<MelonDTO> getSingerSongCnt(MelonDTO pDTO) throws Exception;
+
+    /**
+     * 저장된 모든 날짜의 멜론 차트로 가수별 노래 수 요약 만들기
+     *
+     * @return 요약한 컬렉션 수
      */
-    List<MelonDTO> getSingerSongCnt() throws Exception;
+    int backfillSingerSongCnt() throws Exception;
 
     /**
      * 가수의 노래 가져오기
@@ -28,6 +38,18 @@ public interface IMelonService {
      */
     List<MelonDTO> getSingerSong(MelonDTO pDTO) throws Exception;
 
+    /**
+     * 오늘 수집된 멜론 노래리스트를 커서로 가져오기(대용량 조회용, 캐시 사용하지 않음)
+     * 사용이 끝나면 반드시 close 해야 함
+     */
+    Stream<MelonDTO> streamSongList() throws Exception;
+
+    /**
+     * 가수의 노래를 커서로 가져오기(대용량 조회용)
+     * 사용이 끝나면 반드시 close 해야 함
+     */
+    Stream<MelonDTO> streamSingerSong(MelonDTO pDTO) throws Exception;
+
     /**
      * 수집된 멜론 차트 저장된 MongoDB 컬렉션 삭제하기
      */
@@ -0,0 +1,39 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.ChartMigrationDTO;
+import kopo.poly.dto.IndexBuildDTO;
+
+import java.util.List;
+
+public interface IMongoAdminService {
+
+    /**
+     * 인덱스 생성 이력 가져오기(생성 중, 생성 완료, 생성 실패)
+     */
+    List<IndexBuildDTO> getIndexBuilds() throws Exception;
+
+    /**
+     * 저장된 모든 컬렉션에 선언된 인덱스 적용하기
+     *
+     * @return 새로 생성한 인덱스 수
+     */
+    int reconcileIndexes() throws Exception;
+
+    /**
+     * 날짜별 멜론 차트 컬렉션(MELON_yyyyMMdd)을 모두 날짜 구분 컬렉션(MELON_CHART)으로 옮기기
+     * 한 컬렉션이 실패해도 나머지 컬렉션은 계속 옮김
+     *
+     * @param pDTO 옮긴 후 날짜별 컬렉션 삭제 여부(dropSource), 이미 옮겨진 날짜도 다시 옮길지 여부(force)
+     * @return 컬렉션별 결과
+     */
+    List<ChartMigrationDTO> migrateChartLayout(ChartMigrationDTO pDTO) throws Exception;
+
+    /**
+     * 저장된 멜론 차트 문서를 현재 구조(collectTime Date, rank)로 바꾸기
+     * 날짜별 컬렉션(MELON_yyyyMMdd)과 날짜 구분 컬렉션(MELON_CHART) 모두 바꾸며, 서비스 중에도 실행 가능함
+     *
+     * @return 컬렉션별 결과
+     */
+    List<ChartMigrationDTO> migrateChartSchema() throws Exception;
+
+}
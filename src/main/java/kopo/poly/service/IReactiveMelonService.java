@@ -0,0 +1,39 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.MelonDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 멜론 차트 논블로킹 서비스(reactive 프로필의 ReactiveMelonController에서 사용)
+ */
+public interface IReactiveMelonService {
+
+    /**
+     * 멜론 노래 리스트 수집 요청하기(수집 및 저장은 수집 파이프라인에서 처리)
+     */
+    Mono<Integer> collectMelonSong();
+
+    /**
+     * 오늘 수집된 멜론 노래리스트 가져오기
+     */
+    Flux<MelonDTO> getSongList();
+
+    /**
+     * 멜론 가수별 노래 수 가져오기
+     *
+     * @param pDTO topK(상위 몇 명까지 조회할지, 0이면 전체)
+     */
+    Flux<MelonDTO> getSingerSongCnt(MelonDTO pDTO);
+
+    /**
+     * 가수의 노래 가져오기
+     */
+    Flux<MelonDTO> getSingerSong(MelonDTO pDTO);
+
+    /**
+     * 수집된 멜론 차트 저장된 MongoDB 컬렉션 삭제하기
+     */
+    Mono<Integer> dropCollection();
+
+}
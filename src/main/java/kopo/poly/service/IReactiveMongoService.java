@@ -0,0 +1,12 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.MongoDTO;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveMongoService {
+
+    /**
+     * MongoDB 기본 저장 실습
+     */
+    Mono<Integer> mongoTest(MongoDTO pDTO);
+}
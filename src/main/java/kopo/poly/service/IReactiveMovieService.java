@@ -0,0 +1,14 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.MovieDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface IReactiveMovieService {
+
+    /**
+     * 수집된 CGV 영화 순위 가져오기
+     */
+    Mono<List<MovieDTO>> getMovieRank();
+}
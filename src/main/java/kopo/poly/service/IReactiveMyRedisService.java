@@ -0,0 +1,28 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.RedisDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 자료구조 실습 논블로킹 서비스(저장 후 저장된 데이터를 조회하여 전달함)
+ */
+public interface IReactiveMyRedisService {
+
+    Mono<RedisDTO> saveString(RedisDTO pDTO);
+
+    Mono<RedisDTO> saveStringJSON(RedisDTO pDTO);
+
+    Mono<List<String>> saveList(List<RedisDTO> pList);
+
+    Mono<List<RedisDTO>> saveListJSON(List<RedisDTO> pList);
+
+    Mono<RedisDTO> saveHash(RedisDTO pDTO);
+
+    Mono<Set<RedisDTO>> saveSetJSON(List<RedisDTO> pList);
+
+    Mono<Set<RedisDTO>> saveZSetJSON(List<RedisDTO> pList);
+
+}
@@ -0,0 +1,177 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.dto.SingerRankDTO;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import kopo.poly.service.IMelonRankService;
+import kopo.poly.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 가수별 노래 수 순위 조회
+ * - 순위표(RedisDB ZSET)는 차트 수집 파이프라인이 저장할 때 만들어 두므로, 조회는 RedisDB 메모리에서만 처리함
+ * - 순위표가 없으면(보관 기간 만료, 차트 수정 등) MongoDB 요약 컬렉션(MELON_SINGER_CNT)으로 다시 만듦
+ * - RedisDB에 접속할 수 없으면 MongoDB 요약 컬렉션에서 바로 조회함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MelonRankService implements IMelonRankService {
+
+    private final IMelonRankMapper melonRankMapper; // 순위표(RedisDB)
+
+    private final IMelonMapper melonMapper; // 가수별 노래 수 요약(MongoDB)
+
+    private String colNm() {
+        return "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+    }
+
+    /**
+     * 순위표가 없으면 MongoDB 요약 컬렉션으로 만들기
+     *
+     * @return 순위표가 있으면 true(차트가 없으면 false)
+     */
+    private boolean prepare(String colNm) throws Exception {
+
+        boolean res = melonRankMapper.getExistKey(colNm);
+
+        if (!res) {
+            res = this.rebuild(colNm) > 0;
+        }
+
+        return res;
+    }
+
+    private long rebuild(String colNm) throws Exception {
+
+        log.info("rebuild singer rank - colNm : {}", colNm);
+
+        return melonRankMapper.insertSingerCnt(colNm, melonMapper.getSingerSongCnt(colNm, 0));
+    }
+
+    /**
+     * RedisDB 장애시 MongoDB 요약 컬렉션(노래 수 내림차순, 같으면 가수 이름순)에서 조건에 맞는 가수 가져오기
+     */
+    private List<SingerRankDTO> fromMongo(String colNm, Predicate<SingerRankDTO> filter, int topK) throws Exception {
+
+        List<MelonDTO> pList = melonMapper.getSingerSongCnt(colNm, 0);
+
+        List<SingerRankDTO> rList = new ArrayList<>();
+
+        long rank = 0;
+
+        for (MelonDTO dto : pList) {
+            SingerRankDTO rDTO = SingerRankDTO.builder()
+                    .singer(dto.singer())
+                    .singerCnt(dto.singerCnt())
+                    .rank(++rank)
+                    .build();
+
+            if (filter.test(rDTO)) {
+                rList.add(rDTO);
+
+                if (topK > 0 && rList.size() >= topK) {
+                    break;
+                }
+            }
+        }
+
+        return rList;
+    }
+
+    @Override
+    public List<SingerRankDTO> getTopSinger(SingerRankDTO pDTO) throws Exception {
+
+        log.info("{}.getTopSinger Start!", this.getClass().getName());
+
+        String colNm = this.colNm();
+
+        int topK = pDTO == null ? 0 : pDTO.topK();
+
+        List<SingerRankDTO> rList;
+
+        try {
+            rList = this.prepare(colNm) ? melonRankMapper.getTopSinger(colNm, topK) : new ArrayList<>();
+
+        } catch (DataAccessException e) {
+            log.warn("singer rank read fail, read from MongoDB - colNm : {}, {}", colNm, e.getMessage());
+            rList = this.fromMongo(colNm, dto -> true, topK);
+        }
+
+        log.info("{}.getTopSinger End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public SingerRankDTO getSingerRank(SingerRankDTO pDTO) throws Exception {
+
+        log.info("{}.getSingerRank Start!", this.getClass().getName());
+
+        String colNm = this.colNm();
+
+        String singer = pDTO == null ? null : pDTO.singer();
+
+        SingerRankDTO rDTO = null;
+
+        if (singer != null) {
+            try {
+                rDTO = this.prepare(colNm) ? melonRankMapper.getSingerRank(colNm, singer) : null;
+
+            } catch (DataAccessException e) {
+                log.warn("singer rank read fail, read from MongoDB - colNm : {}, {}", colNm, e.getMessage());
+                rDTO = this.fromMongo(colNm, dto -> singer.equals(dto.singer()), 1).stream().findFirst().orElse(null);
+            }
+        }
+
+        log.info("{}.getSingerRank End!", this.getClass().getName());
+
+        return rDTO;
+    }
+
+    @Override
+    public List<SingerRankDTO> getSingerCntRange(SingerRankDTO pDTO) throws Exception {
+
+        log.info("{}.getSingerCntRange Start!", this.getClass().getName());
+
+        String colNm = this.colNm();
+
+        long minCnt = pDTO == null ? 0 : pDTO.minCnt();
+        long maxCnt = pDTO == null ? 0 : pDTO.maxCnt();
+
+        List<SingerRankDTO> rList;
+
+        try {
+            rList = this.prepare(colNm) ? melonRankMapper.getSingerCntRange(colNm, minCnt, maxCnt) : new ArrayList<>();
+
+        } catch (DataAccessException e) {
+            log.warn("singer rank read fail, read from MongoDB - colNm : {}, {}", colNm, e.getMessage());
+            rList = this.fromMongo(colNm,
+                    dto -> dto.singerCnt() >= minCnt && (maxCnt <= 0 || dto.singerCnt() <= maxCnt), 0);
+        }
+
+        log.info("{}.getSingerCntRange End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public long rebuildSingerRank() throws Exception {
+
+        log.info("{}.rebuildSingerRank Start!", this.getClass().getName());
+
+        long res = this.rebuild(this.colNm());
+
+        log.info("{}.rebuildSingerRank End!", this.getClass().getName());
+
+        return res;
+    }
+}
@@ -1,22 +1,25 @@
 package kopo.poly.service.impl;
 
+import kopo.poly.cache.MelonCacheEvict;
+import kopo.poly.cache.MelonCacheNames;
+import kopo.poly.cache.MelonCacheable;
+import kopo.poly.cache.MelonSingerFilter;
 import kopo.poly.dto.MelonDTO;
+import kopo.poly.ingest.ChartIngestPipeline;
+import kopo.poly.ingest.ChartSnapshotStore;
+import kopo.poly.ingest.ChartSource;
 import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
 import kopo.poly.service.IMelonService;
 import kopo.poly.util.CmmUtil;
 import kopo.poly.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,77 +28,64 @@ public class MelonService implements IMelonService {
 
     private final IMelonMapper melonMapper; // MongoDB에 저장할 Mapper
 
-    /**
-     * 멜론 차트 수집 함수(웹 크롤링)
-     */
-    private List<MelonDTO> doCollect() throws Exception {
-
-        log.info("{}.doCollect Start!", this.getClass().getName());
-
-        List<MelonDTO> pList = new LinkedList<>();
-
-        // 멜론 Top100 중 50위까지 정보 가져오는 페이지
-        String url = "https://www.melon.com/chart/index.htm";
+    private final ChartIngestPipeline ingestPipeline; // 차트 수집 파이프라인
 
-        // JSOUP 라이브러리를 통해 사이트 접속되면, 그 사이트의 전체 HTML소스 저장할 변수
-        Document doc = Jsoup.connect(url).get();
+    private final ChartSnapshotStore snapshotStore; // 마지막으로 수집된 차트
 
-        // <div class="service_list_song"> 이 태그 내에서 있는 HTML소스만 element에 저장됨
-        Elements element = doc.select("div.service_list_song");
+    private final IMelonRankMapper melonRankMapper; // 가수별 노래 수 순위표(RedisDB)
 
-        // Iterator을 사용하여 멜론차트 정보를 가져오기
-        for (Element songInfo : element.select("div.wrap_song_info")) {
+    private final MelonSingerFilter singerFilter; // 차트에 있는 가수 필터
 
-            // 크롤링을 통해 데이터 저장하기
-            String song = CmmUtil.nvl(songInfo.select("div.ellipsis.rank01 a").text()); // 노래
-            String singer = CmmUtil.nvl(songInfo.select("div.ellipsis.rank02 a").eq(0).text()); // 가수
-
-            log.info("song : {}", song);
-            log.info("singer : {}", singer);
-
-            // 가수와 노래 정보가 모두 수집되었다면, 저장함
-            if ((!song.isEmpty()) && (!singer.isEmpty())) {
+    /**
+     * 차트의 가수가 바뀌었으므로 순위표와 가수 필터 삭제하기(다음 조회시 MongoDB 요약 컬렉션으로 다시 만들어짐)
+     */
+    private void onSingerChanged(String colNm) throws Exception {
+        melonRankMapper.deleteSingerCnt(colNm);
+        singerFilter.invalidate(colNm);
+    }
 
-                MelonDTO pDTO = MelonDTO.builder().collectTime(DateUtil.getDateTime("yyyyMMddhhmmss"))
-                        .song(song).singer(singer).build();
+    /**
+     * 마지막으로 수집된 멜론 차트로 컬렉션 교체하기(사이트에 접속하지 않음)
+     * 이 서버에 수집된 차트가 없으면(서버 재시작, 다른 서버에서 수집) 저장된 차트를 그대로 사용함
+     *
+     * @param colNm 저장할 컬렉션 이름
+     * @return 저장 결과(수집된 차트와 저장된 차트가 모두 없으면 0)
+     */
+    private int restoreSnapshot(String colNm) throws Exception {
 
-                // 한번에 여러개의 데이터를 MongoDB에 저장할 List 형태의 데이터 저장하기
-                pList.add(pDTO);
+        List<MelonDTO> pList = snapshotStore.getMelon();
 
+        if (pList.isEmpty()) {
+            if (melonMapper.getSongList(colNm).isEmpty()) {
+                log.info("수집된 멜론 차트가 없습니다. 차트 수집 후 다시 요청하세요.");
+                return 0;
             }
+
+            log.info("이 서버에 수집된 멜론 차트가 없어 저장된 차트를 사용합니다. colNm : {}", colNm);
+            return 1;
         }
 
-        log.info("{}.doCollect End!", this.getClass().getName());
+        int res = melonMapper.replaceSong(pList, colNm);
 
-        return pList;
+        this.onSingerChanged(colNm);
 
+        return res;
     }
 
     /**
-     * CacheEvict - 캐시 이름: "melonSongs"
-     * - 키 생성기: "melonKeyGen"
-     * - 동작:
-     * - 해당 키의 캐시 엔트리를 삭제(무효화)하여, 다음 조회(@Cacheable)가 DB→캐시로 재채움되도록 함.
-     * - 기본적으로 메서드가 정상 완료된 “후(after)”에 삭제 수행.
-     * 예외가 나도 무조건 지우고 싶다면 beforeInvocation = true 옵션 사용.
-     * - 사용 시점:
-     * - 수집/저장/수정/삭제 등으로 DB의 오늘자 데이터가 바뀌는 메서드에 적용.
-     * - 예: collectMelonSong() 끝에서 오늘 키를 비워 최신 데이터로 다시 채우게 함.
+     * 멜론 차트 수집 요청하기
+     * - 요청 쓰레드에서는 사이트에 접속하지 않고, 수집 파이프라인(ChartIngestPipeline)에 요청만 함
+     * - 수집된 차트는 파이프라인의 저장 단계에서 MongoDB에 저장되고, 그때 차트 조회 캐시(MelonCacheNames.CHART)를 삭제(무효화)함
+     * (저장이 끝나기 전에 캐시를 지우면 이전 데이터가 다시 캐시되므로, @MelonCacheEvict를 사용하지 않음)
+     *
+     * @return 요청 접수 결과(1 : 접수, 0 : 수집 요청이 많아 접수 실패)
      */
-    @CacheEvict(cacheNames = "melonSongs", keyGenerator = "melonKeyGen")
     @Override
     public int collectMelonSong() throws Exception {
 
-        int res;
-
-        // 생성할 컬렉션명
-        String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+        log.info("{}.collectMelonSong Start!", this.getClass().getName());
 
-        // private 함수로 선언된 doCollect 함수를 호출하여 결과를 받기
-        List<MelonDTO> rList = this.doCollect();
-
-        // MongoDB에 데이터저장하기
-        res = melonMapper.insertSong(rList, colNm);
+        int res = ingestPipeline.trigger(ChartSource.MELON) ? 1 : 0;
 
         // 로그 찍기(추후 찍은 로그를 통해 이 함수에 접근했는지 파악하기 용이하다.)
         log.info("{}.collectMelonSong End!", this.getClass().getName());
@@ -104,16 +94,17 @@ public class MelonService implements IMelonService {
     }
 
     /**
-     * Cacheable
+     * MelonCacheable(@Cacheable)
      * - 캐시 이름: "melonSongs"
-     * - 키 생성기: "melonKeyGen" (예: "MELON_yyyyMMdd" 형식으로 생성)
+     * - 키 생성기: "melonKeyGen" (예: "MELON_yyyyMMdd:getSongList" 형식으로 생성)
      * - 동작:
      * 1) 같은 키가 캐시에 있으면 메서드를 호출하지 않고 캐시 값을 즉시 반환(HIT).
      * 2) 없으면( MISS ) 메서드를 "한 번만" 실행해 결과를 캐시에 저장한 뒤 반환.
      * sync = true 이면 동일 JVM 내에서 같은 키에 대한 동시 호출을 1회로 직렬화(캐시 스탬피드 방지).
-     * 다중 서버/파드 환경에서는 인스턴스별로 한 번씩 실행될 수 있음(분산 락 아님).
+     * 다중 서버/파드 환경에서는 TwoLevelCacheManager의 분산 Single-Flight(Redis 임대)로 전체 서버 중 1대만 실행하고,
+     * 나머지 서버는 완료 알림을 기다렸다가 캐시를 조회함(대기 시간 초과시 이전 값 사용).
      */
-    @Cacheable(cacheNames = "melonSongs", keyGenerator = "melonKeyGen", sync = true)
+    @MelonCacheable(MelonCacheNames.SONG_LIST)
     @Override
     public List<MelonDTO> getSongList() throws Exception {
 
@@ -129,20 +120,40 @@ public class MelonService implements IMelonService {
         return rList;
     }
 
+    /**
+     * 가수별 노래 수(topK가 같으면 같은 캐시 키, 생략하면 0과 같음)
+     */
+    @MelonCacheable(value = MelonCacheNames.SINGER_CNT, keyFields = "topK")
     @Override
-    public List<MelonDTO> getSingerSongCnt() throws Exception {
+    public List<MelonDTO> getSingerSongCnt(MelonDTO pDTO) throws Exception {
 
         log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
 
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        List<MelonDTO> rList = melonMapper.getSingerSongCnt(colNm);
+        int topK = pDTO == null ? 0 : pDTO.topK();
+
+        List<MelonDTO> rList = melonMapper.getSingerSongCnt(colNm, topK);
 
         log.info("{}.getSingerSongCnt End!", this.getClass().getName());
 
         return rList;
     }
 
+    @MelonCacheEvict(MelonCacheNames.SINGER_CNT)
+    @Override
+    public int backfillSingerSongCnt() throws Exception {
+
+        log.info("{}.backfillSingerSongCnt Start!", this.getClass().getName());
+
+        int res = melonMapper.backfillSingerSongCnt();
+
+        log.info("{}.backfillSingerSongCnt End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public int dropCollection() throws Exception {
 
@@ -156,11 +167,17 @@ public class MelonService implements IMelonService {
         // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
         res = melonMapper.dropCollection(colNm);
 
+        this.onSingerChanged(colNm);
+
         log.info("{}.dropCollection End!", this.getClass().getName());
 
         return res;
     }
 
+    /**
+     * 가수의 노래(singer가 같으면 같은 캐시 키, 차트에 없는 가수의 빈 결과도 저장됨)
+     */
+    @MelonCacheable(value = MelonCacheNames.SINGER_SONG, keyFields = "singer")
     @Override
     public List<MelonDTO> getSingerSong(MelonDTO pDTO) throws Exception {
 
@@ -169,15 +186,21 @@ public class MelonService implements IMelonService {
         // MongoDB에 저장된 컬렉션 이름
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 결과값
-        List<MelonDTO> rList = null;
+        String singer = CmmUtil.nvl(pDTO.singer());
 
-        // Melen 노래 수집하기
-        if (this.collectMelonSong() == 1) {
+        List<MelonDTO> rList;
 
-            // 가수 노래 조회하기
+        // 차트에 없는 가수는 MongoDB를 조회하지 않고 빈 결과 반환하기
+        if (!singerFilter.mightContain(colNm, singer)) {
+            rList = new ArrayList<>();
+
+        } else {
+            // 가수 노래 조회하기(수집 파이프라인이 저장한 데이터 조회)
             rList = melonMapper.getSingerSong(colNm, pDTO);
 
+            if (rList.isEmpty()) {
+                singerFilter.putAbsent(colNm, singer);
+            }
         }
 
         log.info("{}.getSingerSong End!", this.getClass().getName());
@@ -186,6 +209,41 @@ public class MelonService implements IMelonService {
     }
 
 
+    @Override
+    public Stream<MelonDTO> streamSongList() throws Exception {
+
+        log.info("{}.streamSongList Start!", this.getClass().getName());
+
+        // MongoDB에 저장된 컬렉션 이름
+        String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+
+        // 전체 결과를 List로 만들지 않고 커서 그대로 전달하기(캐시에도 저장하지 않음)
+        Stream<MelonDTO> rStream = melonMapper.streamSongList(colNm);
+
+        log.info("{}.streamSongList End!", this.getClass().getName());
+
+        return rStream;
+    }
+
+    @Override
+    public Stream<MelonDTO> streamSingerSong(MelonDTO pDTO) throws Exception {
+
+        log.info("{}.streamSingerSong Start!", this.getClass().getName());
+
+        // MongoDB에 저장된 컬렉션 이름
+        String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+
+        // 차트에 없는 가수는 커서를 열지 않음
+        Stream<MelonDTO> rStream = singerFilter.mightContain(colNm, CmmUtil.nvl(pDTO.singer()))
+                ? melonMapper.streamSingerSong(colNm, pDTO) : Stream.empty();
+
+        log.info("{}.streamSingerSong End!", this.getClass().getName());
+
+        return rStream;
+    }
+
+
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> insertManyField() throws Exception {
 
@@ -197,8 +255,13 @@ public class MelonService implements IMelonService {
         // 생성할 컬렉션명
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
+        // 마지막으로 수집된 차트
+        List<MelonDTO> pList = snapshotStore.getMelon();
+
         // MongoDB에 데이터저장하기
-        if (melonMapper.insertManyField(colNm, this.doCollect()) == 1) {
+        if (!pList.isEmpty() && melonMapper.insertManyField(colNm, pList) == 1) {
+
+            this.onSingerChanged(colNm);
 
             // 변경된 값을 확인하기 위해 MongoDB로부터 데이터 조회하기
             rList = melonMapper.getSongList(colNm);
@@ -211,6 +274,7 @@ public class MelonService implements IMelonService {
         return rList;
     }
 
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> updateField(MelonDTO pDTO) throws Exception {
 
@@ -222,15 +286,14 @@ public class MelonService implements IMelonService {
         // 수정할 컬렉션
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
-        melonMapper.dropCollection(colNm);
-
-        // 멜론Top100 수집하기
-        if (this.collectMelonSong() == 1) {
+        // 마지막으로 수집된 멜론Top100으로 교체하기(수집된 차트가 없으면 저장된 차트 사용)
+        if (this.restoreSnapshot(colNm) == 1) {
 
             // 예 : singer 필드에 저장된 '방탄소년단' 값을 'BTS'로 변경하기
             if (melonMapper.updateField(colNm, pDTO) == 1) {
 
+                this.onSingerChanged(colNm);
+
                 // 변경된 값을 확인하기 위해 MongoDB로부터 데이터 조회하기
                 rList = melonMapper.getUpdateSinger(colNm, pDTO);
 
@@ -244,6 +307,7 @@ public class MelonService implements IMelonService {
     }
 
 
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> updateAddField(MelonDTO pDTO) throws Exception {
 
@@ -255,11 +319,8 @@ public class MelonService implements IMelonService {
         // 수정할 컬렉션
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
-        melonMapper.dropCollection(colNm);
-
-        // 멜론Top100 수집하기
-        if (this.collectMelonSong() == 1) {
+        // 마지막으로 수집된 멜론Top100으로 교체하기(수집된 차트가 없으면 저장된 차트 사용)
+        if (this.restoreSnapshot(colNm) == 1) {
 
             // 예 : nickname 필드를 추가하고, nickname 필드 값은 'BTS' 저장하기
             if (melonMapper.updateAddField(colNm, pDTO) == 1) {
@@ -276,6 +337,7 @@ public class MelonService implements IMelonService {
         return rList;
     }
 
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> updateAddListField(MelonDTO pDTO) throws Exception {
 
@@ -287,11 +349,8 @@ public class MelonService implements IMelonService {
         // 수정할 컬렉션
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
-        melonMapper.dropCollection(colNm);
-
-        // 멜론Top100 수집하기
-        if (this.collectMelonSong() == 1) {
+        // 마지막으로 수집된 멜론Top100으로 교체하기(수집된 차트가 없으면 저장된 차트 사용)
+        if (this.restoreSnapshot(colNm) == 1) {
 
             // MongoDB에 데이터저장하기
             if (melonMapper.updateAddListField(colNm, pDTO) == 1) {
@@ -308,6 +367,7 @@ public class MelonService implements IMelonService {
         return rList;
     }
 
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> updateFieldAndAddField(MelonDTO pDTO) throws Exception {
         // 로그 찍기(추후 찍은 로그를 통해 이 함수에 접근했는지 파악하기 용이하다.)
@@ -318,15 +378,14 @@ public class MelonService implements IMelonService {
         // 수정할 컬렉션
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
-        melonMapper.dropCollection(colNm);
-
-        // 멜론Top100 수집하기
-        if (this.collectMelonSong() == 1) {
+        // 마지막으로 수집된 멜론Top100으로 교체하기(수집된 차트가 없으면 저장된 차트 사용)
+        if (this.restoreSnapshot(colNm) == 1) {
 
             // MongoDB에 데이터 수정하기
             if (melonMapper.updateFieldAndAddField(colNm, pDTO) == 1) {
 
+                this.onSingerChanged(colNm);
+
                 // 변경된 값을 확인하기 위해 MongoDB로부터 데이터 조회하기
                 rList = melonMapper.getSingerSongAddData(colNm, pDTO);
 
@@ -339,6 +398,7 @@ public class MelonService implements IMelonService {
         return rList;
     }
 
+    @MelonCacheEvict({MelonCacheNames.SONG_LIST, MelonCacheNames.SINGER_SONG, MelonCacheNames.SINGER_CNT})
     @Override
     public List<MelonDTO> deleteDocument(MelonDTO pDTO) throws Exception {
 
@@ -350,15 +410,14 @@ public class MelonService implements IMelonService {
         // 삭제할 컬렉션
         String colNm = "MELON_" + DateUtil.getDateTime("yyyyMMdd");
 
-        // 기존 수집된 멜론Top100 수집한 컬렉션 삭제하기
-        melonMapper.dropCollection(colNm);
-
-        // 멜론Top100 수집하기
-        if (this.collectMelonSong() == 1) {
+        // 마지막으로 수집된 멜론Top100으로 교체하기(수집된 차트가 없으면 저장된 차트 사용)
+        if (this.restoreSnapshot(colNm) == 1) {
 
             // MongoDB에 데이터 삭제하기
             if (melonMapper.deleteDocument(colNm, pDTO) == 1) {
 
+                this.onSingerChanged(colNm);
+
                 // 삭제된 값을 확인하기 위해 MongoDB로부터 데이터 조회하기
                 rList = melonMapper.getSongList(colNm);
 
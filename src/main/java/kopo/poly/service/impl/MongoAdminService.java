@@ -0,0 +1,132 @@
+package kopo.poly.service.impl;
+
+import com.mongodb.MongoException;
+import kopo.poly.dto.ChartMigrationDTO;
+import kopo.poly.dto.IndexBuildDTO;
+import kopo.poly.persistance.mongodb.IMelonMigrationMapper;
+import kopo.poly.persistance.mongodb.MelonQueries;
+import kopo.poly.persistance.mongodb.MongoIndexRegistry;
+import kopo.poly.persistance.redis.ICollectionVersionMapper;
+import kopo.poly.service.IMongoAdminService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MongoAdminService implements IMongoAdminService {
+
+    private final MongoIndexRegistry indexRegistry;
+
+    private final IMelonMigrationMapper melonMigrationMapper;
+
+    private final ICollectionVersionMapper collectionVersionMapper; // 조회 결과 캐시 버전(VersionedMelonMapper)
+
+    @Override
+    public List<IndexBuildDTO> getIndexBuilds() throws Exception {
+
+        log.info("{}.getIndexBuilds Start!", this.getClass().getName());
+
+        List<IndexBuildDTO> rList = indexRegistry.getBuilds();
+
+        log.info("{}.getIndexBuilds End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public int reconcileIndexes() throws Exception {
+
+        log.info("{}.reconcileIndexes Start!", this.getClass().getName());
+
+        int res = indexRegistry.reconcile();
+
+        log.info("{}.reconcileIndexes End!", this.getClass().getName());
+
+        return res;
+    }
+
+    @Override
+    public List<ChartMigrationDTO> migrateChartLayout(ChartMigrationDTO pDTO) throws Exception {
+
+        log.info("{}.migrateChartLayout Start!", this.getClass().getName());
+
+        boolean dropSource = pDTO != null && pDTO.dropSource();
+        boolean force = pDTO != null && pDTO.force();
+
+        List<String> colList = melonMigrationMapper.getDailyCollections();
+
+        List<ChartMigrationDTO> rList = new ArrayList<>(colList.size());
+
+        for (String colNm : colList) {
+            rList.add(this.migrate(colNm, dropSource, builder -> {
+                ChartMigrationDTO rDTO = melonMigrationMapper.migrateToChart(colNm, dropSource, force);
+
+                builder.force(force).migratedCnt(rDTO.migratedCnt()).skipped(rDTO.skipped());
+            }));
+        }
+
+        log.info("{}.migrateChartLayout End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    @Override
+    public List<ChartMigrationDTO> migrateChartSchema() throws Exception {
+
+        log.info("{}.migrateChartSchema Start!", this.getClass().getName());
+
+        List<String> colList = new ArrayList<>(melonMigrationMapper.getDailyCollections());
+        colList.add(MelonQueries.CHART_COL);
+
+        List<ChartMigrationDTO> rList = new ArrayList<>(colList.size());
+
+        for (String colNm : colList) {
+            rList.add(this.migrate(colNm, false, builder -> {
+                ChartMigrationDTO rDTO = melonMigrationMapper.migrateSchema(colNm);
+
+                builder.convertedCnt(rDTO.convertedCnt()).rankedCnt(rDTO.rankedCnt());
+            }));
+        }
+
+        log.info("{}.migrateChartSchema End!", this.getClass().getName());
+
+        return rList;
+    }
+
+    /**
+     * 컬렉션 1개 옮기기/바꾸기(실패해도 예외를 던지지 않고 결과에 오류 메시지를 담음)
+     */
+    private ChartMigrationDTO migrate(String colNm, boolean dropSource,
+                                      Consumer<ChartMigrationDTO.ChartMigrationDTOBuilder> task) {
+
+        long startTime = System.currentTimeMillis();
+
+        ChartMigrationDTO.ChartMigrationDTOBuilder builder = ChartMigrationDTO.builder()
+                .dropSource(dropSource)
+                .colNm(colNm);
+
+        try {
+            task.accept(builder);
+
+        } catch (MongoException e) {
+            log.info("migrate fail - colNm : {}, {}", colNm, e.getMessage());
+            builder.errorMsg(e.getMessage());
+        }
+
+        // 문서가 바뀌었으므로 이 날짜의 조회 결과 캐시는 더 이상 사용하지 않음
+        try {
+            collectionVersionMapper.incVersion(colNm);
+
+        } catch (Exception e) {
+            log.error("incVersion failed - colNm : {}, {}", colNm, e.getMessage());
+        }
+
+        return builder.elapsedMs(System.currentTimeMillis() - startTime).build();
+    }
+}
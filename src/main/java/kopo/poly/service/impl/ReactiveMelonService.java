@@ -0,0 +1,73 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.ingest.ChartIngestPipeline;
+import kopo.poly.ingest.ChartSource;
+import kopo.poly.persistance.mongodb.IReactiveMelonMapper;
+import kopo.poly.service.IReactiveMelonService;
+import kopo.poly.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveMelonService implements IReactiveMelonService {
+
+    private final IReactiveMelonMapper melonMapper; // MongoDB 논블로킹 Mapper
+
+    private final ChartIngestPipeline ingestPipeline; // 차트 수집 파이프라인
+
+    /**
+     * 오늘 수집된 멜론 차트 컬렉션 이름
+     */
+    private String colNm() {
+        return "MELON_" + DateUtil.getDateTime("yyyyMMdd");
+    }
+
+    @Override
+    public Mono<Integer> collectMelonSong() {
+
+        log.info("{}.collectMelonSong Start!", this.getClass().getName());
+
+        // 수집 요청은 큐에 넣기만 하므로 요청 쓰레드를 막지 않음
+        return Mono.fromSupplier(() -> ingestPipeline.trigger(ChartSource.MELON) ? 1 : 0);
+    }
+
+    @Override
+    public Flux<MelonDTO> getSongList() {
+
+        log.info("{}.getSongList Start!", this.getClass().getName());
+
+        return melonMapper.getSongList(this.colNm());
+    }
+
+    @Override
+    public Flux<MelonDTO> getSingerSongCnt(MelonDTO pDTO) {
+
+        log.info("{}.getSingerSongCnt Start!", this.getClass().getName());
+
+        return melonMapper.getSingerSongCnt(this.colNm(), pDTO == null ? 0 : pDTO.topK());
+    }
+
+    @Override
+    public Flux<MelonDTO> getSingerSong(MelonDTO pDTO) {
+
+        log.info("{}.getSingerSong Start!", this.getClass().getName());
+
+        return melonMapper.getSingerSong(this.colNm(), pDTO);
+    }
+
+    @Override
+    public Mono<Integer> dropCollection() {
+
+        log.info("{}.dropCollection Start!", this.getClass().getName());
+
+        return melonMapper.dropCollection(this.colNm());
+    }
+}
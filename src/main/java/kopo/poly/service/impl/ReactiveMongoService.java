@@ -0,0 +1,30 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.MongoDTO;
+import kopo.poly.persistance.mongodb.IReactiveMongoMapper;
+import kopo.poly.service.IReactiveMongoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveMongoService implements IReactiveMongoService {
+
+    private final IReactiveMongoMapper mongoMapper; // MongoDB 논블로킹 Mapper
+
+    @Override
+    public Mono<Integer> mongoTest(MongoDTO pDTO) {
+
+        log.info("{}.mongoTest Start!", this.getClass().getName());
+
+        // 생성할 컬렉션명
+        String colNm = "MONGODB_TEST";
+
+        return mongoMapper.insertData(pDTO, colNm);
+    }
+}
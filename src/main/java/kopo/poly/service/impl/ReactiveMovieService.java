@@ -0,0 +1,41 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.MovieDTO;
+import kopo.poly.ingest.ChartIngestPipeline;
+import kopo.poly.ingest.ChartSource;
+import kopo.poly.persistance.redis.IReactiveMovieMapper;
+import kopo.poly.service.IReactiveMovieService;
+import kopo.poly.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveMovieService implements IReactiveMovieService {
+
+    private final IReactiveMovieMapper movieMapper; // RedisDB 논블로킹 Mapper
+
+    private final ChartIngestPipeline ingestPipeline; // 차트 수집 파이프라인
+
+    @Override
+    public Mono<List<MovieDTO>> getMovieRank() {
+
+        log.info("{}.getMovieRank Start!", this.getClass().getName());
+
+        String redisKey = "CGV_" + DateUtil.getDateTime("yyyyMMdd");
+
+        // 오늘 CGV 영화정보 수집정보가 없다면, 수집 요청만 하고 빈 리스트 전달하기
+        return movieMapper.getMovieList(redisKey)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    ingestPipeline.trigger(ChartSource.CGV);
+                    return List.<MovieDTO>of();
+                }));
+    }
+}
@@ -0,0 +1,92 @@
+package kopo.poly.service.impl;
+
+import kopo.poly.dto.RedisDTO;
+import kopo.poly.persistance.redis.IReactiveMyRedisMapper;
+import kopo.poly.service.IReactiveMyRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveMyRedisService implements IReactiveMyRedisService {
+
+    private final IReactiveMyRedisMapper myRedisMapper;
+
+    /**
+     * 저장 결과가 1이면 저장된 데이터 가져오기(MyRedisService와 동일하게 실패시 예외 발생)
+     */
+    private <T> Mono<T> readAfterSave(Mono<Integer> save, Mono<T> read) {
+        return save.flatMap(res -> res == 1 ? read : Mono.error(new Exception("Redis 저장 실패!!")));
+    }
+
+    @Override
+    public Mono<RedisDTO> saveString(RedisDTO pDTO) {
+        log.info("{}.saveString Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_String";
+
+        return this.readAfterSave(myRedisMapper.saveString(redisKey, pDTO), myRedisMapper.getString(redisKey));
+    }
+
+    @Override
+    public Mono<RedisDTO> saveStringJSON(RedisDTO pDTO) {
+        log.info("{}.saveStringJSON Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_String_JSON";
+
+        return this.readAfterSave(myRedisMapper.saveStringJSON(redisKey, pDTO), myRedisMapper.getStringJSON(redisKey));
+    }
+
+    @Override
+    public Mono<List<String>> saveList(List<RedisDTO> pList) {
+        log.info("{}.saveList Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_List";
+
+        return this.readAfterSave(myRedisMapper.saveList(redisKey, pList), myRedisMapper.getList(redisKey));
+    }
+
+    @Override
+    public Mono<List<RedisDTO>> saveListJSON(List<RedisDTO> pList) {
+        log.info("{}.saveListJSON Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_List_JSON";
+
+        return this.readAfterSave(myRedisMapper.saveListJSON(redisKey, pList), myRedisMapper.getListJSON(redisKey));
+    }
+
+    @Override
+    public Mono<RedisDTO> saveHash(RedisDTO pDTO) {
+        log.info("{}.saveHash Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_Hash";
+
+        return this.readAfterSave(myRedisMapper.saveHash(redisKey, pDTO), myRedisMapper.getHash(redisKey));
+    }
+
+    @Override
+    public Mono<Set<RedisDTO>> saveSetJSON(List<RedisDTO> pList) {
+        log.info("{}.saveSetJSON Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_Set_JSON";
+
+        return this.readAfterSave(myRedisMapper.saveSetJSON(redisKey, pList), myRedisMapper.getSetJSON(redisKey));
+    }
+
+    @Override
+    public Mono<Set<RedisDTO>> saveZSetJSON(List<RedisDTO> pList) {
+        log.info("{}.saveZSetJSON Start!", this.getClass().getName());
+
+        String redisKey = "myRedis_ZSet_JSON";
+
+        return this.readAfterSave(myRedisMapper.saveZSetJSON(redisKey, pList), myRedisMapper.getZSetJSON(redisKey));
+    }
+}
@@ -0,0 +1,129 @@
+package kopo.poly.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 서로 관계없는 여러 백엔드 호출(MongoDB, RedisDB, 사이트 접속 등)을 동시에 실행하는 범위(try-with-resources)
+ * <p>
+ * JDK 21의 StructuredTaskScope.ShutdownOnFailure(미리보기 기능)와 같은 방식으로 동작함
+ * - 하나라도 실패하면 나머지 작업을 취소(interrupt)하고, join()에서 첫번째 실패 원인을 던짐
+ * - 범위를 벗어나면(close) 끝나지 않은 작업은 모두 취소되므로, 호출한 메소드보다 오래 실행되는 작업이 남지 않음
+ * <p>
+ * 사용 예)
+ * <pre>
+ * try (FanOutScope scope = new FanOutScope(backendExecutor)) {
+ *     Supplier&lt;A&gt; a = scope.fork(() -> mapperA.get());
+ *     Supplier&lt;B&gt; b = scope.fork(() -> mapperB.get());
+ *
+ *     scope.join();
+ *
+ *     return merge(a.get(), b.get());
+ * }
+ * </pre>
+ */
+public class FanOutScope implements AutoCloseable {
+
+    private final Executor executor;
+
+    private final List<Future<?>> futures = new ArrayList<>();
+
+    // 가장 먼저 실패한 작업의 예외
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public FanOutScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 작업 실행하기
+     *
+     * @param task 실행할 작업
+     * @return join() 이후에 결과를 가져오는 Supplier
+     */
+    public synchronized <T> Supplier<T> fork(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(() -> {
+            try {
+                return task.call();
+
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) {
+                    this.cancelAll(); // 첫번째 실패시 나머지 작업 취소하기
+                }
+
+                throw e;
+            }
+        });
+
+        futures.add(future);
+        executor.execute(future);
+
+        return () -> {
+            if (!future.isDone()) {
+                throw new IllegalStateException("join() must be called before get()");
+            }
+
+            try {
+                return future.get();
+
+            } catch (ExecutionException | CancellationException e) {
+                throw new IllegalStateException("forked task did not complete successfully", e);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다리기
+     *
+     * @throws ExecutionException 실패한 작업이 있으면 첫번째 실패 원인을 담아서 던짐
+     */
+    public void join() throws InterruptedException, ExecutionException {
+        List<Future<?>> rList;
+
+        synchronized (this) {
+            rList = List.copyOf(futures);
+        }
+
+        try {
+            for (Future<?> future : rList) {
+                try {
+                    future.get();
+
+                } catch (ExecutionException | CancellationException e) {
+                    break; // 실패 원인은 failure에 저장되어 있음
+                }
+            }
+
+        } catch (InterruptedException e) {
+            this.cancelAll();
+            throw e;
+        }
+
+        Throwable cause = failure.get();
+
+        if (cause != null) {
+            throw new ExecutionException(cause);
+        }
+    }
+
+    private synchronized void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    @Override
+    public void close() {
+        this.cancelAll();
+    }
+}
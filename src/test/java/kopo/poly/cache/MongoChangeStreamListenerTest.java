@@ -0,0 +1,309 @@
+package kopo.poly.cache;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.persistance.mongodb.IMelonMapper;
+import kopo.poly.persistance.mongodb.IMongoChangeStreamMapper;
+import kopo.poly.persistance.mongodb.impl.MongoChangeStreamMapper;
+import kopo.poly.persistance.redis.IChangeStreamMapper;
+import kopo.poly.persistance.redis.ICollectionVersionMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MongoChangeStreamListener 검사(로컬 mongod 1대로 구성된 복제 세트, Docker)
+ * - 같은 날짜의 변경 여러 건은 1번만 처리하는지(요약 다시 만들기 1번)
+ * - 관리 표시가 남은 날짜(차트 수집의 저장)는 요약을 다시 만들지 않고 순위표도 유지하는지
+ * - 다시 시작하면 저장된 재개 토큰 다음부터 처리하는지
+ * - 임대를 잃으면 구독을 멈추는지
+ * - 재개할 수 없는 토큰(HISTORY_LOST)은 삭제하고 캐시를 모두 지운 후 지금부터 구독하는지
+ * <p>
+ * RedisDB(재개 토큰, 임대, 관리 표시)는 메모리 구현으로 대신함
+ */
+@Testcontainers
+class MongoChangeStreamListenerTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final Duration LEASE = Duration.ofMillis(900);
+
+    private static final Duration MAX_AWAIT = Duration.ofMillis(200);
+
+    private static final long WAIT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    private static MongoClient client;
+
+    private static MongoDatabase db;
+
+    private static IMongoChangeStreamMapper mongoChangeStreamMapper;
+
+    private MemoryChangeStreamMapper changeStreamMapper;
+
+    private IMelonMapper melonMapper;
+
+    private IMelonRankMapper melonRankMapper;
+
+    private CacheManager cacheManager;
+
+    /**
+     * 재개 토큰, 임대, 관리 표시를 메모리에 보관하기(임대, 관리 표시는 만료되지 않음)
+     */
+    private static final class MemoryChangeStreamMapper implements IChangeStreamMapper {
+
+        volatile String token;
+
+        volatile String holder;
+
+        final Set<String> maintained = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String getResumeToken(String name) {
+            return token;
+        }
+
+        @Override
+        public void insertResumeToken(String name, String token) {
+            this.token = token;
+        }
+
+        @Override
+        public boolean deleteResumeToken(String name) {
+            boolean res = token != null;
+            token = null;
+            return res;
+        }
+
+        @Override
+        public synchronized boolean acquireLease(String name, String owner, Duration lease) {
+            if (holder == null || holder.equals(owner)) {
+                holder = owner;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public synchronized void releaseLease(String name, String owner) {
+            if (owner.equals(holder)) {
+                holder = null;
+            }
+        }
+
+        @Override
+        public void insertMaintained(String colNm) {
+            maintained.add(colNm);
+        }
+
+        @Override
+        public boolean isMaintained(String colNm) {
+            return maintained.contains(colNm);
+        }
+    }
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("melon")))
+                .codecRegistry(MongoConfiguration.DTO_CODEC_REGISTRY)
+                .build());
+
+        db = client.getDatabase("melon");
+
+        mongoChangeStreamMapper = new MongoChangeStreamMapper(new MongoTemplate(client, "melon"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        changeStreamMapper = new MemoryChangeStreamMapper();
+        melonMapper = mock(IMelonMapper.class);
+        melonRankMapper = mock(IMelonRankMapper.class);
+        cacheManager = new ConcurrentMapCacheManager();
+    }
+
+    private MongoChangeStreamListener listener(IMongoChangeStreamMapper mapper) {
+        return new MongoChangeStreamListener(mapper, changeStreamMapper, mock(ICollectionVersionMapper.class),
+                melonRankMapper, melonMapper, mock(MelonSingerFilter.class), cacheManager,
+                "test", "MELON_.*", LEASE, MAX_AWAIT, 1000, true, false);
+    }
+
+    /**
+     * 구독을 시작하고 재개 토큰이 처음 저장될 때까지(커서가 열릴 때까지) 기다리기
+     */
+    private MongoChangeStreamListener start(IMongoChangeStreamMapper mapper) throws InterruptedException {
+        String saved = changeStreamMapper.token;
+
+        MongoChangeStreamListener listener = this.listener(mapper);
+        listener.start();
+
+        await(() -> changeStreamMapper.token != null && !changeStreamMapper.token.equals(saved));
+
+        return listener;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long until = System.currentTimeMillis() + WAIT_MS;
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < until, "timeout");
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    private static void insertChart(String colNm, int size) {
+        db.getCollection(colNm).insertMany(IntStream.rangeClosed(1, size)
+                .mapToObj(rank -> new Document("rank", rank).append("song", "노래 " + rank).append("singer", "가수 1"))
+                .toList());
+    }
+
+    @Test
+    void batchesEventsOfSameDate() throws Exception {
+        String colNm = "MELON_20240501";
+
+        MongoChangeStreamListener listener = this.start(mongoChangeStreamMapper);
+
+        try {
+            // 100건이 저장되어도 요약은 1번만 다시 만듦
+            insertChart(colNm, 100);
+
+            verify(melonMapper, timeout(WAIT_MS)).refreshSingerSongCnt(colNm);
+            verify(melonMapper, after(1000).times(1)).refreshSingerSongCnt(colNm);
+            verify(melonRankMapper, atLeastOnce()).deleteSingerCnt(colNm);
+
+        } finally {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void skipsRebuildWhenMaintained() throws Exception {
+        String colNm = "MELON_20240502";
+
+        MongoChangeStreamListener listener = this.start(mongoChangeStreamMapper);
+
+        try {
+            // 차트 수집처럼 관리 표시 후 저장하기(바뀌지 않은 차트를 다시 수집하면 요약 변경은 전달되지 않음)
+            changeStreamMapper.insertMaintained(colNm);
+            insertChart(colNm, 10);
+
+            verify(melonMapper, after(2000).never()).refreshSingerSongCnt(colNm);
+            verify(melonRankMapper, never()).deleteSingerCnt(colNm);
+
+        } finally {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void resumesFromSavedTokenAfterRestart() throws Exception {
+        String colNm = "MELON_20240503";
+
+        this.start(mongoChangeStreamMapper).stop();
+
+        // 구독이 멈춘 동안 저장된 차트
+        insertChart(colNm, 3);
+
+        MongoChangeStreamListener listener = this.listener(mongoChangeStreamMapper);
+        listener.start();
+
+        try {
+            verify(melonMapper, timeout(WAIT_MS)).refreshSingerSongCnt(colNm);
+
+        } finally {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void stopsWatchingAfterLeaseLoss() throws Exception {
+        String colNm = "MELON_20240504";
+
+        MongoChangeStreamListener listener = this.start(mongoChangeStreamMapper);
+
+        try {
+            // 다른 서버가 임대를 가져감(임대 연장 주기가 지나면 구독을 멈춤)
+            changeStreamMapper.holder = "other";
+            TimeUnit.MILLISECONDS.sleep(LEASE.toMillis() + MAX_AWAIT.toMillis());
+
+            insertChart(colNm, 3);
+
+            verify(melonMapper, after(2000).never()).refreshSingerSongCnt(colNm);
+
+        } finally {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void resetsTokenWhenHistoryLost() throws Exception {
+        String colNm = "MELON_20240505";
+        String staleToken = "{\"_data\": \"stale\"}";
+
+        changeStreamMapper.token = staleToken;
+        cacheManager.getCache(MelonCacheNames.QUERY).put("MELON_20240101:v1:getSongList", List.of());
+
+        // 저장된 토큰으로 재개하면 oplog 보관 기간이 지난 것처럼 실패하기
+        IMongoChangeStreamMapper mapper = (colPattern, resumeToken, batchSize, maxAwait) -> {
+            if (resumeToken != null && resumeToken.toJson().contains("stale")) {
+                throw new MongoException(286, "Resume of change stream was not possible");
+            }
+
+            return mongoChangeStreamMapper.watch(colPattern, resumeToken, batchSize, maxAwait);
+        };
+
+        MongoChangeStreamListener listener = this.start(mapper);
+
+        try {
+            assertNotEquals(staleToken, changeStreamMapper.token);
+            assertNull(cacheManager.getCache(MelonCacheNames.QUERY).get("MELON_20240101:v1:getSongList"));
+
+            insertChart(colNm, 3);
+
+            verify(melonMapper, timeout(WAIT_MS)).refreshSingerSongCnt(colNm);
+
+        } finally {
+            listener.stop();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package kopo.poly.ingest;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import kopo.poly.cache.MelonSingerFilter;
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.MelonMapperFixture;
+import kopo.poly.persistance.mongodb.impl.MelonMapper;
+import kopo.poly.persistance.redis.IChangeStreamMapper;
+import kopo.poly.persistance.redis.IMelonRankMapper;
+import kopo.poly.persistance.redis.IMovieMapper;
+import kopo.poly.util.DateUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 차트 수집 파이프라인 검사(ingest.fetcher=fixture, 로컬 mongod, Docker)
+ * <p>
+ * 로컬 HTML 파일(classpath:fixtures/)을 가져오기 -> 추출하기 -> 저장하기 단계로 처리해서
+ * 이미 저장되어 있던 오늘 차트가 수집된 차트로 교체되는지 확인함(RedisDB 저장은 확인하지 않음)
+ */
+@Testcontainers
+class ChartIngestPipelineTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+
+    private static ExecutorService executor;
+
+    private static MelonMapper melonMapper;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("melon")))
+                .codecRegistry(MongoConfiguration.DTO_CODEC_REGISTRY)
+                .build());
+
+        executor = Executors.newFixedThreadPool(4);
+
+        melonMapper = MelonMapperFixture.daily(new MongoTemplate(client, "melon"), executor);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdown();
+
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void fetchParsePersistFromFixtures() throws Exception {
+        String collectDate = DateUtil.getDateTime("yyyyMMdd");
+        String colNm = "MELON_" + collectDate;
+
+        // 이전에 수집된 차트
+        melonMapper.insertSong(MelonMapperFixture.chart(colNm, 1, 100), colNm);
+
+        FixtureChartFetcher fetcher = new FixtureChartFetcher(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(fetcher, "fixtureDir", "classpath:fixtures/");
+
+        IMovieMapper movieMapper = mock(IMovieMapper.class);
+        MelonSingerFilter singerFilter = mock(MelonSingerFilter.class);
+        ChartSnapshotStore snapshotStore = new ChartSnapshotStore();
+
+        ChartIngestPipeline pipeline = new ChartIngestPipeline(fetcher,
+                List.of(new MelonChartParser(), new CgvChartParser()), melonMapper, movieMapper,
+                mock(IMelonRankMapper.class), singerFilter, mock(IChangeStreamMapper.class),
+                new ConcurrentMapCacheManager(), snapshotStore,
+                executor, 4);
+
+        pipeline.start();
+
+        try {
+            assertTrue(pipeline.trigger(ChartSource.MELON));
+            assertTrue(pipeline.trigger(ChartSource.CGV));
+
+            // 저장 단계가 끝나면 가수 필터 교체, 영화 순위 저장이 호출됨
+            verify(singerFilter, timeout(TimeUnit.SECONDS.toMillis(30))).put(eq(colNm), anyCollection());
+            verify(movieMapper, timeout(TimeUnit.SECONDS.toMillis(30))).insertMovieList(anyList(), eq("CGV_" + collectDate));
+
+        } finally {
+            pipeline.stop();
+        }
+
+        List<MelonDTO> rList = melonMapper.getSongList(colNm);
+
+        assertEquals(10, rList.size());
+        assertEquals("Supernova", rList.get(0).song());
+        assertEquals("aespa", rList.get(0).singer());
+
+        // 이전 차트의 가수는 요약에서도 사라짐(aespa, NewJeans 2곡)
+        assertEquals(2, melonMapper.getSingerSongCnt(colNm, 1).get(0).singerCnt());
+    }
+}
@@ -0,0 +1,66 @@
+package kopo.poly.persistance.mongodb;
+
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.impl.MelonMapper;
+import kopo.poly.persistance.mongodb.impl.PartitionedMelonMapper;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 스프링 컨텍스트 없이 MelonMapper / PartitionedMelonMapper 만들기(테스트용)
+ * 설정값(@Value)은 application.properties 기본값과 같게 설정함
+ */
+public final class MelonMapperFixture {
+
+    private MelonMapperFixture() {
+    }
+
+    public static MelonMapper daily(MongoTemplate mongodb, ExecutorService mongoWriteExecutor) {
+        return init(new MelonMapper(mongodb, mongoWriteExecutor), mongodb);
+    }
+
+    public static PartitionedMelonMapper partitioned(MongoTemplate mongodb, ExecutorService mongoWriteExecutor) {
+        return init(new PartitionedMelonMapper(mongodb, mongoWriteExecutor), mongodb);
+    }
+
+    private static <T extends MelonMapper> T init(T mapper, MongoTemplate mongodb) {
+        mapper.setIndexRegistry(new MongoConfiguration().mongoIndexRegistry(mongodb, 400));
+        mapper.setCollectionRegistry(new MongoCollectionRegistry(mongodb));
+
+        ReflectionTestUtils.setField(mapper, "bulkMaxCount", 1000);
+        ReflectionTestUtils.setField(mapper, "bulkMaxBytes", 4194304L);
+        ReflectionTestUtils.setField(mapper, "bulkWriteConcern", "ACKNOWLEDGED");
+        ReflectionTestUtils.setField(mapper, "encodeParallelThreshold", 1000);
+        ReflectionTestUtils.setField(mapper, "streamBatchSize", 1000);
+        ReflectionTestUtils.setField(mapper, "readExpectedSize", 100);
+
+        return mapper;
+    }
+
+    /**
+     * 날짜별 차트 데이터(가수 0~9는 여러 곡, 나머지는 1곡, 일부 가수는 닉네임/멤버 필드가 있음)
+     */
+    public static List<MelonDTO> chart(String colNm, int day, int size) {
+        List<MelonDTO> pList = new ArrayList<>(size);
+
+        for (int rank = 1; rank <= size; rank++) {
+            int singerNo = rank <= 40 ? rank % 10 : rank + day;
+
+            pList.add(MelonDTO.builder()
+                    .collectTime(colNm.substring(6) + "090000")
+                    .rank(rank)
+                    .song("노래 " + day + "-" + rank)
+                    .singer("가수 " + singerNo)
+                    .nickname(singerNo < 10 ? "닉네임 " + singerNo : null)
+                    .member(singerNo < 5 ? List.of("멤버1", "멤버2") : null)
+                    .build());
+        }
+
+        return pList;
+    }
+}
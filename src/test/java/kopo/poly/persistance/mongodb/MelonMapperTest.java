@@ -0,0 +1,152 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.impl.MelonMapper;
+import kopo.poly.persistance.mongodb.impl.PartitionedMelonMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MelonMapper / PartitionedMelonMapper 저장, 조회 검사(로컬 mongod, Docker)
+ * <p>
+ * 실제 Mapper 메소드를 호출해서 저장 방식(melon.mongo.layout)별로 컬렉션 생성, 저장, 요약, 조회가 동작하는지 확인함
+ * Docker가 없으면 실패함(빌드에서 건너뛰지 않음)
+ */
+@Testcontainers
+class MelonMapperTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final int CHART_SIZE = 100;
+
+    private static MongoClient client;
+
+    private static MongoTemplate mongodb;
+
+    private static ExecutorService mongoWriteExecutor;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("melon")))
+                .codecRegistry(MongoConfiguration.DTO_CODEC_REGISTRY)
+                .build());
+
+        mongodb = new MongoTemplate(client, "melon");
+
+        mongoWriteExecutor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoWriteExecutor.shutdown();
+
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private static void assertChart(IMelonMapper mapper, String colNm) {
+        List<MelonDTO> rList = mapper.getSongList(colNm);
+
+        assertEquals(CHART_SIZE, rList.size());
+        assertEquals("노래 1-1", rList.get(0).song());
+        assertEquals("노래 1-" + CHART_SIZE, rList.get(CHART_SIZE - 1).song());
+
+        // 가수 0 ~ 9는 4곡씩(1 ~ 40위)
+        List<MelonDTO> cnt = mapper.getSingerSongCnt(colNm, 1);
+
+        assertEquals(1, cnt.size());
+        assertEquals(4, cnt.get(0).singerCnt());
+    }
+
+    @Test
+    void dailyInsertSong() {
+        String colNm = "MELON_20240401";
+
+        MelonMapper mapper = MelonMapperFixture.daily(mongodb, mongoWriteExecutor);
+
+        assertEquals(1, mapper.insertSong(MelonMapperFixture.chart(colNm, 1, CHART_SIZE), colNm));
+
+        assertChart(mapper, colNm);
+    }
+
+    @Test
+    void partitionedInsertSong() {
+        String colNm = "MELON_20240402";
+
+        MelonMapper mapper = MelonMapperFixture.partitioned(mongodb, mongoWriteExecutor);
+
+        assertEquals(1, mapper.insertSong(MelonMapperFixture.chart(colNm, 1, CHART_SIZE), colNm));
+
+        assertChart(mapper, colNm);
+    }
+
+    @Test
+    void partitionedInsertManyFieldReplacesSameDate() {
+        String colNm = "MELON_20240403";
+
+        MelonMapper mapper = MelonMapperFixture.partitioned(mongodb, mongoWriteExecutor);
+
+        // 같은 날짜를 두번 저장해도 유일 인덱스({chartDate, rank}) 오류 없이 같은 순위를 교체함
+        assertEquals(1, mapper.insertManyField(colNm, MelonMapperFixture.chart(colNm, 1, CHART_SIZE)));
+        assertEquals(1, mapper.insertManyField(colNm, MelonMapperFixture.chart(colNm, 1, CHART_SIZE)));
+
+        assertChart(mapper, colNm);
+    }
+
+    @Test
+    void replaceSongKeepsIndexesAndSummary() {
+        String colNm = "MELON_20240404";
+
+        for (MelonMapper mapper : List.of(MelonMapperFixture.daily(mongodb, mongoWriteExecutor),
+                MelonMapperFixture.partitioned(mongodb, mongoWriteExecutor))) {
+
+            // 이전 차트(day 2)를 새 차트(day 1)로 교체함
+            assertEquals(1, mapper.insertSong(MelonMapperFixture.chart(colNm, 2, CHART_SIZE), colNm));
+            assertEquals(1, mapper.replaceSong(MelonMapperFixture.chart(colNm, 1, CHART_SIZE), colNm));
+
+            assertChart(mapper, colNm);
+        }
+
+        // 임시 컬렉션은 남지 않고, 교체된 컬렉션에 날짜별 컬렉션 인덱스가 있음
+        assertTrue(mongodb.getCollectionNames().stream().noneMatch(name -> name.contains("_TMP_")));
+        assertEquals(4, mongodb.getCollection(colNm).listIndexes().into(new ArrayList<>()).size());
+    }
+
+    @Test
+    void partitionedReplaceSongWithoutTransaction() {
+        String colNm = "MELON_20240405";
+
+        PartitionedMelonMapper mapper = MelonMapperFixture.partitioned(mongodb, mongoWriteExecutor);
+
+        // 단독 mongod처럼 트랜잭션 없이 교체하기
+        ReflectionTestUtils.setField(mapper, "transactional", false);
+
+        // 더 긴 이전 차트(day 2)를 새 차트(day 1)로 교체하면 남는 순위는 삭제됨
+        assertEquals(1, mapper.insertSong(MelonMapperFixture.chart(colNm, 2, CHART_SIZE + 10), colNm));
+        assertEquals(1, mapper.replaceSong(MelonMapperFixture.chart(colNm, 1, CHART_SIZE), colNm));
+
+        assertChart(mapper, colNm);
+    }
+}
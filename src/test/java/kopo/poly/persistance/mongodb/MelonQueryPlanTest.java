@@ -0,0 +1,423 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.dto.MelonDTO;
+import kopo.poly.persistance.mongodb.impl.MelonMapper;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MelonMapper에서 사용하는 조회/수정/삭제/집계 쿼리의 실행계획 검사
+ * <p>
+ * 실제 차트와 비슷한 데이터(날짜별 100곡, 여러 곡이 있는 가수 포함)를 로컬 mongod(Docker)에
+ * 날짜별 컬렉션(MELON_yyyyMMdd)과 날짜 구분 컬렉션(MELON_CHART) 구조의 Mapper로 각각 저장한 후,
+ * 실제 Mapper 메소드를 호출하면서 MongoDB로 보낸 명령(CommandListener)을 그대로 explain("executionStats")해서 검사함
+ * - 컬렉션 전체 읽기(COLLSCAN)가 발생하면 실패
+ * - 인덱스만으로 처리할 수 있는 쿼리(covered query)가 문서를 읽으면(FETCH) 실패
+ * - 읽은 문서 수(totalDocsExamined)가 조회 결과 수(nReturned)보다 많으면 실패
+ * <p>
+ * Docker가 없으면 실패함(빌드에서 건너뛰지 않음)
+ */
+@Testcontainers
+class MelonQueryPlanTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    // 저장할 날짜 수(날짜 조건으로 걸러내야 하는 다른 날짜 데이터, 수정/삭제 검사는 날짜마다 따로 사용함)
+    private static final int DAYS = 30;
+
+    // 차트 1개의 노래 수
+    private static final int CHART_SIZE = 100;
+
+    // 여러 곡이 차트에 있는 가수
+    private static final String SINGER = "가수 0";
+
+    // 검사할 명령(저장 명령 insert는 실행계획이 없음)
+    private static final Set<String> PLANNED = Set.of("find", "aggregate", "update", "delete", "count", "distinct");
+
+    // Mapper가 MongoDB로 보낸 명령
+    private static final List<BsonDocument> COMMANDS = new CopyOnWriteArrayList<>();
+
+    private static MongoClient client;
+
+    private static MongoDatabase db;
+
+    private static ExecutorService mongoWriteExecutor;
+
+    private static MelonMapper daily;
+
+    private static MelonMapper partitioned;
+
+    @BeforeAll
+    static void setUp() {
+        CommandListener listener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (PLANNED.contains(event.getCommandName())) {
+                    // 명령 문서는 이벤트 처리 중에만 유효하므로 복사해 둠
+                    COMMANDS.add(BsonDocument.parse(event.getCommand()
+                            .toJson(JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build())));
+                }
+            }
+        };
+
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("melon")))
+                .codecRegistry(MongoConfiguration.DTO_CODEC_REGISTRY)
+                .addCommandListener(listener)
+                .build());
+
+        db = client.getDatabase("melon");
+
+        MongoTemplate mongodb = new MongoTemplate(client, "melon");
+
+        mongoWriteExecutor = Executors.newFixedThreadPool(4);
+
+        daily = MelonMapperFixture.daily(mongodb, mongoWriteExecutor);
+        partitioned = MelonMapperFixture.partitioned(mongodb, mongoWriteExecutor);
+
+        for (int day = 1; day <= DAYS; day++) {
+            String colNm = colNm(day);
+
+            // 날짜별 컬렉션(daily)과 날짜 구분 컬렉션(partitioned)에 같은 차트 저장하기
+            daily.insertSong(MelonMapperFixture.chart(colNm, day, CHART_SIZE), colNm);
+            partitioned.insertSong(MelonMapperFixture.chart(colNm, day, CHART_SIZE), colNm);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoWriteExecutor.shutdown();
+
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private static String colNm(int day) {
+        return String.format("MELON_202403%02d", day);
+    }
+
+    private static MelonDTO singer(String singer) {
+        return MelonDTO.builder().singer(singer).build();
+    }
+
+    /**
+     * Mapper 메소드를 실행하고, 실행하면서 MongoDB로 보낸 명령 중 컬렉션(colNm)에 대한 명령만 가져오기
+     */
+    private static List<BsonDocument> capture(String colNm, Runnable call) {
+        COMMANDS.clear();
+
+        call.run();
+
+        List<BsonDocument> rList = COMMANDS.stream()
+                .filter(cmd -> cmd.get(cmd.getFirstKey()).isString()
+                        && colNm.equals(cmd.getString(cmd.getFirstKey()).getValue()))
+                .toList();
+
+        assertFalse(rList.isEmpty(), () -> "no command on " + colNm + " : " + COMMANDS);
+
+        return rList;
+    }
+
+    /**
+     * Mapper가 보낸 명령을 explain 하기
+     * 수정/삭제 명령은 문장(statement)마다 나눠서 explain 하고($merge는 executionStats를 지원하지 않아 제외, 읽는 방식은 같음)
+     * explain은 데이터를 바꾸지 않음
+     */
+    private static List<Plan> explain(BsonDocument command) {
+        BsonDocument cmd = command.clone();
+
+        for (String key : List.of("$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "readConcern",
+                "writeConcern", "ordered", "apiVersion", "apiStrict", "apiDeprecationErrors")) {
+            cmd.remove(key);
+        }
+
+        List<BsonDocument> commands = new ArrayList<>();
+
+        if (cmd.containsKey("updates") || cmd.containsKey("deletes")) {
+            String field = cmd.containsKey("updates") ? "updates" : "deletes";
+
+            for (BsonValue statement : cmd.getArray(field)) {
+                commands.add(cmd.clone().append(field, new BsonArray(List.of(statement))));
+            }
+
+        } else if (cmd.containsKey("pipeline")) {
+            BsonArray pipeline = cmd.getArray("pipeline").clone();
+
+            if (!pipeline.isEmpty() && pipeline.get(pipeline.size() - 1).asDocument().containsKey("$merge")) {
+                pipeline.remove(pipeline.size() - 1);
+            }
+
+            commands.add(cmd.append("pipeline", pipeline));
+
+        } else {
+            commands.add(cmd);
+        }
+
+        return commands.stream()
+                .map(c -> Plan.of(db.runCommand(new BsonDocument("explain", c)
+                        .append("verbosity", new BsonString("executionStats")), Document.class)))
+                .toList();
+    }
+
+    private static List<Plan> plans(String colNm, Runnable call) {
+        return capture(colNm, call).stream().flatMap(cmd -> explain(cmd).stream()).toList();
+    }
+
+    @Test
+    void getSongList() {
+        String colNm = colNm(1);
+
+        // 날짜별 전체 차트 조회는 순위 정렬이 rank 인덱스로 처리되어야 함(메모리 정렬 없음)
+        for (Plan plan : plans(colNm, () -> daily.getSongList(colNm))) {
+            plan.assertIndexed();
+            assertFalse(plan.stages().contains("SORT"), plan::toString);
+            assertEquals(CHART_SIZE, plan.nReturned(), plan::toString);
+            assertEquals(plan.nReturned(), plan.docsExamined(), plan::toString);
+        }
+
+        plans(colNm, () -> {
+            try (Stream<MelonDTO> stream = daily.streamSongList(colNm)) {
+                assertEquals(CHART_SIZE, stream.count());
+            }
+        }).forEach(Plan::assertIndexed);
+    }
+
+    @Test
+    void getSingerSong() {
+        String colNm = colNm(1);
+
+        plans(colNm, () -> daily.getSingerSong(colNm, singer(SINGER))).forEach(Plan::assertCovered);
+
+        plans(colNm, () -> {
+            try (Stream<MelonDTO> stream = daily.streamSingerSong(colNm, singer(SINGER))) {
+                assertTrue(stream.count() > 1);
+            }
+        }).forEach(Plan::assertCovered);
+    }
+
+    @Test
+    void getSingerSongWithAddedField() {
+        String colNm = colNm(1);
+
+        // 인덱스에 없는 필드를 출력하므로 문서 읽기 허용
+        plans(colNm, () -> daily.getSingerSongNickname(colNm, singer(SINGER))).forEach(Plan::assertIndexed);
+        plans(colNm, () -> daily.getSingerSongMember(colNm, singer(SINGER))).forEach(Plan::assertIndexed);
+        plans(colNm, () -> daily.getSingerSongAddData(colNm,
+                MelonDTO.builder().updateSinger(SINGER).build())).forEach(Plan::assertIndexed);
+    }
+
+    @Test
+    void updateAndDeleteBySinger() {
+        // 수정/삭제는 데이터가 바뀌므로 날짜를 나눠서 실행함
+        plans(colNm(2), () -> daily.updateField(colNm(2),
+                MelonDTO.builder().singer(SINGER).updateSinger("BTS").build())).forEach(Plan::assertIndexed);
+
+        plans(colNm(3), () -> daily.updateAddField(colNm(3),
+                MelonDTO.builder().singer(SINGER).nickname("닉네임").build())).forEach(Plan::assertIndexed);
+
+        plans(colNm(4), () -> daily.updateAddListField(colNm(4),
+                MelonDTO.builder().singer(SINGER).member(List.of("멤버1")).build())).forEach(Plan::assertIndexed);
+
+        plans(colNm(5), () -> daily.updateFieldAndAddField(colNm(5),
+                MelonDTO.builder().singer(SINGER).updateSinger("BTS").addFieldValue("추가").build()))
+                .forEach(Plan::assertIndexed);
+
+        plans(colNm(6), () -> daily.deleteDocument(colNm(6), singer(SINGER))).forEach(Plan::assertIndexed);
+    }
+
+    @Test
+    void getSingerSongCnt() {
+        String colNm = colNm(1);
+
+        // 정렬은 인덱스 순서로 처리되어야 함(메모리 정렬 없음)
+        for (Plan plan : plans(MelonQueries.SINGER_CNT_COL, () -> daily.getSingerSongCnt(colNm, 10))) {
+            plan.assertCovered();
+            assertFalse(plan.stages().contains("SORT"), plan::toString);
+        }
+    }
+
+    @Test
+    void incSingerCnt() {
+        String colNm = colNm(7);
+
+        // 저장할 때 가수별 노래 수 더하기($inc upsert)는 가수 1명당 인덱스 키 1개만 읽어야 함
+        for (Plan plan : plans(MelonQueries.SINGER_CNT_COL,
+                () -> daily.insertSong(MelonMapperFixture.chart(colNm, 7, CHART_SIZE), colNm))) {
+            plan.assertIndexed();
+            assertTrue(plan.keysExamined() <= 1, plan::toString);
+        }
+    }
+
+    @Test
+    void refreshSingerSongCnt() {
+        String colNm = colNm(8);
+
+        // 차트 읽기(집계, 가수 목록)는 인덱스만으로 처리되어야 함
+        plans(colNm, () -> daily.refreshSingerSongCnt(colNm)).forEach(Plan::assertCovered);
+
+        // 차트에 없는 가수 요약 지우기, 건수 세기
+        plans(MelonQueries.SINGER_CNT_COL, () -> daily.refreshSingerSongCnt(colNm)).forEach(Plan::assertIndexed);
+    }
+
+    @Test
+    void partitionedGetSongList() {
+        String colNm = colNm(1);
+
+        // 날짜 구분 컬렉션은 날짜 조건 + 순위 정렬이 {chartDate, rank} 인덱스로 처리되어야 함
+        for (Plan plan : plans(MelonQueries.CHART_COL, () -> partitioned.getSongList(colNm))) {
+            plan.assertIndexed();
+            assertFalse(plan.stages().contains("SORT"), plan::toString);
+            assertEquals(CHART_SIZE, plan.nReturned(), plan::toString);
+        }
+    }
+
+    @Test
+    void partitionedGetSingerSong() {
+        String colNm = colNm(1);
+
+        plans(MelonQueries.CHART_COL, () -> partitioned.getSingerSong(colNm, singer(SINGER)))
+                .forEach(Plan::assertCovered);
+    }
+
+    @Test
+    void partitionedRefreshSingerSongCnt() {
+        String colNm = colNm(9);
+
+        plans(MelonQueries.CHART_COL, () -> partitioned.refreshSingerSongCnt(colNm)).forEach(Plan::assertCovered);
+    }
+
+    /**
+     * explain 결과에서 검사에 필요한 값만 모은 것
+     *
+     * @param stages       선택된 실행계획의 단계 이름(IXSCAN, FETCH, COLLSCAN, SORT 등)
+     * @param docsExamined 읽은 문서 수
+     * @param keysExamined 읽은 인덱스 키 수
+     * @param nReturned    결과 수
+     * @param explain      explain 원본(실패 메시지 출력용)
+     */
+    private record Plan(Set<String> stages, long docsExamined, long keysExamined, long nReturned, Document explain) {
+
+        static Plan of(Document explain) {
+            Set<String> stages = new HashSet<>();
+            collectStages(findAll(explain, "winningPlan"), stages);
+
+            // 집계는 단계별($cursor 등)로 executionStats가 나뉘어 있을 수 있으므로 모두 더함
+            long docs = 0, keys = 0, returned = -1;
+
+            for (Object v : findAll(explain, "executionStats")) {
+                if (v instanceof Document stats && stats.containsKey("totalDocsExamined")) {
+                    docs += ((Number) stats.get("totalDocsExamined")).longValue();
+                    keys += ((Number) stats.get("totalKeysExamined")).longValue();
+
+                    if (returned < 0) {
+                        returned = ((Number) stats.get("nReturned")).longValue();
+                    }
+                }
+            }
+
+            return new Plan(stages, docs, keys, Math.max(returned, 0), explain);
+        }
+
+        /**
+         * 인덱스를 사용하고, 조건에 맞는 문서만 읽어야 함
+         */
+        void assertIndexed() {
+            assertFalse(stages.contains("COLLSCAN"), () -> "COLLSCAN : " + this);
+            assertTrue(stages.contains("IXSCAN") || stages.contains("COUNT_SCAN")
+                    || stages.contains("DISTINCT_SCAN") || stages.contains("IDHACK"), () -> "no index scan : " + this);
+
+            // 수정/삭제 explain은 nReturned가 0이므로 읽은 인덱스 키 수를 기준으로 함
+            long bound = nReturned > 0 ? nReturned : keysExamined;
+            assertTrue(docsExamined <= bound, () -> "docsExamined : " + this);
+        }
+
+        /**
+         * 인덱스만으로 처리해야 함(문서를 읽지 않음)
+         */
+        void assertCovered() {
+            this.assertIndexed();
+            assertFalse(stages.contains("FETCH"), () -> "FETCH : " + this);
+            assertEquals(0, docsExamined, this::toString);
+        }
+
+        @Override
+        public String toString() {
+            return "stages=" + stages + ", docsExamined=" + docsExamined + ", keysExamined=" + keysExamined
+                    + ", nReturned=" + nReturned + ", explain=" + explain.toJson();
+        }
+
+        private static List<Object> findAll(Object node, String key) {
+            List<Object> found = new ArrayList<>();
+            walk(node, key, found);
+            return found;
+        }
+
+        private static void walk(Object node, String key, List<Object> found) {
+            if (node instanceof Map<?, ?> map) {
+                map.forEach((k, v) -> {
+                    if (key.equals(k)) {
+                        found.add(v);
+
+                    } else {
+                        walk(v, key, found);
+                    }
+                });
+
+            } else if (node instanceof List<?> list) {
+                list.forEach(v -> walk(v, key, found));
+            }
+        }
+
+        private static void collectStages(Object node, Set<String> stages) {
+            if (node instanceof Map<?, ?> map) {
+                map.forEach((k, v) -> {
+                    if ("stage".equals(k) && v instanceof String stage) {
+                        stages.add(stage);
+
+                    } else {
+                        collectStages(v, stages);
+                    }
+                });
+
+            } else if (node instanceof List<?> list) {
+                list.forEach(v -> collectStages(v, stages));
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package kopo.poly.persistance.mongodb;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import kopo.poly.config.MongoConfiguration;
+import kopo.poly.persistance.mongodb.impl.MongoChangeStreamMapper;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MongoChangeStreamMapper의 변경 내역 구독 검사(로컬 mongod 1대로 구성된 복제 세트, Docker)
+ * - 구독할 컬렉션 이름의 변경만 전달되는지
+ * - 날짜 구분 컬렉션의 수정은 차트 날짜가 같이 전달되는지(UPDATE_LOOKUP + 필드 제한)
+ * - 재개 토큰으로 다시 구독하면 처리한 변경 내역 다음부터 전달되는지
+ * <p>
+ * Docker가 없는 환경에서는 실행하지 않음(건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoChangeStreamMapperTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final Pattern COL_PATTERN = Pattern.compile("^(MELON_.*)$");
+
+    private static final Duration MAX_AWAIT = Duration.ofMillis(500);
+
+    private static final String COL_NM = "MELON_20240301";
+
+    private static MongoClient client;
+
+    private static MongoDatabase db;
+
+    private static IMongoChangeStreamMapper mapper;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("melon")))
+                .codecRegistry(MongoConfiguration.DTO_CODEC_REGISTRY)
+                .build());
+
+        db = client.getDatabase("melon");
+
+        mapper = new MongoChangeStreamMapper(new MongoTemplate(client, "melon"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * 다음 변경 내역 가져오기(없으면 maxAwait씩 최대 10번 기다림)
+     */
+    private static ChangeStreamDocument<Document> next(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        for (int i = 0; i < 10; i++) {
+            ChangeStreamDocument<Document> event = cursor.tryNext();
+
+            if (event != null) {
+                return event;
+            }
+        }
+
+        return null;
+    }
+
+    @Test
+    void watchFiltersCollectionsAndResumes() {
+        BsonDocument token;
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor =
+                     mapper.watch(COL_PATTERN, null, 100, MAX_AWAIT)) {
+
+            db.getCollection("MONGODB_TEST").insertOne(new Document("userName", "홍길동"));
+            db.getCollection(COL_NM).insertOne(new Document("song", "노래 1").append("singer", "가수 1"));
+
+            ChangeStreamDocument<Document> event = next(cursor);
+
+            assertNotNull(event);
+            assertEquals(OperationType.INSERT, event.getOperationType());
+            assertEquals(COL_NM, event.getNamespace().getCollectionName());
+
+            // 노래 정보는 전달되지 않음
+            Document doc = event.getFullDocument();
+            assertTrue(doc == null || doc.get("song") == null);
+
+            token = cursor.getResumeToken();
+        }
+
+        db.getCollection(COL_NM).insertOne(new Document("song", "노래 2").append("singer", "가수 2"));
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor =
+                     mapper.watch(COL_PATTERN, token, 100, MAX_AWAIT)) {
+
+            ChangeStreamDocument<Document> event = next(cursor);
+
+            assertNotNull(event);
+            assertEquals(OperationType.INSERT, event.getOperationType());
+            assertEquals("가수 2", db.getCollection(COL_NM)
+                    .find(Filters.eq("_id", event.getDocumentKey().get("_id"))).first().getString("singer"));
+        }
+    }
+
+    @Test
+    void chartUpdateCarriesChartDate() {
+        Date chartDate = MelonQueries.chartDate(COL_NM);
+
+        db.getCollection(MelonQueries.CHART_COL).insertOne(new Document("chartDate", chartDate)
+                .append("rank", 1).append("song", "노래 1").append("singer", "가수 1"));
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor =
+                     mapper.watch(COL_PATTERN, null, 100, MAX_AWAIT)) {
+
+            db.getCollection(MelonQueries.CHART_COL).updateOne(Filters.eq("rank", 1), Updates.set("singer", "가수 9"));
+
+            ChangeStreamDocument<Document> event = next(cursor);
+
+            assertNotNull(event);
+            assertEquals(OperationType.UPDATE, event.getOperationType());
+            assertEquals(COL_NM, MelonQueries.colNm(event.getFullDocument().getDate("chartDate")));
+            assertNull(event.getFullDocument().get("singer"));
+        }
+    }
+}